@@ -0,0 +1,91 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.DistinctInstanceFilter;
+import io.smallrye.openapi.api.util.FilterUtil;
+
+/**
+ * Measures {@link FilterUtil#applyFilter(OASFilter, OpenAPI)} over the model
+ * scanned from each sample application. The filter does not modify the model,
+ * so the same model is reused by every invocation and the result reflects the
+ * cost of the traversal itself.
+ *
+ * With {@code distinctInstances}, the filter is wrapped in a
+ * {@link DistinctInstanceFilter}, and the calls made to the filter and avoided for
+ * shared instances are reported as the {@code invoked} and {@code avoided} secondary
+ * results, along with the number of {@code passes} they were counted over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param
+    SampleApp app;
+
+    @Param({ "false", "true" })
+    boolean distinctInstances;
+
+    OASFilter filter;
+    OpenAPI model;
+
+    /**
+     * The calls counted by the {@link DistinctInstanceFilter} of each pass, summed
+     * over an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FilterCalls {
+        public long invoked;
+        public long avoided;
+        public long passes;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            invoked = 0;
+            avoided = 0;
+            passes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        filter = new OASFilter() {
+        };
+        model = app.scan(app.index());
+    }
+
+    @Benchmark
+    public OpenAPI applyFilter(FilterCalls calls) {
+        if (!distinctInstances) {
+            return FilterUtil.applyFilter(filter, model);
+        }
+
+        DistinctInstanceFilter distinct = new DistinctInstanceFilter(filter);
+        OpenAPI result = FilterUtil.applyFilter(distinct, model);
+        calls.invoked += distinct.getInvoked();
+        calls.avoided += distinct.getAvoided();
+        calls.passes++;
+        return result;
+    }
+}
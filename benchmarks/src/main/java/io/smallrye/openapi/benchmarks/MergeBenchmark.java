@@ -0,0 +1,63 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+/**
+ * Measures {@link MergeUtil#merge(OpenAPI, OpenAPI)} of two complete copies of
+ * the document generated for each sample application, the same as when a static
+ * file is merged with the model scanned from the application's annotations.
+ *
+ * The merge modifies its arguments, so fresh copies are parsed before each
+ * invocation (outside of the measurement).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    @Param
+    SampleApp app;
+
+    byte[] document;
+    OpenAPI staticModel;
+    OpenAPI annotationModel;
+
+    @Setup
+    public void setup() {
+        document = app.document(Format.JSON);
+    }
+
+    @Setup(Level.Invocation)
+    public void parseModels() throws IOException {
+        staticModel = OpenApiParser.parse(new ByteArrayInputStream(document), Format.JSON);
+        annotationModel = OpenApiParser.parse(new ByteArrayInputStream(document), Format.JSON);
+    }
+
+    @Benchmark
+    public OpenAPI merge() {
+        return MergeUtil.merge(staticModel, annotationModel);
+    }
+}
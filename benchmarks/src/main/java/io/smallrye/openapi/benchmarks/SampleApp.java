@@ -0,0 +1,174 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfigImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+
+/**
+ * The sample applications used as input to the benchmarks. The classes of each
+ * application are read from the class path (the MicroProfile OpenAPI TCK and the
+ * test classes of the JAX-RS extension) and indexed once per benchmark trial.
+ */
+public enum SampleApp {
+
+    AIRLINES("org/eclipse/microprofile/openapi/apps/airlines/"),
+    PETSTORE("org/eclipse/microprofile/openapi/apps/petstore/"),
+    JAXRS_RESOURCES("test/io/smallrye/openapi/runtime/scanner/resources/",
+            "test/io/smallrye/openapi/runtime/scanner/entities/");
+
+    private final String[] packagePaths;
+
+    SampleApp(String... packagePaths) {
+        this.packagePaths = packagePaths;
+    }
+
+    /**
+     * @return a configuration with all properties at their default values
+     */
+    public static OpenApiConfig config() {
+        return new OpenApiConfigImpl(new Config() {
+            @Override
+            public <T> T getValue(String propertyName, Class<T> propertyType) {
+                throw new NoSuchElementException(propertyName);
+            }
+
+            @Override
+            public <T> Optional<T> getOptionalValue(String propertyName, Class<T> propertyType) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Iterable<String> getPropertyNames() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Iterable<ConfigSource> getConfigSources() {
+                return Collections.emptyList();
+            }
+        });
+    }
+
+    /**
+     * Index all classes in the application's packages (including sub-packages).
+     *
+     * @return Jandex index of the application
+     */
+    public IndexView index() {
+        Indexer indexer = new Indexer();
+        ClassLoader loader = SampleApp.class.getClassLoader();
+
+        try {
+            for (String packagePath : packagePaths) {
+                for (String resource : classResources(loader, packagePath)) {
+                    try (InputStream stream = loader.getResourceAsStream(resource)) {
+                        indexer.index(stream);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return indexer.complete();
+    }
+
+    /**
+     * Scan the application's annotations.
+     *
+     * @param index the application index, see {@link #index()}
+     * @return the model created from the annotations
+     */
+    public OpenAPI scan(IndexView index) {
+        return new OpenApiAnnotationScanner(config(), index).scan();
+    }
+
+    /**
+     * Scan the application's annotations and serialize the result.
+     *
+     * @param format the format of the document
+     * @return the document generated from the application's annotations, UTF-8 encoded
+     *         unless the format is binary
+     */
+    public byte[] document(Format format) {
+        try {
+            return OpenApiSerializer.serializeToBytes(scan(index()), format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<String> classResources(ClassLoader loader, String packagePath) throws IOException {
+        List<String> resources = new ArrayList<>();
+        Enumeration<URL> locations = loader.getResources(packagePath);
+
+        while (locations.hasMoreElements()) {
+            URL location = locations.nextElement();
+
+            if ("jar".equals(location.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) location.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (name.startsWith(packagePath) && name.endsWith(".class")) {
+                            resources.add(name);
+                        }
+                    }
+                }
+            } else {
+                Path root = toPath(location);
+                try (Stream<Path> files = Files.walk(root)) {
+                    resources.addAll(files.filter(file -> file.toString().endsWith(".class"))
+                            .map(file -> packagePath + root.relativize(file).toString().replace(File.separatorChar, '/'))
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+
+        if (resources.isEmpty()) {
+            throw new IllegalStateException("No classes found on the class path in " + packagePath);
+        }
+
+        Collections.sort(resources);
+        return resources;
+    }
+
+    private static Path toPath(URL location) {
+        try {
+            return Paths.get(location.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
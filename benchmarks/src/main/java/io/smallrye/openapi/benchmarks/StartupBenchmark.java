@@ -0,0 +1,54 @@
+package io.smallrye.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.openapi.runtime.util.JdkIndex;
+
+/**
+ * Measures the one-time cost of initializing the classes of the scanner in a new
+ * JVM, dominated by creating the index of the JDK classes. Each measurement is made
+ * in its own fork, before any warm up.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    /**
+     * Initialization of {@code TypeUtil} and {@code OpenApiDataObjectScanner}, loading
+     * the serialized index of the JDK classes.
+     */
+    @Benchmark
+    public Class<?> classInit() throws ClassNotFoundException {
+        ClassLoader loader = StartupBenchmark.class.getClassLoader();
+        Class.forName("io.smallrye.openapi.runtime.util.TypeUtil", true, loader);
+        return Class.forName("io.smallrye.openapi.runtime.scanner.OpenApiDataObjectScanner", true, loader);
+    }
+
+    /**
+     * Loading the serialized index of the JDK classes.
+     */
+    @Benchmark
+    public IndexView loadJdkIndex() {
+        return JdkIndex.get();
+    }
+
+    /**
+     * Indexing the JDK class files, as done when the serialized index is not available.
+     */
+    @Benchmark
+    public IndexView indexJdkClassFiles() {
+        return JdkIndex.indexClassFiles();
+    }
+}
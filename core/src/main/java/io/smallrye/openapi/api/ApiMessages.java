@@ -4,6 +4,8 @@ import org.jboss.logging.Messages;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 
+import io.smallrye.openapi.runtime.io.Format;
+
 @MessageBundle(projectCode = "SROAP", length = 5)
 interface ApiMessages {
     ApiMessages msg = Messages.getBundle(ApiMessages.class);
@@ -16,4 +18,19 @@ interface ApiMessages {
 
     @Message(id = 2, value = "OpenApiConfig must be set before init")
     IllegalStateException configMustBeSet();
+
+    @Message(id = 3, value = "Static file reload is not enabled for this document")
+    IllegalStateException staticFileReloadNotEnabled();
+
+    @Message(id = 4, value = "Servers reload is not enabled for this document")
+    IllegalStateException serversReloadNotEnabled();
+
+    @Message(id = 5, value = "Invalid compression level %s, expected -1 or a level from 0 to 9")
+    IllegalArgumentException invalidCompressionLevel(int level);
+
+    @Message(id = 6, value = "Server URLs cannot be templated in the binary format %s")
+    IllegalArgumentException binaryServersTemplate(Format format);
+
+    @Message(id = 7, value = "Invalid format %s, expected one of %s")
+    IllegalArgumentException invalidFormat(String format, String formats);
 }
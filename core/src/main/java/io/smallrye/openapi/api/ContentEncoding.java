@@ -0,0 +1,33 @@
+package io.smallrye.openapi.api;
+
+/**
+ * The content codings in which a {@link RenderedDocument} is available, named by the
+ * value of the HTTP {@code Content-Encoding} header of each.
+ */
+public enum ContentEncoding {
+    /**
+     * The serialized document, not compressed
+     */
+    IDENTITY("identity"),
+    /**
+     * The serialized document compressed in the gzip format (RFC 1952)
+     */
+    GZIP("gzip"),
+    /**
+     * The serialized document compressed in the zlib format (RFC 1950)
+     */
+    DEFLATE("deflate");
+
+    private final String value;
+
+    ContentEncoding(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the value of the {@code Content-Encoding} header
+     */
+    public String getValue() {
+        return value;
+    }
+}
@@ -1,9 +1,12 @@
 package io.smallrye.openapi.api;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import io.smallrye.openapi.runtime.io.Format;
+
 /**
  * Accessor to OpenAPI configuration options.
  *
@@ -34,6 +37,22 @@ public interface OpenApiConfig {
 
     public Set<String> operationServers(String operationId);
 
+    /**
+     * @return the servers configured for each path, keyed by path, or null if the
+     *         servers must be looked up with {@link #pathServers(String)}
+     */
+    public default Map<String, Set<String>> getPathServers() {
+        return null;
+    }
+
+    /**
+     * @return the servers configured for each operation, keyed by operation id, or
+     *         null if the servers must be looked up with {@link #operationServers(String)}
+     */
+    public default Map<String, Set<String>> getOperationServers() {
+        return null;
+    }
+
     public boolean scanDependenciesDisable();
 
     public Set<String> scanDependenciesJars();
@@ -45,4 +64,80 @@ public interface OpenApiConfig {
     public boolean applicationPathDisable();
 
     public Map<String, String> getSchemas();
+
+    /**
+     * @return true if schemas generated for terminal types (and the references
+     *         to registered schemas) may share immutable, copy-on-write storage
+     */
+    public default boolean sharedSchemasEnable() {
+        return false;
+    }
+
+    /**
+     * @return true if repeated strings in a document should be replaced by a
+     *         single canonical instance while the document is read or scanned
+     */
+    public default boolean stringPoolEnable() {
+        return false;
+    }
+
+    /**
+     * @return true if the final document should be converted to an immutable
+     *         representation once initialized
+     */
+    public default boolean freezeDocumentEnable() {
+        return false;
+    }
+
+    /**
+     * @return the directory in which the models created by the annotation scanner are
+     *         cached across restarts, or null if the cache is disabled
+     */
+    public default String scanCacheDirectory() {
+        return null;
+    }
+
+    /**
+     * @return true if the filter should be called once for each distinct instance of
+     *         the model, rather than once for each parent of a shared instance
+     */
+    public default boolean filterDistinctInstancesEnable() {
+        return false;
+    }
+
+    /**
+     * @return true if the final document may be rebuilt when the static file changes,
+     *         in which case the other parts of the document are kept once initialized
+     */
+    public default boolean staticFileReloadEnable() {
+        return false;
+    }
+
+    /**
+     * @return true if the servers of the final document may be configured again when
+     *         the config changes, in which case the document without the configured
+     *         servers is kept once initialized
+     */
+    public default boolean serversReloadEnable() {
+        return false;
+    }
+
+    /**
+     * @return the level (0-9, or -1 for the default level) at which the gzip and
+     *         deflate variants of the final document are compressed when it is
+     *         published, or null if the compressed variants are only produced when
+     *         first requested
+     */
+    public default Integer compressionLevel() {
+        return null;
+    }
+
+    /**
+     * @return the formats in which the final document is rendered each time it is
+     *         published, along with the compressed variants if a compression level
+     *         is configured; when empty, the JSON and YAML formats are rendered
+     */
+    public default Set<Format> prerenderFormats() {
+        return Collections.emptySet();
+    }
 }
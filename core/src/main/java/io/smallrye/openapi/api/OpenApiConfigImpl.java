@@ -1,5 +1,9 @@
 package io.smallrye.openapi.api;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +15,7 @@ import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.openapi.OASConfig;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
 
 /**
  * Implementation of the {@link OpenApiConfig} interface that gets config information from a
@@ -30,12 +35,24 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     private Pattern scanExcludePackages;
     private Pattern scanExcludeClasses;
     private Set<String> servers;
+    private Map<String, Set<String>> pathServers;
+    private Map<String, Set<String>> operationServers;
+    private boolean serversEnumerated;
     private Boolean scanDependenciesDisable;
     private Set<String> scanDependenciesJars;
     private Boolean schemaReferencesEnable;
     private String customSchemaRegistryClass;
     private Boolean applicationPathDisable;
     private Map<String, String> schemas;
+    private Boolean sharedSchemasEnable;
+    private Boolean stringPoolEnable;
+    private Boolean freezeDocumentEnable;
+    private String scanCacheDirectory;
+    private Boolean filterDistinctInstancesEnable;
+    private Boolean staticFileReloadEnable;
+    private Boolean serversReloadEnable;
+    private Integer compressionLevel;
+    private Set<Format> prerenderFormats;
 
     /**
      * Constructor.
@@ -222,6 +239,105 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return applicationPathDisable;
     }
 
+    @Override
+    public boolean sharedSchemasEnable() {
+        if (sharedSchemasEnable == null) {
+            sharedSchemasEnable = getConfig().getOptionalValue(OpenApiConstants.SMALLRYE_SHARED_SCHEMAS_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return sharedSchemasEnable;
+    }
+
+    @Override
+    public boolean stringPoolEnable() {
+        if (stringPoolEnable == null) {
+            stringPoolEnable = getConfig().getOptionalValue(OpenApiConstants.SMALLRYE_STRING_POOL_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return stringPoolEnable;
+    }
+
+    @Override
+    public boolean freezeDocumentEnable() {
+        if (freezeDocumentEnable == null) {
+            freezeDocumentEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_FREEZE_DOCUMENT_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return freezeDocumentEnable;
+    }
+
+    @Override
+    public String scanCacheDirectory() {
+        if (scanCacheDirectory == null) {
+            scanCacheDirectory = getStringConfigValue(OpenApiConstants.SMALLRYE_SCAN_CACHE_DIRECTORY);
+        }
+        return scanCacheDirectory;
+    }
+
+    @Override
+    public boolean filterDistinctInstancesEnable() {
+        if (filterDistinctInstancesEnable == null) {
+            filterDistinctInstancesEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_FILTER_DISTINCT_INSTANCES_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return filterDistinctInstancesEnable;
+    }
+
+    @Override
+    public boolean staticFileReloadEnable() {
+        if (staticFileReloadEnable == null) {
+            staticFileReloadEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_STATIC_FILE_RELOAD_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return staticFileReloadEnable;
+    }
+
+    @Override
+    public boolean serversReloadEnable() {
+        if (serversReloadEnable == null) {
+            serversReloadEnable = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_SERVERS_RELOAD_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return serversReloadEnable;
+    }
+
+    @Override
+    public Integer compressionLevel() {
+        if (compressionLevel == null) {
+            compressionLevel = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_COMPRESSION_LEVEL, Integer.class)
+                    .orElse(null);
+        }
+        return compressionLevel;
+    }
+
+    @Override
+    public Set<Format> prerenderFormats() {
+        if (prerenderFormats == null) {
+            Set<Format> formats = EnumSet.noneOf(Format.class);
+            for (String name : asCsvSet(getStringConfigValue(OpenApiConstants.SMALLRYE_PRERENDER_FORMATS))) {
+                if (!name.isEmpty()) {
+                    formats.add(formatOf(name));
+                }
+            }
+            prerenderFormats = Collections.unmodifiableSet(formats);
+        }
+        return prerenderFormats;
+    }
+
+    private static Format formatOf(String name) {
+        for (Format format : Format.values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw ApiMessages.msg.invalidFormat(name, Arrays.toString(Format.values()));
+    }
+
     @Override
     public Map<String, String> getSchemas() {
         if (schemas == null) {
@@ -235,6 +351,79 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return schemas;
     }
 
+    @Override
+    public Map<String, Set<String>> getPathServers() {
+        if (!serversEnumerated) {
+            readPathAndOperationServers();
+        }
+        return pathServers;
+    }
+
+    @Override
+    public Map<String, Set<String>> getOperationServers() {
+        if (!serversEnumerated) {
+            readPathAndOperationServers();
+        }
+        return operationServers;
+    }
+
+    /**
+     * Read the servers of every path and operation in a single pass over the property
+     * names, rather than looking up the properties of each path and operation of the
+     * document.
+     *
+     * The path or operation id of a property set as an environment variable (e.g.
+     * {@code MP_OPENAPI_SERVERS_PATH__FOO}) cannot be told from its name, so if such a
+     * property is found the servers are left null, to be looked up for each path and
+     * operation of the document instead.
+     */
+    private void readPathAndOperationServers() {
+        Map<String, Set<String>> paths = new HashMap<>();
+        Map<String, Set<String>> operations = new HashMap<>();
+        boolean complete = true;
+
+        for (String name : getConfig().getPropertyNames()) {
+            if (name.startsWith(OASConfig.SERVERS_PATH_PREFIX)) {
+                putServers(paths, name.substring(OASConfig.SERVERS_PATH_PREFIX.length()), name);
+            } else if (name.startsWith(OASConfig.SERVERS_OPERATION_PREFIX)) {
+                putServers(operations, name.substring(OASConfig.SERVERS_OPERATION_PREFIX.length()), name);
+            } else if (isEnvironmentName(name, OASConfig.SERVERS_PATH_PREFIX)
+                    || isEnvironmentName(name, OASConfig.SERVERS_OPERATION_PREFIX)) {
+                complete = false;
+            }
+        }
+
+        pathServers = complete ? paths : null;
+        operationServers = complete ? operations : null;
+        serversEnumerated = true;
+    }
+
+    /**
+     * @return true if the name is that of an environment variable setting a property
+     *         with the given prefix, whose other characters than letters and digits
+     *         are replaced by underscores
+     */
+    private static boolean isEnvironmentName(String name, String prefix) {
+        if (name.length() <= prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            char expected = Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_';
+            if (Character.toUpperCase(name.charAt(i)) != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putServers(Map<String, Set<String>> servers, String key, String propertyName) {
+        Set<String> values = asCsvSet(getStringConfigValue(propertyName));
+        if (!values.isEmpty()) {
+            servers.put(key, values);
+        }
+    }
+
     /**
      * getConfig().getOptionalValue(key) can return "" if optional {@link Converter}s are used. Enforce a null value if
      * we get an empty string back.
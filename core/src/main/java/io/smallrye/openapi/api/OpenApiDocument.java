@@ -1,15 +1,29 @@
 package io.smallrye.openapi.api;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.util.CopyOnWriteUtil;
+import io.smallrye.openapi.api.util.DistinctInstanceFilter;
 import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.FreezeUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.api.util.ServersUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 
 /**
  * Holds the final OpenAPI document produced during the startup of the app.
@@ -32,7 +46,12 @@ public class OpenApiDocument {
     private transient OASFilter filter;
     private transient String archiveName;
 
-    private transient OpenAPI model;
+    // Kept after init only if the static file may be reloaded
+    private transient Sources sources;
+    // Kept after init only if the servers may be configured again
+    private transient OpenAPI serversBase;
+
+    private transient volatile RenderedDocument document;
 
     private OpenApiDocument() {
     }
@@ -43,12 +62,22 @@ public class OpenApiDocument {
      * @throws IllegalStateException If the final model is not initialized yet
      */
     public OpenAPI get() {
-        synchronized (INSTANCE) {
-            if (model == null) {
-                throw ApiMessages.msg.modelNotInitialized();
-            }
-            return model;
+        return getRendered().getModel();
+    }
+
+    /**
+     * Readers are never blocked, even while the document is being rebuilt
+     * by {@link #reloadStaticFile(OpenAPI)} or {@link #reconfigureServers(OpenApiConfig)}.
+     *
+     * @return the final OpenAPI document along with its serialized forms
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public RenderedDocument getRendered() {
+        RenderedDocument current = document;
+        if (current == null) {
+            throw ApiMessages.msg.modelNotInitialized();
         }
+        return current;
     }
 
     /**
@@ -58,7 +87,7 @@ public class OpenApiDocument {
      */
     public void set(OpenAPI model) {
         synchronized (INSTANCE) {
-            this.model = model;
+            this.document = model != null ? new RenderedDocument(model) : null;
         }
     }
 
@@ -67,7 +96,9 @@ public class OpenApiDocument {
      */
     public void reset() {
         synchronized (INSTANCE) {
-            model = null;
+            document = null;
+            sources = null;
+            serversBase = null;
             clear();
         }
     }
@@ -76,9 +107,7 @@ public class OpenApiDocument {
      * @return {@code true} if model initialized
      */
     public boolean isSet() {
-        synchronized (INSTANCE) {
-            return model != null;
-        }
+        return document != null;
     }
 
     public synchronized void config(OpenApiConfig config) {
@@ -107,7 +136,7 @@ public class OpenApiDocument {
 
     public void initialize() {
         synchronized (INSTANCE) {
-            if (model != null) {
+            if (document != null) {
                 modelAlreadyInitialized();
             }
             // Check all the required parts are set
@@ -115,62 +144,229 @@ public class OpenApiDocument {
                 throw ApiMessages.msg.configMustBeSet();
             }
 
-            // Phase 1: Use OASModelReader
-            OpenAPI merged = readerModel;
-
-            // Phase 2: Merge any static OpenAPI file packaged in the app
-            merged = MergeUtil.mergeObjects(merged, staticFileModel);
-
-            // Phase 3: Merge annotations
-            merged = MergeUtil.mergeObjects(merged, annotationsModel);
+            // The merge and the filter modify the models, keep a copy of the parts to merge again
+            if (config.staticFileReloadEnable()) {
+                sources = new Sources(config, readerModel, annotationsModel, filter, archiveName);
+            }
 
-            // Phase 4: Filter model via OASFilter
-            merged = filterModel(merged);
+            Built built = build(config, filter, archiveName, readerModel, staticFileModel, annotationsModel);
+            serversBase = built.serversBase;
+            document = render(config, built.model, null);
+            clear();
+        }
+    }
 
-            // Phase 5: Default empty document if model == null
-            if (merged == null) {
-                merged = new OpenAPIImpl();
-                merged.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+    /**
+     * Rebuild the final document after a change of the static file, merging the new
+     * static model with the reader and annotations models kept when the document was
+     * initialized, and filtering the result again. The new document is rendered
+     * before it replaces the current one, so readers are never blocked and always see
+     * either the previous or the new document.
+     *
+     * @param staticFileModel the model parsed from the changed static file, may be null
+     * @return the new document
+     * @throws IllegalStateException If the document was not initialized with the static file reload enabled
+     */
+    public RenderedDocument reloadStaticFile(OpenAPI staticFileModel) {
+        synchronized (INSTANCE) {
+            if (sources == null) {
+                throw ApiMessages.msg.staticFileReloadNotEnabled();
             }
+            Built built = build(sources.config, sources.filter, sources.archiveName, sources.readerModel(),
+                    staticFileModel, sources.annotationsModel());
+            serversBase = built.serversBase;
+            RenderedDocument next = render(sources.config, built.model, document);
+            document = next;
+            return next;
+        }
+    }
 
-            // Phase 6: Provide missing required elements
-            if (merged.getPaths() == null) {
-                merged.setPaths(new PathsImpl());
-            }
-            if (merged.getInfo() == null) {
-                merged.setInfo(new InfoImpl());
+    /**
+     * Configure the global, path and operation servers of the final document again,
+     * after a change of the config. The new document is derived from the document
+     * as it was before its servers were configured: the path items and operations
+     * with servers in the config are copied, and every other part of the document is
+     * shared with the current one. Nothing is scanned, merged or filtered again. The
+     * new document is rendered before it replaces the current one, so readers are
+     * never blocked.
+     *
+     * @param config the changed config, also used by later reloads of the static file
+     * @return the new document
+     * @throws IllegalStateException If the document was not initialized with the servers reload enabled
+     */
+    public RenderedDocument reconfigureServers(OpenApiConfig config) {
+        synchronized (INSTANCE) {
+            if (serversBase == null) {
+                throw ApiMessages.msg.serversReloadNotEnabled();
             }
-            if (merged.getInfo().getTitle() == null) {
-                merged.getInfo().setTitle((archiveName == null ? "Generated" : archiveName) + " API");
+            OpenAPI model = configureServers(config, serversBase);
+            if (config.freezeDocumentEnable()) {
+                model = FreezeUtil.freeze(model);
             }
-            if (merged.getInfo().getVersion() == null) {
-                merged.getInfo().setVersion("1.0");
+            if (sources != null) {
+                sources.config = config;
             }
+            RenderedDocument next = render(config, model, document);
+            document = next;
+            return next;
+        }
+    }
+
+    /**
+     * Merge, filter and complete the parts of the document, in phases reported to the
+     * instrumentation listeners.
+     *
+     * @return the final model, along with the model without the configured servers if
+     *         the servers may be configured again
+     */
+    private static Built build(OpenApiConfig config, OASFilter filter, String archiveName, OpenAPI readerModel,
+            OpenAPI staticFileModel, OpenAPI annotationsModel) {
+        // Phase 1: Use OASModelReader
+        long start = ScanInstrumentation.start(ScanPhase.INITIALIZE, 1);
+        OpenAPI merged = readerModel;
+
+        // Phase 2: Merge any static OpenAPI file packaged in the app
+        start = nextPhase(1, merged, start);
+        merged = MergeUtil.mergeObjects(merged, staticFileModel);
+
+        // Phase 3: Merge annotations
+        start = nextPhase(2, merged, start);
+        merged = MergeUtil.mergeObjects(merged, annotationsModel);
+
+        // Phase 4: Filter model via OASFilter
+        start = nextPhase(3, merged, start);
+        merged = filterModel(config, filter, merged);
 
-            // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        // Phase 5: Default empty document if model == null
+        start = nextPhase(4, merged, start);
+        if (merged == null) {
+            merged = new OpenAPIImpl();
+            merged.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+        }
+
+        // Phase 6: Provide missing required elements
+        start = nextPhase(5, merged, start);
+        if (merged.getPaths() == null) {
+            merged.setPaths(new PathsImpl());
+        }
+        if (merged.getInfo() == null) {
+            merged.setInfo(new InfoImpl());
+        }
+        if (merged.getInfo().getTitle() == null) {
+            merged.getInfo().setTitle((archiveName == null ? "Generated" : archiveName) + " API");
+        }
+        if (merged.getInfo().getVersion() == null) {
+            merged.getInfo().setVersion("1.0");
+        }
+
+        // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        start = nextPhase(6, merged, start);
+        OpenAPI serversBase = null;
+        if (config.serversReloadEnable()) {
+            // Keep the model without the configured servers, to configure them again
+            serversBase = merged;
+            merged = configureServers(config, merged);
+        } else {
             ServersUtil.configureServers(config, merged);
+        }
+        ScanInstrumentation.end(ScanPhase.INITIALIZE, 7, merged, start);
 
-            model = merged;
-            clear();
+        // Phase 8: Optionally convert the final model to an immutable representation
+        if (config.freezeDocumentEnable()) {
+            merged = FreezeUtil.freeze(merged);
+        }
+
+        return new Built(merged, serversBase);
+    }
+
+    /**
+     * The result of {@link OpenApiDocument#build}.
+     */
+    private static final class Built {
+        final OpenAPI model;
+        final OpenAPI serversBase;
+
+        Built(OpenAPI model, OpenAPI serversBase) {
+            this.model = model;
+            this.serversBase = serversBase;
+        }
+    }
+
+    /**
+     * Render the document of the final model before it is published. The formats
+     * rendered are those of {@link OpenApiConfig#prerenderFormats()} (by default JSON
+     * and YAML), along with the formats already requested from the document it
+     * replaces, so that no request renders the document once it is published.
+     *
+     * @param config
+     * @param model the final model
+     * @param previous the document replaced, or null
+     * @return the document of the model, with the compressed variants if a compression
+     *         level is configured
+     */
+    private static RenderedDocument render(OpenApiConfig config, OpenAPI model, RenderedDocument previous) {
+        Integer compressionLevel = config.compressionLevel();
+        RenderedDocument next = compressionLevel != null ? new RenderedDocument(model, compressionLevel)
+                : new RenderedDocument(model);
+
+        Set<Format> formats = EnumSet.noneOf(Format.class);
+        formats.addAll(config.prerenderFormats());
+        if (formats.isEmpty()) {
+            formats.add(Format.JSON);
+            formats.add(Format.YAML);
         }
+        if (previous != null) {
+            formats.addAll(previous.getRenderedFormats());
+        }
+
+        return next.prerender(formats);
+    }
+
+    /**
+     * Configure the servers of a copy of the model, leaving the model unchanged.
+     */
+    private static OpenAPI configureServers(OpenApiConfig config, OpenAPI base) {
+        return CopyOnWriteUtil.update(base, model -> ServersUtil.configureServers(config, model));
     }
 
     /**
      * Filter the final model using a {@link OASFilter} configured by the app. If no filter has been configured, this will
      * simply return the model unchanged.
      *
+     * @param config
+     * @param filter
      * @param model
      */
-    private OpenAPI filterModel(OpenAPI model) {
+    private static OpenAPI filterModel(OpenApiConfig config, OASFilter filter, OpenAPI model) {
         if (model == null || filter == null) {
             return model;
         }
+        if (config.filterDistinctInstancesEnable()) {
+            return FilterUtil.applyFilter(new DistinctInstanceFilter(filter), model);
+        }
         return FilterUtil.applyFilter(filter, model);
     }
 
+    /**
+     * Notify the instrumentation listeners that a phase of {@link #initialize()} has completed
+     * and the next one started.
+     *
+     * @param completed the number of the completed phase
+     * @param model the model after the completed phase
+     * @param start the start time of the completed phase
+     * @return the start time of the next phase
+     */
+    private static long nextPhase(int completed, OpenAPI model, long start) {
+        if (start == 0L) {
+            return 0L;
+        }
+        ScanInstrumentation.end(ScanPhase.INITIALIZE, completed, model, start);
+        return ScanInstrumentation.start(ScanPhase.INITIALIZE, completed + 1);
+    }
+
     private void set(Runnable action) {
         synchronized (INSTANCE) {
-            if (model != null) {
+            if (document != null) {
                 modelAlreadyInitialized();
             }
             action.run();
@@ -190,4 +386,47 @@ public class OpenApiDocument {
         archiveName = null;
     }
 
+    /**
+     * The parts of the document kept to rebuild it when the static file changes. The
+     * reader and annotations models are kept in their JSON form, and a new copy of
+     * each is read for every rebuild.
+     */
+    private static final class Sources {
+        OpenApiConfig config;
+        final ObjectNode readerModel;
+        final ObjectNode annotationsModel;
+        final OASFilter filter;
+        final String archiveName;
+
+        Sources(OpenApiConfig config, OpenAPI readerModel, OpenAPI annotationsModel, OASFilter filter,
+                String archiveName) {
+            this.config = config;
+            this.readerModel = toTree(readerModel);
+            this.annotationsModel = toTree(annotationsModel);
+            this.filter = filter;
+            this.archiveName = archiveName;
+        }
+
+        OpenAPI readerModel() {
+            return fromTree(readerModel);
+        }
+
+        OpenAPI annotationsModel() {
+            return fromTree(annotationsModel);
+        }
+
+        private static ObjectNode toTree(OpenAPI model) {
+            if (model == null) {
+                return null;
+            }
+            ObjectNode tree = JsonUtil.objectNode();
+            DefinitionWriter.writeOpenAPI(tree, model);
+            return tree;
+        }
+
+        private OpenAPI fromTree(ObjectNode tree) {
+            return tree != null ? OpenApiParser.parse(tree, config) : null;
+        }
+    }
+
 }
@@ -0,0 +1,294 @@
+package io.smallrye.openapi.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * A published OpenAPI document: the final model along with its serialized form in
+ * each {@link Format}, and the compressed variants of each in every
+ * {@link ContentEncoding}.
+ *
+ * The bytes of a variant are rendered once, either by {@link #prerender(Collection)}
+ * before the document is published, or by the first reader asking for them. Readers
+ * never wait for each other: if two threads render the same variant at once, the
+ * first result stored is kept and returned to both. The compressed variants are
+ * included by {@link #prerender(Collection)} only if the document was created with a
+ * compression level.
+ *
+ * The document may also be rendered with slots in place of the server URLs, see
+ * {@link #getServersTemplate(Format)}.
+ *
+ * Each variant has its own strong entity tag, derived from the serialized document,
+ * so that an HTTP layer can answer conditional requests without comparing the bytes.
+ *
+ * The model must not be modified once the document is created, since its rendered
+ * bytes would no longer match it.
+ */
+public final class RenderedDocument {
+
+    private static final Format[] FORMATS = Format.values();
+    private static final ContentEncoding[] ENCODINGS = ContentEncoding.values();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int ETAG_BYTES = 16;
+
+    private final OpenAPI model;
+    private final int compressionLevel;
+    private final boolean precompressed;
+    private final AtomicReferenceArray<Variant> rendered = new AtomicReferenceArray<>(
+            FORMATS.length * ENCODINGS.length);
+    private final AtomicReferenceArray<ServersTemplate> templates = new AtomicReferenceArray<>(FORMATS.length);
+
+    /**
+     * Create a document whose compressed variants are only produced when first
+     * requested, at the default compression level.
+     *
+     * @param model the final model
+     */
+    public RenderedDocument(OpenAPI model) {
+        this.model = model;
+        this.compressionLevel = Deflater.DEFAULT_COMPRESSION;
+        this.precompressed = false;
+    }
+
+    /**
+     * Create a document whose compressed variants are produced by
+     * {@link #prerender(Collection)} along with the uncompressed bytes.
+     *
+     * @param model the final model
+     * @param compressionLevel the compression level, from 0 to 9, or -1 for the default level
+     * @throws IllegalArgumentException if the level is invalid
+     */
+    public RenderedDocument(OpenAPI model, int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw ApiMessages.msg.invalidCompressionLevel(compressionLevel);
+        }
+        this.model = model;
+        this.compressionLevel = compressionLevel;
+        this.precompressed = true;
+    }
+
+    /**
+     * @return the final model
+     */
+    public OpenAPI getModel() {
+        return model;
+    }
+
+    /**
+     * Render the document in every format now, see {@link #prerender(Collection)}.
+     *
+     * @return this document
+     */
+    public RenderedDocument prerender() {
+        return prerender(Arrays.asList(FORMATS));
+    }
+
+    /**
+     * Render the document in the given formats now, and in every encoding if the
+     * document was created with a compression level, so that readers are given the
+     * bytes without serializing or compressing the model.
+     *
+     * @param formats the formats to render
+     * @return this document
+     */
+    public RenderedDocument prerender(Collection<Format> formats) {
+        for (Format format : formats) {
+            if (precompressed) {
+                for (ContentEncoding encoding : ENCODINGS) {
+                    variant(format, encoding);
+                }
+            } else {
+                variant(format, ContentEncoding.IDENTITY);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the formats in which the document has been rendered so far, either
+     *         requested by a reader or prerendered
+     */
+    public Set<Format> getRenderedFormats() {
+        Set<Format> formats = EnumSet.noneOf(Format.class);
+        for (Format format : FORMATS) {
+            if (rendered.get(format.ordinal() * ENCODINGS.length + ContentEncoding.IDENTITY.ordinal()) != null) {
+                formats.add(format);
+            }
+        }
+        return formats;
+    }
+
+    /**
+     * @param format the serialization format
+     * @return the serialized document (UTF-8 encoded for a text format), shared
+     *         by all readers; the array must not be modified
+     * @throws UncheckedIOException if the model cannot be serialized
+     */
+    public byte[] getBytes(Format format) {
+        return getBytes(format, ContentEncoding.IDENTITY);
+    }
+
+    /**
+     * @param format the serialization format
+     * @param encoding the content encoding
+     * @return the serialized document compressed in the given encoding, shared by
+     *         all readers; the array must not be modified
+     * @throws UncheckedIOException if the model cannot be serialized
+     */
+    public byte[] getBytes(Format format, ContentEncoding encoding) {
+        return variant(format, encoding).bytes;
+    }
+
+    /**
+     * @param format the serialization format
+     * @param encoding the content encoding
+     * @return the quoted strong entity tag of the variant, suitable as the value of the
+     *         HTTP {@code ETag} header
+     * @throws UncheckedIOException if the model cannot be serialized
+     */
+    public String getETag(Format format, ContentEncoding encoding) {
+        return variant(format, encoding).etag;
+    }
+
+    /**
+     * @param format the serialization format, must be a text format
+     * @return the document rendered with slots in place of the server URLs, rendered
+     *         once and shared by all readers
+     * @throws IllegalArgumentException if the format is binary
+     * @throws UncheckedIOException if the model cannot be serialized
+     */
+    public ServersTemplate getServersTemplate(Format format) {
+        int index = format.ordinal();
+        ServersTemplate template = templates.get(index);
+
+        if (template == null) {
+            try {
+                template = ServersTemplate.of(model, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!templates.compareAndSet(index, null, template)) {
+                template = templates.get(index);
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Write the document in the given format.
+     *
+     * @param format the serialization format
+     * @param out the stream to write to
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(Format format, OutputStream out) throws IOException {
+        out.write(getBytes(format));
+    }
+
+    /**
+     * Write the document in the given format, compressed in the given encoding.
+     *
+     * @param format the serialization format
+     * @param encoding the content encoding
+     * @param out the stream to write to
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(Format format, ContentEncoding encoding, OutputStream out) throws IOException {
+        out.write(getBytes(format, encoding));
+    }
+
+    private Variant variant(Format format, ContentEncoding encoding) {
+        int index = format.ordinal() * ENCODINGS.length + encoding.ordinal();
+        Variant variant = rendered.get(index);
+
+        if (variant == null) {
+            try {
+                variant = render(format, encoding);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!rendered.compareAndSet(index, null, variant)) {
+                variant = rendered.get(index);
+            }
+        }
+
+        return variant;
+    }
+
+    private Variant render(Format format, ContentEncoding encoding) throws IOException {
+        if (encoding == ContentEncoding.IDENTITY) {
+            byte[] bytes = OpenApiSerializer.serializeToBytes(model, format);
+            return new Variant(bytes, '"' + digest(bytes) + '"');
+        }
+
+        Variant identity = variant(format, ContentEncoding.IDENTITY);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.bytes.length / 4 + 64);
+
+        if (encoding == ContentEncoding.GZIP) {
+            try (OutputStream out = new LevelGZIPOutputStream(compressed, compressionLevel)) {
+                out.write(identity.bytes);
+            }
+        } else {
+            Deflater deflater = new Deflater(compressionLevel);
+            try (OutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+                out.write(identity.bytes);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        // The tag of the uncompressed bytes, told apart by the encoding
+        String etag = identity.etag.substring(0, identity.etag.length() - 1) + '-' + encoding.getValue() + '"';
+        return new Variant(compressed.toByteArray(), etag);
+    }
+
+    private static String digest(byte[] bytes) {
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        char[] hex = new char[ETAG_BYTES * 2];
+        for (int i = 0; i < ETAG_BYTES; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static final class Variant {
+        final byte[] bytes;
+        final String etag;
+
+        Variant(byte[] bytes, String etag) {
+            this.bytes = bytes;
+            this.etag = etag;
+        }
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+        LevelGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
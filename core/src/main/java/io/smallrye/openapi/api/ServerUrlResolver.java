@@ -0,0 +1,122 @@
+package io.smallrye.openapi.api;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resolves the server URLs of a document for the request it is served to, for use
+ * with a {@link ServersTemplate}. A relative server URL (starting with {@code /}) is
+ * made absolute using the origin of the request: by default, the scheme of the
+ * request and its {@code Host} header. Absolute server URLs are kept.
+ *
+ * If forwarded headers are trusted, the origin is the one seen by the client: the
+ * scheme, host and port are taken from the {@code X-Forwarded-Proto},
+ * {@code X-Forwarded-Host} and {@code X-Forwarded-Port} headers if present, and the
+ * path is prefixed by the {@code X-Forwarded-Prefix} header. They must only be
+ * trusted if the application is reached only through a proxy setting them, as they
+ * are otherwise set by the client.
+ */
+public final class ServerUrlResolver implements UnaryOperator<String> {
+
+    public static final String HOST = "Host";
+    public static final String X_FORWARDED_PROTO = "X-Forwarded-Proto";
+    public static final String X_FORWARDED_HOST = "X-Forwarded-Host";
+    public static final String X_FORWARDED_PORT = "X-Forwarded-Port";
+    public static final String X_FORWARDED_PREFIX = "X-Forwarded-Prefix";
+
+    private final String origin;
+    private final String prefix;
+
+    private ServerUrlResolver(String origin, String prefix) {
+        this.origin = origin;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @param scheme the scheme of the request, {@code http} or {@code https}
+     * @param headers the value of a header of the request by name, or null if the
+     *        request does not have the header
+     * @return the resolver of the server URLs for the request, using its
+     *         {@code Host} header and ignoring forwarded headers
+     */
+    public static ServerUrlResolver fromHeaders(String scheme, Function<String, String> headers) {
+        return fromHeaders(scheme, headers, false);
+    }
+
+    /**
+     * @param scheme the scheme of the request, {@code http} or {@code https}
+     * @param headers the value of a header of the request by name, or null if the
+     *        request does not have the header
+     * @param trustForwarded whether the {@code X-Forwarded-*} headers set by a proxy
+     *        are used; a forwarded protocol other than {@code http} or {@code https}
+     *        is ignored
+     * @return the resolver of the server URLs for the request
+     */
+    public static ServerUrlResolver fromHeaders(String scheme, Function<String, String> headers,
+            boolean trustForwarded) {
+        String forwardedHost = trustForwarded ? first(headers.apply(X_FORWARDED_HOST)) : null;
+        String host = forwardedHost != null ? forwardedHost : first(headers.apply(HOST));
+        String forwardedProto = trustForwarded ? protocol(first(headers.apply(X_FORWARDED_PROTO))) : null;
+        String prefix = trustForwarded ? first(headers.apply(X_FORWARDED_PREFIX)) : null;
+
+        if (host == null) {
+            return new ServerUrlResolver(null, null);
+        }
+        if (forwardedHost != null && host.indexOf(':', host.lastIndexOf(']') + 1) < 0) {
+            String port = first(headers.apply(X_FORWARDED_PORT));
+            if (port != null) {
+                host = host + ':' + port;
+            }
+        }
+        if (prefix != null) {
+            prefix = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+            prefix = prefix.startsWith("/") || prefix.isEmpty() ? prefix : '/' + prefix;
+        }
+        return new ServerUrlResolver((forwardedProto != null ? forwardedProto : scheme) + "://" + host, prefix);
+    }
+
+    /**
+     * @param url a server URL of the document
+     * @return the URL to output for the request
+     */
+    @Override
+    public String apply(String url) {
+        if (origin == null || !url.startsWith("/")) {
+            return url;
+        }
+        StringBuilder resolved = new StringBuilder(origin);
+        if (prefix != null) {
+            resolved.append(prefix);
+        }
+        if (prefix == null || prefix.isEmpty() || !url.equals("/")) {
+            resolved.append(url);
+        }
+        return resolved.toString();
+    }
+
+    /**
+     * @return the protocol in lower case if it is {@code http} or {@code https},
+     *         otherwise null
+     */
+    private static String protocol(String value) {
+        if ("http".equalsIgnoreCase(value)) {
+            return "http";
+        }
+        if ("https".equalsIgnoreCase(value)) {
+            return "https";
+        }
+        return null;
+    }
+
+    /**
+     * @return the first of the comma separated values of a header added by each proxy
+     */
+    private static String first(String value) {
+        if (value == null) {
+            return null;
+        }
+        int comma = value.indexOf(',');
+        String first = (comma < 0 ? value : value.substring(0, comma)).trim();
+        return first.isEmpty() ? null : first;
+    }
+}
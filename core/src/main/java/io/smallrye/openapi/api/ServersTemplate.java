@@ -0,0 +1,237 @@
+package io.smallrye.openapi.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+
+import io.smallrye.openapi.api.util.CopyOnWriteUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * A document rendered once with a slot in place of the URL of each server (global,
+ * path, operation and link servers), so that the server URLs can be resolved for
+ * each request (see {@link ServerUrlResolver}) without filtering or serializing the
+ * model again.
+ *
+ * The rendered document is kept as the fragments of bytes around the slots. The
+ * output for a request is the fragments with the resolved URLs, encoded for the
+ * format, spliced in between. The model is not modified. Only text formats can be
+ * templated, since the strings of a binary format are prefixed by their length.
+ */
+public final class ServersTemplate {
+
+    private static final Pattern YAML_PLAIN_URL = Pattern
+            .compile("([A-Za-z][A-Za-z0-9+.\\-]*:|/)[A-Za-z0-9/._~%+\\-?=&@;:$!*,()]*");
+
+    private final Format format;
+    private final List<String> urls;
+    private final byte[][] fragments;
+    private final int[] slots;
+
+    private ServersTemplate(Format format, List<String> urls, byte[][] fragments, int[] slots) {
+        this.format = format;
+        this.urls = urls;
+        this.fragments = fragments;
+        this.slots = slots;
+    }
+
+    /**
+     * Render the model with a slot in place of each server URL.
+     *
+     * @param model the final model, not modified
+     * @param format the serialization format, must be a text format
+     * @return the template
+     * @throws IllegalArgumentException if the format is binary
+     * @throws IOException Errors serializing the model
+     */
+    public static ServersTemplate of(OpenAPI model, Format format) throws IOException {
+        if (format.isBinary()) {
+            throw ApiMessages.msg.binaryServersTemplate(format);
+        }
+
+        // A placeholder which cannot be part of the document, and is not escaped or quoted
+        String prefix = "smallrye-server-" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + '-';
+        List<String> urls = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+
+        OpenAPI slotted = CopyOnWriteUtil.applyFilter(new OASFilter() {
+            @Override
+            public Server filterServer(Server server) {
+                String url = server.getUrl();
+                // A server shared by several parents is visited more than once
+                if (url != null && !url.startsWith(prefix)) {
+                    Integer index = indexes.computeIfAbsent(url, u -> {
+                        urls.add(u);
+                        return urls.size() - 1;
+                    });
+                    server.setUrl(prefix + index);
+                }
+                return server;
+            }
+        }, model);
+
+        byte[] bytes = OpenApiSerializer.serializeToBytes(slotted, format);
+        byte[] placeholder = prefix.getBytes(StandardCharsets.US_ASCII);
+        List<byte[]> fragments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+
+        for (int i = indexOf(bytes, placeholder, 0); i >= 0; i = indexOf(bytes, placeholder, start)) {
+            fragments.add(copy(bytes, start, i));
+            int index = 0;
+            for (start = i + placeholder.length; start < bytes.length && isDigit(bytes[start]); start++) {
+                index = index * 10 + (bytes[start] - '0');
+            }
+            slots.add(index);
+        }
+        fragments.add(copy(bytes, start, bytes.length));
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new ServersTemplate(format, Collections.unmodifiableList(urls), fragments.toArray(new byte[0][]),
+                slotArray);
+    }
+
+    /**
+     * @return the format of the rendered document
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the distinct server URLs of the model
+     */
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * Splice the resolved server URLs into the rendered document.
+     *
+     * @param resolver resolves each server URL of the model to the URL to output, it is
+     *        called once for each distinct URL; a null result keeps the URL of the model
+     * @return the document, UTF-8 encoded
+     */
+    public byte[] render(UnaryOperator<String> resolver) {
+        byte[][] values = resolve(resolver);
+        int size = 0;
+        for (byte[] fragment : fragments) {
+            size += fragment.length;
+        }
+        for (int slot : slots) {
+            size += values[slot].length;
+        }
+
+        byte[] result = new byte[size];
+        int offset = 0;
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                byte[] value = values[slots[i - 1]];
+                System.arraycopy(value, 0, result, offset, value.length);
+                offset += value.length;
+            }
+            System.arraycopy(fragments[i], 0, result, offset, fragments[i].length);
+            offset += fragments[i].length;
+        }
+        return result;
+    }
+
+    /**
+     * Write the document with the resolved server URLs spliced in.
+     *
+     * @param resolver resolves each server URL, see {@link #render(UnaryOperator)}
+     * @param out the stream to write to
+     * @throws IOException Errors writing to the stream
+     */
+    public void writeTo(UnaryOperator<String> resolver, OutputStream out) throws IOException {
+        byte[][] values = resolve(resolver);
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                out.write(values[slots[i - 1]]);
+            }
+            out.write(fragments[i]);
+        }
+    }
+
+    private byte[][] resolve(UnaryOperator<String> resolver) {
+        byte[][] values = new byte[urls.size()][];
+        for (int i = 0; i < values.length; i++) {
+            String url = resolver.apply(urls.get(i));
+            values[i] = encode(url != null ? url : urls.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * The slot of a JSON document is within quotes, the slot of a YAML document is a
+     * plain scalar, quoted here if the URL cannot be written as one.
+     */
+    private byte[] encode(String url) {
+        if (format == Format.YAML && YAML_PLAIN_URL.matcher(url).matches()) {
+            return url.getBytes(StandardCharsets.UTF_8);
+        }
+
+        StringBuilder escaped = new StringBuilder(url.length() + 8);
+        if (format == Format.YAML) {
+            escaped.append('"');
+        }
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        if (format == Format.YAML) {
+            escaped.append('"');
+        }
+        return escaped.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static byte[] copy(byte[] bytes, int from, int to) {
+        byte[] copy = new byte[to - from];
+        System.arraycopy(bytes, from, copy, 0, copy.length);
+        return copy;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target, int from) {
+        int last = bytes.length - target.length;
+        byte first = target[0];
+
+        for (int i = from; i <= last; i++) {
+            if (bytes[i] == first) {
+                int j = 1;
+                while (j < target.length && bytes[i + j] == target[j]) {
+                    j++;
+                }
+                if (j == target.length) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -21,6 +21,15 @@ public final class OpenApiConstants {
     public static final String SUFFIX_SCHEMA_REFERENCES_ENABLE = "schema-references.enable";
     public static final String SUFFIX_CUSTOM_SCHEMA_REGISTRY_CLASS = "custom-schema-registry.class";
     public static final String SUFFIX_APP_PATH_DISABLE = "application-path.disable";
+    public static final String SUFFIX_SHARED_SCHEMAS_ENABLE = "shared-schemas.enable";
+    public static final String SUFFIX_STRING_POOL_ENABLE = "string-pool.enable";
+    public static final String SUFFIX_FREEZE_DOCUMENT_ENABLE = "freeze-document.enable";
+    public static final String SUFFIX_SCAN_CACHE_DIRECTORY = "scan-cache.directory";
+    public static final String SUFFIX_FILTER_DISTINCT_INSTANCES_ENABLE = "filter-distinct-instances.enable";
+    public static final String SUFFIX_STATIC_FILE_RELOAD_ENABLE = "static-file-reload.enable";
+    public static final String SUFFIX_SERVERS_RELOAD_ENABLE = "servers-reload.enable";
+    public static final String SUFFIX_COMPRESSION_LEVEL = "compression.level";
+    public static final String SUFFIX_PRERENDER_FORMATS = "prerender.formats";
 
     public static final String SCAN_DEPENDENCIES_DISABLE = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
     public static final String SCAN_DEPENDENCIES_JARS = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_JARS;
@@ -37,6 +46,24 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_CUSTOM_SCHEMA_REGISTRY_CLASS = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
             + SUFFIX_CUSTOM_SCHEMA_REGISTRY_CLASS;
     public static final String SMALLRYE_APP_PATH_DISABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + SUFFIX_APP_PATH_DISABLE;
+    public static final String SMALLRYE_SHARED_SCHEMAS_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_SHARED_SCHEMAS_ENABLE;
+    public static final String SMALLRYE_STRING_POOL_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_STRING_POOL_ENABLE;
+    public static final String SMALLRYE_FREEZE_DOCUMENT_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_FREEZE_DOCUMENT_ENABLE;
+    public static final String SMALLRYE_SCAN_CACHE_DIRECTORY = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_SCAN_CACHE_DIRECTORY;
+    public static final String SMALLRYE_FILTER_DISTINCT_INSTANCES_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_FILTER_DISTINCT_INSTANCES_ENABLE;
+    public static final String SMALLRYE_STATIC_FILE_RELOAD_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_STATIC_FILE_RELOAD_ENABLE;
+    public static final String SMALLRYE_SERVERS_RELOAD_ENABLE = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_SERVERS_RELOAD_ENABLE;
+    public static final String SMALLRYE_COMPRESSION_LEVEL = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_COMPRESSION_LEVEL;
+    public static final String SMALLRYE_PRERENDER_FORMATS = OASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + SUFFIX_PRERENDER_FORMATS;
 
     /**
      * Set of classes which should never be scanned, regardless of user configuration.
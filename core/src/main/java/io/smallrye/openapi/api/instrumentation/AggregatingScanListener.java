@@ -0,0 +1,82 @@
+package io.smallrye.openapi.api.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ScanListener} that aggregates the number of times each phase was
+ * executed, the total and maximum duration of each phase, and the number of
+ * schema registry hits and misses. Use {@link #getReport()} to obtain a snapshot
+ * of the aggregated values.
+ *
+ * <pre>
+ * AggregatingScanListener listener = new AggregatingScanListener();
+ * ScanInstrumentation.register(listener);
+ * try {
+ *     // scan, filter, serialize...
+ * } finally {
+ *     ScanInstrumentation.unregister(listener);
+ * }
+ * log.info(listener.getReport());
+ * </pre>
+ */
+public class AggregatingScanListener implements ScanListener {
+
+    private static final int PHASES = ScanPhase.values().length;
+
+    private final LongAdder[] counts = new LongAdder[PHASES];
+    private final LongAdder[] totals = new LongAdder[PHASES];
+    private final AtomicLongArray maximums = new AtomicLongArray(PHASES);
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder registryMisses = new LongAdder();
+
+    public AggregatingScanListener() {
+        for (int i = 0; i < PHASES; i++) {
+            counts[i] = new LongAdder();
+            totals[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void phaseCompleted(ScanPhase phase, Object subject, long durationNanos) {
+        int i = phase.ordinal();
+        counts[i].increment();
+        totals[i].add(durationNanos);
+        maximums.accumulateAndGet(i, durationNanos, Math::max);
+    }
+
+    @Override
+    public void registryLookup(Object type, boolean hit) {
+        (hit ? registryHits : registryMisses).increment();
+    }
+
+    /**
+     * @return a snapshot of the values aggregated so far
+     */
+    public ScanReport getReport() {
+        long[] countValues = new long[PHASES];
+        long[] totalValues = new long[PHASES];
+        long[] maximumValues = new long[PHASES];
+
+        for (int i = 0; i < PHASES; i++) {
+            countValues[i] = counts[i].sum();
+            totalValues[i] = totals[i].sum();
+            maximumValues[i] = maximums.get(i);
+        }
+
+        return new ScanReport(countValues, totalValues, maximumValues, registryHits.sum(), registryMisses.sum());
+    }
+
+    /**
+     * Discard all values aggregated so far.
+     */
+    public void reset() {
+        for (int i = 0; i < PHASES; i++) {
+            counts[i].reset();
+            totals[i].reset();
+            maximums.set(i, 0);
+        }
+        registryHits.reset();
+        registryMisses.reset();
+    }
+}
@@ -0,0 +1,188 @@
+package io.smallrye.openapi.api.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Dispatches the notifications of the scanner and the document processing utilities
+ * to the registered {@link ScanListener}s. Listeners found using the
+ * {@link ServiceLoader} when this class is initialized are registered automatically.
+ *
+ * When no listener is registered, each notification costs a single read of a
+ * volatile field, and no clock is read.
+ */
+public final class ScanInstrumentation {
+
+    private static final Object lock = new Object();
+    private static final List<ScanListener> registered = new ArrayList<>();
+    private static volatile ScanListener listener;
+
+    static {
+        for (ScanListener discovered : ServiceLoader.load(ScanListener.class)) {
+            register(discovered);
+        }
+    }
+
+    private ScanInstrumentation() {
+    }
+
+    /**
+     * Register a listener to receive notifications from all threads.
+     *
+     * @param listener the listener to add
+     */
+    public static void register(ScanListener listener) {
+        synchronized (lock) {
+            registered.add(listener);
+            update();
+        }
+    }
+
+    /**
+     * @param listener the listener to remove
+     */
+    public static void unregister(ScanListener listener) {
+        synchronized (lock) {
+            registered.remove(listener);
+            update();
+        }
+    }
+
+    private static void update() {
+        switch (registered.size()) {
+            case 0:
+                listener = null;
+                break;
+            case 1:
+                listener = registered.get(0);
+                break;
+            default:
+                listener = new CompositeListener(registered.toArray(new ScanListener[0]));
+                break;
+        }
+    }
+
+    /**
+     * @return true if at least one listener is registered
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+    /**
+     * Notify the listeners that a phase has begun.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase
+     * @return the start time of the phase, to be passed to {@link #end(ScanPhase, Object, long)}
+     */
+    public static long start(ScanPhase phase, Object subject) {
+        ScanListener current = listener;
+
+        if (current == null) {
+            return 0L;
+        }
+
+        current.phaseStarted(phase, subject);
+        return System.nanoTime();
+    }
+
+    /**
+     * Notify the listeners that a phase has ended.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase
+     * @param start the value returned by {@link #start(ScanPhase, Object)}
+     */
+    public static void end(ScanPhase phase, Object subject, long start) {
+        end(phase, subject, null, start);
+    }
+
+    /**
+     * Notify the listeners that a phase has ended.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase
+     * @param result the object produced by the phase, may be null
+     * @param start the value returned by {@link #start(ScanPhase, Object)}
+     */
+    public static void end(ScanPhase phase, Object subject, Object result, long start) {
+        ScanListener current = listener;
+
+        if (current != null && start != 0L) {
+            current.phaseCompleted(phase, subject, result, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Notify the listeners of the size of the document read by a phase.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase
+     * @param bytes the number of bytes read
+     */
+    public static void bytesRead(ScanPhase phase, Object subject, long bytes) {
+        ScanListener current = listener;
+
+        if (current != null) {
+            current.bytesRead(phase, subject, bytes);
+        }
+    }
+
+    /**
+     * Notify the listeners of a lookup in the schema registry.
+     *
+     * @param type the type looked up
+     * @param hit true if a schema was already registered for the type
+     */
+    public static void registryLookup(Object type, boolean hit) {
+        ScanListener current = listener;
+
+        if (current != null) {
+            current.registryLookup(type, hit);
+        }
+    }
+
+    private static final class CompositeListener implements ScanListener {
+        private final ScanListener[] listeners;
+
+        CompositeListener(ScanListener[] listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void phaseStarted(ScanPhase phase, Object subject) {
+            for (ScanListener l : listeners) {
+                l.phaseStarted(phase, subject);
+            }
+        }
+
+        @Override
+        public void phaseCompleted(ScanPhase phase, Object subject, Object result, long durationNanos) {
+            for (ScanListener l : listeners) {
+                l.phaseCompleted(phase, subject, result, durationNanos);
+            }
+        }
+
+        @Override
+        public void bytesRead(ScanPhase phase, Object subject, long bytes) {
+            for (ScanListener l : listeners) {
+                l.bytesRead(phase, subject, bytes);
+            }
+        }
+
+        @Override
+        public void registryLookup(Object type, boolean hit) {
+            for (ScanListener l : listeners) {
+                l.registryLookup(type, hit);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(listeners);
+        }
+    }
+}
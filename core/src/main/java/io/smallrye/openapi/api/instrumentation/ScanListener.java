@@ -0,0 +1,65 @@
+package io.smallrye.openapi.api.instrumentation;
+
+/**
+ * Receives notifications at the boundaries of the phases of scanning and processing
+ * a document. Listeners are registered with {@link ScanInstrumentation}, either
+ * programmatically or using the {@link java.util.ServiceLoader ServiceLoader}.
+ *
+ * Listeners are invoked synchronously on the thread doing the work, possibly by
+ * several threads concurrently, and must be thread safe. Subjects are the objects
+ * being processed and results the objects produced (see {@link ScanPhase}); neither
+ * should be modified or retained.
+ */
+public interface ScanListener {
+
+    /**
+     * Called when a phase begins.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase, may be null
+     */
+    default void phaseStarted(ScanPhase phase, Object subject) {
+    }
+
+    /**
+     * Called when a phase ends, including when it ends with an exception.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase, may be null
+     * @param durationNanos the duration of the phase, in nanoseconds
+     */
+    default void phaseCompleted(ScanPhase phase, Object subject, long durationNanos) {
+    }
+
+    /**
+     * Called when a phase ends, including when it ends with an exception. The default
+     * implementation ignores the result and calls {@link #phaseCompleted(ScanPhase, Object, long)}.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase, may be null
+     * @param result the object produced by the phase, null if the phase has none or ended with an exception
+     * @param durationNanos the duration of the phase, in nanoseconds
+     */
+    default void phaseCompleted(ScanPhase phase, Object subject, Object result, long durationNanos) {
+        phaseCompleted(phase, subject, durationNanos);
+    }
+
+    /**
+     * Called before a phase that reads a document ends, with the size of the document.
+     *
+     * @param phase the phase
+     * @param subject the object processed by the phase
+     * @param bytes the number of bytes read
+     */
+    default void bytesRead(ScanPhase phase, Object subject, long bytes) {
+    }
+
+    /**
+     * Called when the {@code SchemaRegistry} is checked for the schema of a type.
+     *
+     * @param type the type looked up
+     * @param hit true if a schema was already registered for the type
+     */
+    default void registryLookup(Object type, boolean hit) {
+    }
+}
@@ -0,0 +1,69 @@
+package io.smallrye.openapi.api.instrumentation;
+
+/**
+ * The phases of processing reported to a {@link ScanListener}. Phases may be
+ * nested, e.g. {@link #RESOURCE_METHOD} within {@link #RESOURCE_CLASS} within
+ * {@link #SCAN}, and the duration reported for a phase includes the duration of
+ * the phases nested within it.
+ */
+public enum ScanPhase {
+
+    /**
+     * Creation of a model from the annotations of a deployment by the {@code OpenApiProcessor}, subject is the
+     * {@code IndexView} and the result is the model
+     */
+    ANNOTATIONS,
+
+    /**
+     * Creation of a model from a static file by the {@code OpenApiProcessor}, subject is the {@code OpenApiStaticFile}
+     * and the result is the model
+     */
+    STATIC_FILE,
+
+    /**
+     * One of the numbered steps of {@code OpenApiDocument.initialize}, subject is the {@code Integer} number of the
+     * step and the result is the document after the step
+     */
+    INITIALIZE,
+
+    /**
+     * A complete annotation scan of a deployment, no subject
+     */
+    SCAN,
+
+    /**
+     * Processing of an application class (e.g. a JAX-RS {@code Application}), subject is the {@code ClassInfo}
+     */
+    APPLICATION,
+
+    /**
+     * Processing of a resource or controller class, subject is the {@code ClassInfo}
+     */
+    RESOURCE_CLASS,
+
+    /**
+     * Processing of a resource or controller method, subject is the {@code MethodInfo}
+     */
+    RESOURCE_METHOD,
+
+    /**
+     * Generation of a schema from a data object, subject is the root {@code Type}
+     */
+    SCHEMA,
+
+    /**
+     * Merge of two documents, no subject
+     */
+    MERGE,
+
+    /**
+     * Application of a filter to a document, subject is the {@code OASFilter} and the result is the filtered document
+     */
+    FILTER,
+
+    /**
+     * Serialization of a document, subject is the {@code Format} and the result is the serialized {@code String}, or
+     * the {@code byte[]} of a binary format
+     */
+    SERIALIZE
+}
@@ -0,0 +1,80 @@
+package io.smallrye.openapi.api.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timings and counters aggregated by an {@link AggregatingScanListener}. Durations
+ * of nested phases are included in the durations of the phases containing them.
+ */
+public final class ScanReport {
+
+    private final long[] counts;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+    private final long registryHits;
+    private final long registryMisses;
+
+    ScanReport(long[] counts, long[] totalNanos, long[] maxNanos, long registryHits, long registryMisses) {
+        this.counts = counts;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.registryHits = registryHits;
+        this.registryMisses = registryMisses;
+    }
+
+    /**
+     * @param phase the phase
+     * @return the number of times the phase completed
+     */
+    public long getCount(ScanPhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * @param phase the phase
+     * @return the total duration of the phase, in nanoseconds
+     */
+    public long getTotalNanos(ScanPhase phase) {
+        return totalNanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase the phase
+     * @return the longest single duration of the phase, in nanoseconds
+     */
+    public long getMaxNanos(ScanPhase phase) {
+        return maxNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return number of schema registry lookups that found a registered schema
+     */
+    public long getRegistryHits() {
+        return registryHits;
+    }
+
+    /**
+     * @return number of schema registry lookups that did not find a registered schema
+     */
+    public long getRegistryMisses() {
+        return registryMisses;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("OpenAPI processing report");
+
+        for (ScanPhase phase : ScanPhase.values()) {
+            long count = getCount(phase);
+
+            if (count > 0) {
+                report.append(String.format("%n  %-16s count=%-8d total=%dms max=%dms", phase, count,
+                        TimeUnit.NANOSECONDS.toMillis(getTotalNanos(phase)),
+                        TimeUnit.NANOSECONDS.toMillis(getMaxNanos(phase))));
+            }
+        }
+
+        report.append(String.format("%n  %-16s hits=%d misses=%d", "SCHEMA_REGISTRY", registryHits, registryMisses));
+        return report.toString();
+    }
+}
@@ -44,6 +44,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setSchemas(Map<String, Schema> schemas) {
+        checkFrozen();
         this.schemas = ModelUtil.replace(schemas, LinkedHashMap<String, Schema>::new);
     }
 
@@ -53,6 +54,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addSchema(String key, Schema schema) {
+        checkFrozen();
         this.schemas = ModelUtil.add(key, schema, this.schemas, LinkedHashMap<String, Schema>::new);
         return this;
     }
@@ -62,6 +64,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeSchema(String key) {
+        checkFrozen();
         ModelUtil.remove(this.schemas, key);
     }
 
@@ -78,6 +81,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setResponses(Map<String, APIResponse> responses) {
+        checkFrozen();
         this.responses = ModelUtil.replace(responses, LinkedHashMap<String, APIResponse>::new);
     }
 
@@ -87,6 +91,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addResponse(String key, APIResponse response) {
+        checkFrozen();
         this.responses = ModelUtil.add(key, response, this.responses, LinkedHashMap<String, APIResponse>::new);
         return this;
     }
@@ -96,6 +101,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeResponse(String key) {
+        checkFrozen();
         ModelUtil.remove(this.responses, key);
     }
 
@@ -112,6 +118,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setParameters(Map<String, Parameter> parameters) {
+        checkFrozen();
         this.parameters = ModelUtil.replace(parameters, LinkedHashMap<String, Parameter>::new);
     }
 
@@ -121,6 +128,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addParameter(String key, Parameter parameter) {
+        checkFrozen();
         this.parameters = ModelUtil.add(key, parameter, this.parameters, LinkedHashMap<String, Parameter>::new);
         return this;
     }
@@ -130,6 +138,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeParameter(String key) {
+        checkFrozen();
         ModelUtil.remove(this.parameters, key);
     }
 
@@ -146,6 +155,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
+        checkFrozen();
         this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
     }
 
@@ -155,6 +165,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addExample(String key, Example example) {
+        checkFrozen();
         this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
         return this;
     }
@@ -164,6 +175,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeExample(String key) {
+        checkFrozen();
         ModelUtil.remove(this.examples, key);
     }
 
@@ -180,6 +192,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setRequestBodies(Map<String, RequestBody> requestBodies) {
+        checkFrozen();
         this.requestBodies = ModelUtil.replace(requestBodies, LinkedHashMap<String, RequestBody>::new);
     }
 
@@ -189,6 +202,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addRequestBody(String key, RequestBody requestBody) {
+        checkFrozen();
         this.requestBodies = ModelUtil.add(key, requestBody, this.requestBodies, LinkedHashMap<String, RequestBody>::new);
         return this;
     }
@@ -198,6 +212,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeRequestBody(String key) {
+        checkFrozen();
         ModelUtil.remove(this.requestBodies, key);
     }
 
@@ -214,6 +229,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
+        checkFrozen();
         this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
     }
 
@@ -223,6 +239,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addHeader(String key, Header header) {
+        checkFrozen();
         this.headers = ModelUtil.add(key, header, this.headers, LinkedHashMap<String, Header>::new);
         return this;
     }
@@ -232,6 +249,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeHeader(String key) {
+        checkFrozen();
         ModelUtil.remove(this.headers, key);
     }
 
@@ -248,6 +266,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setSecuritySchemes(Map<String, SecurityScheme> securitySchemes) {
+        checkFrozen();
         this.securitySchemes = ModelUtil.replace(securitySchemes, LinkedHashMap<String, SecurityScheme>::new);
     }
 
@@ -257,6 +276,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addSecurityScheme(String key, SecurityScheme securityScheme) {
+        checkFrozen();
         this.securitySchemes = ModelUtil.add(key, securityScheme, this.securitySchemes,
                 LinkedHashMap<String, SecurityScheme>::new);
         return this;
@@ -267,6 +287,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeSecurityScheme(String key) {
+        checkFrozen();
         ModelUtil.remove(this.securitySchemes, key);
     }
 
@@ -283,6 +304,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setLinks(Map<String, Link> links) {
+        checkFrozen();
         this.links = ModelUtil.replace(links, LinkedHashMap<String, Link>::new);
     }
 
@@ -292,6 +314,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addLink(String key, Link link) {
+        checkFrozen();
         this.links = ModelUtil.add(key, link, this.links, LinkedHashMap<String, Link>::new);
         return this;
     }
@@ -301,6 +324,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeLink(String key) {
+        checkFrozen();
         ModelUtil.remove(this.links, key);
     }
 
@@ -317,6 +341,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void setCallbacks(Map<String, Callback> callbacks) {
+        checkFrozen();
         this.callbacks = ModelUtil.replace(callbacks, LinkedHashMap<String, Callback>::new);
     }
 
@@ -326,6 +351,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public Components addCallback(String key, Callback callback) {
+        checkFrozen();
         this.callbacks = ModelUtil.add(key, callback, this.callbacks, LinkedHashMap<String, Callback>::new);
         return this;
     }
@@ -335,6 +361,7 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
      */
     @Override
     public void removeCallback(String key) {
+        checkFrozen();
         ModelUtil.remove(this.callbacks, key);
     }
 
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -13,7 +12,7 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  * 
  * @author eric.wittmann@gmail.com
  */
-public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensible<T>, ModelImpl {
+public abstract class ExtensibleImpl<T extends Extensible<T>> extends FreezableImpl implements Extensible<T>, ModelImpl {
 
     private Map<String, Object> extensions;
 
@@ -31,7 +30,8 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
     @SuppressWarnings("unchecked")
     @Override
     public T addExtension(String name, Object value) {
-        this.extensions = ModelUtil.add(name, value, this.extensions, LinkedHashMap<String, Object>::new);
+        checkFrozen();
+        this.extensions = ModelUtil.add(name, value, this.extensions, SmallMap<String, Object>::new);
         return (T) this;
     }
 
@@ -40,6 +40,7 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void removeExtension(String name) {
+        checkFrozen();
         ModelUtil.remove(this.extensions, name);
     }
 
@@ -48,7 +49,8 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
      */
     @Override
     public void setExtensions(Map<String, Object> extensions) {
-        this.extensions = ModelUtil.replace(extensions, LinkedHashMap<String, Object>::new);
+        checkFrozen();
+        this.extensions = ModelUtil.replace(extensions, SmallMap<String, Object>::new);
     }
 
 }
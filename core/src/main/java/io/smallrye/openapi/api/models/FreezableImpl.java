@@ -0,0 +1,32 @@
+package io.smallrye.openapi.api.models;
+
+/**
+ * Base class of the model implementations that are not maps, holding the frozen
+ * state of the object (see {@link io.smallrye.openapi.api.util.FreezeUtil FreezeUtil}).
+ * The mutators of a frozen object throw {@link UnsupportedOperationException}.
+ */
+public abstract class FreezableImpl implements ModelImpl {
+
+    private boolean frozen;
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Freeze this object, not the values it holds. The values must already be
+     * immutable, as arranged by
+     * {@link io.smallrye.openapi.api.util.FreezeUtil#freeze(org.eclipse.microprofile.openapi.models.OpenAPI)
+     * FreezeUtil.freeze}.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    protected void checkFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.openapi.api.models;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list backed by an exactly sized array, holding the elements of a
+ * list of a frozen model (see {@link io.smallrye.openapi.api.util.FreezeUtil FreezeUtil}).
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Object[] elements;
+
+    /**
+     * @param elements the elements of the list, not copied
+     */
+    public FrozenList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+}
@@ -1,7 +1,7 @@
 package io.smallrye.openapi.api.models;
 
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -16,7 +16,7 @@ public interface MapModel<V> extends Map<String, V> {
     default <T> T invokeFunction(Function<Map<String, V>, T> function) {
         Map<String, V> map = getMap();
         if (map == null) {
-            map = new LinkedHashMap<>();
+            map = new SmallMap<>();
             setMap(map);
         }
         return function.apply(map);
@@ -25,69 +25,93 @@ public interface MapModel<V> extends Map<String, V> {
     default void invoke(Consumer<Map<String, V>> function) {
         Map<String, V> map = getMap();
         if (map == null) {
-            map = new LinkedHashMap<>();
+            map = new SmallMap<>();
             setMap(map);
         }
         function.accept(map);
     }
 
+    // Read operations never create the underlying map and do not allocate
+
     @Override
     default int size() {
-        return invokeFunction(Map::size);
+        Map<String, V> map = getMap();
+        return map != null ? map.size() : 0;
     }
 
     @Override
     default boolean isEmpty() {
-        return invokeFunction(Map::isEmpty);
+        Map<String, V> map = getMap();
+        return map == null || map.isEmpty();
     }
 
     @Override
     default boolean containsValue(Object value) {
-        return invokeFunction(map -> map.containsValue(value));
+        Map<String, V> map = getMap();
+        return map != null && map.containsValue(value);
     }
 
     @Override
     default void clear() {
-        invoke(Map::clear);
+        Map<String, V> map = getMap();
+        if (map != null) {
+            map.clear();
+        }
     }
 
     @Override
     default Set<String> keySet() {
-        return invokeFunction(Map::keySet);
+        Map<String, V> map = getMap();
+        return map != null ? map.keySet() : Collections.emptySet();
     }
 
     @Override
     default Collection<V> values() {
-        return invokeFunction(Map::values);
+        Map<String, V> map = getMap();
+        return map != null ? map.values() : Collections.emptyList();
     }
 
     @Override
     default Set<Entry<String, V>> entrySet() {
-        return invokeFunction(Map::entrySet);
+        Map<String, V> map = getMap();
+        return map != null ? map.entrySet() : Collections.emptySet();
     }
 
     @Override
     default V get(Object key) {
-        return invokeFunction(map -> map.get(key));
+        Map<String, V> map = getMap();
+        return map != null ? map.get(key) : null;
     }
 
     @Override
     default boolean containsKey(Object key) {
-        return invokeFunction(map -> map.containsKey(key));
+        Map<String, V> map = getMap();
+        return map != null && map.containsKey(key);
     }
 
     @Override
     default V put(String key, V value) {
-        return invokeFunction(map -> map.put(key, value));
+        Map<String, V> map = getMap();
+        if (map == null) {
+            map = new SmallMap<>();
+            setMap(map);
+        }
+        return map.put(key, value);
     }
 
     @Override
     default void putAll(Map<? extends String, ? extends V> m) {
-        invoke(map -> map.putAll(m));
+        Map<String, V> map = getMap();
+        if (map == null) {
+            map = new SmallMap<>();
+            setMap(map);
+        }
+        map.putAll(m);
     }
 
     @Override
     default V remove(Object key) {
-        return invokeFunction(map -> map.remove(key));
+        Map<String, V> map = getMap();
+        return map != null ? map.remove(key) : null;
     }
 }
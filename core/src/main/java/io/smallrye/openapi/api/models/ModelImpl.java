@@ -7,4 +7,12 @@ package io.smallrye.openapi.api.models;
  */
 public interface ModelImpl {
 
+    /**
+     * @return true if this object was frozen by
+     *         {@link io.smallrye.openapi.api.util.FreezeUtil FreezeUtil}, in which case
+     *         all of its mutators throw {@link UnsupportedOperationException}
+     */
+    default boolean isFrozen() {
+        return false;
+    }
 }
@@ -42,6 +42,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setOpenapi(String openapi) {
+        checkFrozen();
         this.openapi = openapi;
     }
 
@@ -58,6 +59,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setInfo(Info info) {
+        checkFrozen();
         this.info = info;
     }
 
@@ -74,6 +76,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkFrozen();
         this.externalDocs = externalDocs;
     }
 
@@ -90,6 +93,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setServers(List<Server> servers) {
+        checkFrozen();
         this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
     }
 
@@ -98,6 +102,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addServer(Server server) {
+        checkFrozen();
         this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
         return this;
     }
@@ -107,6 +112,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeServer(Server server) {
+        checkFrozen();
         ModelUtil.remove(this.servers, server);
     }
 
@@ -123,6 +129,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setSecurity(List<SecurityRequirement> security) {
+        checkFrozen();
         this.security = ModelUtil.replace(security, ArrayList<SecurityRequirement>::new);
     }
 
@@ -131,6 +138,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkFrozen();
         ModelUtil.add(securityRequirement, this.security, ArrayList<SecurityRequirement>::new);
         return this;
     }
@@ -140,6 +148,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeSecurityRequirement(SecurityRequirement securityRequirement) {
+        checkFrozen();
         ModelUtil.remove(this.security, securityRequirement);
     }
 
@@ -156,6 +165,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setTags(List<Tag> tags) {
+        checkFrozen();
         this.tags = ModelUtil.replace(tags, ArrayList<Tag>::new);
     }
 
@@ -164,6 +174,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public OpenAPI addTag(Tag tag) {
+        checkFrozen();
         if (tag == null) {
             return this;
         }
@@ -181,6 +192,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void removeTag(Tag tag) {
+        checkFrozen();
         ModelUtil.remove(this.tags, tag);
     }
 
@@ -209,6 +221,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setPaths(Paths paths) {
+        checkFrozen();
         this.paths = paths;
     }
 
@@ -225,6 +238,7 @@ public class OpenAPIImpl extends ExtensibleImpl<OpenAPI> implements OpenAPI, Mod
      */
     @Override
     public void setComponents(Components components) {
+        checkFrozen();
         this.components = components;
     }
 
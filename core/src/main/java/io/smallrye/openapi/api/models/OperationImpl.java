@@ -1,7 +1,6 @@
 package io.smallrye.openapi.api.models;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,18 +20,21 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class OperationImpl extends ExtensibleImpl<Operation> implements Operation, ModelImpl {
 
-    private List<String> tags;
-    private String summary;
-    private String description;
-    private ExternalDocumentation externalDocs;
-    private String operationId;
-    private List<Parameter> parameters;
-    private RequestBody requestBody;
-    private APIResponses responses;
-    private Map<String, Callback> callbacks;
-    private Boolean deprecated;
-    private List<SecurityRequirement> security;
-    private List<Server> servers;
+    // Indexes of the properties held in the packed fields storage
+    private static final int TAGS = 0;
+    private static final int SUMMARY = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int EXTERNAL_DOCS = 3;
+    private static final int OPERATION_ID = 4;
+    private static final int PARAMETERS = 5;
+    private static final int REQUEST_BODY = 6;
+    private static final int RESPONSES = 7;
+    private static final int CALLBACKS = 8;
+    private static final int DEPRECATED = 9;
+    private static final int SECURITY = 10;
+    private static final int SERVERS = 11;
+
+    private final PackedFields fields = new PackedFields();
 
     /**
      * @see org.eclipse.microprofile.openapi.models.Operation#getTags()
@@ -40,8 +42,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
     @Override
     public List<String> getTags() {
         //TODO Return immutable map
-        //return ModelUtil.unmodifiableList(this.tags);
-        return this.tags;
+        //return ModelUtil.unmodifiableList(fields.get(TAGS));
+        return fields.get(TAGS);
     }
 
     /**
@@ -49,7 +51,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setTags(List<String> tags) {
-        this.tags = ModelUtil.replace(tags, ArrayList<String>::new);
+        checkFrozen();
+        fields.set(TAGS, ModelUtil.replace(tags, ArrayList<String>::new));
     }
 
     /**
@@ -57,7 +60,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addTag(String tag) {
-        this.tags = ModelUtil.add(tag, this.tags, ArrayList<String>::new);
+        checkFrozen();
+        fields.set(TAGS, ModelUtil.add(tag, fields.get(TAGS), ArrayList<String>::new));
         return this;
     }
 
@@ -66,7 +70,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeTag(String tag) {
-        ModelUtil.remove(this.tags, tag);
+        checkFrozen();
+        ModelUtil.remove(fields.<List<String>> get(TAGS), tag);
     }
 
     /**
@@ -74,7 +79,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public String getSummary() {
-        return this.summary;
+        return fields.get(SUMMARY);
     }
 
     /**
@@ -82,7 +87,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setSummary(String summary) {
-        this.summary = summary;
+        checkFrozen();
+        fields.set(SUMMARY, summary);
     }
 
     /**
@@ -90,7 +96,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return fields.get(DESCRIPTION);
     }
 
     /**
@@ -98,7 +104,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setDescription(String description) {
-        this.description = description;
+        checkFrozen();
+        fields.set(DESCRIPTION, description);
     }
 
     /**
@@ -106,7 +113,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public ExternalDocumentation getExternalDocs() {
-        return this.externalDocs;
+        return fields.get(EXTERNAL_DOCS);
     }
 
     /**
@@ -114,7 +121,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
-        this.externalDocs = externalDocs;
+        checkFrozen();
+        fields.set(EXTERNAL_DOCS, externalDocs);
     }
 
     /**
@@ -122,7 +130,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public String getOperationId() {
-        return this.operationId;
+        return fields.get(OPERATION_ID);
     }
 
     /**
@@ -130,7 +138,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setOperationId(String operationId) {
-        this.operationId = operationId;
+        checkFrozen();
+        fields.set(OPERATION_ID, operationId);
     }
 
     /**
@@ -138,7 +147,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public List<Parameter> getParameters() {
-        return ModelUtil.unmodifiableList(this.parameters);
+        return ModelUtil.unmodifiableList(fields.get(PARAMETERS));
     }
 
     /**
@@ -146,7 +155,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setParameters(List<Parameter> parameters) {
-        this.parameters = ModelUtil.replace(parameters, ArrayList<Parameter>::new);
+        checkFrozen();
+        fields.set(PARAMETERS, ModelUtil.replace(parameters, ArrayList<Parameter>::new));
     }
 
     /**
@@ -154,7 +164,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addParameter(Parameter parameter) {
-        this.parameters = ModelUtil.add(parameter, this.parameters, ArrayList<Parameter>::new);
+        checkFrozen();
+        fields.set(PARAMETERS, ModelUtil.add(parameter, fields.get(PARAMETERS), ArrayList<Parameter>::new));
         return this;
     }
 
@@ -163,7 +174,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeParameter(Parameter parameter) {
-        ModelUtil.remove(this.parameters, parameter);
+        checkFrozen();
+        ModelUtil.remove(fields.<List<Parameter>> get(PARAMETERS), parameter);
     }
 
     /**
@@ -171,7 +183,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public RequestBody getRequestBody() {
-        return this.requestBody;
+        return fields.get(REQUEST_BODY);
     }
 
     /**
@@ -179,7 +191,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setRequestBody(RequestBody requestBody) {
-        this.requestBody = requestBody;
+        checkFrozen();
+        fields.set(REQUEST_BODY, requestBody);
     }
 
     /**
@@ -187,7 +200,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public APIResponses getResponses() {
-        return this.responses;
+        return fields.get(RESPONSES);
     }
 
     /**
@@ -195,7 +208,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setResponses(APIResponses responses) {
-        this.responses = responses;
+        checkFrozen();
+        fields.set(RESPONSES, responses);
     }
 
     /**
@@ -203,7 +217,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Map<String, Callback> getCallbacks() {
-        return ModelUtil.unmodifiableMap(this.callbacks);
+        return ModelUtil.unmodifiableMap(fields.get(CALLBACKS));
     }
 
     /**
@@ -211,7 +225,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setCallbacks(Map<String, Callback> callbacks) {
-        this.callbacks = ModelUtil.replace(callbacks, LinkedHashMap<String, Callback>::new);
+        checkFrozen();
+        fields.set(CALLBACKS, ModelUtil.replace(callbacks, SmallMap<String, Callback>::new));
     }
 
     /**
@@ -220,7 +235,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addCallback(String key, Callback callback) {
-        this.callbacks = ModelUtil.add(key, callback, this.callbacks, LinkedHashMap<String, Callback>::new);
+        checkFrozen();
+        fields.set(CALLBACKS, ModelUtil.add(key, callback, fields.get(CALLBACKS), SmallMap<String, Callback>::new));
         return this;
     }
 
@@ -229,7 +245,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeCallback(String key) {
-        ModelUtil.remove(this.callbacks, key);
+        checkFrozen();
+        ModelUtil.remove(fields.<Map<String, Callback>> get(CALLBACKS), key);
     }
 
     /**
@@ -237,7 +254,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return fields.get(DEPRECATED);
     }
 
     /**
@@ -245,7 +262,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
-        this.deprecated = deprecated;
+        checkFrozen();
+        fields.set(DEPRECATED, deprecated);
     }
 
     /**
@@ -253,7 +271,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public List<SecurityRequirement> getSecurity() {
-        return ModelUtil.unmodifiableList(this.security);
+        return ModelUtil.unmodifiableList(fields.get(SECURITY));
     }
 
     /**
@@ -261,7 +279,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setSecurity(List<SecurityRequirement> security) {
-        this.security = ModelUtil.replace(security, ArrayList<SecurityRequirement>::new);
+        checkFrozen();
+        fields.set(SECURITY, ModelUtil.replace(security, ArrayList<SecurityRequirement>::new));
     }
 
     /**
@@ -269,7 +288,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addSecurityRequirement(SecurityRequirement securityRequirement) {
-        this.security = ModelUtil.add(securityRequirement, this.security, ArrayList<SecurityRequirement>::new);
+        checkFrozen();
+        fields.set(SECURITY, ModelUtil.add(securityRequirement, fields.get(SECURITY), ArrayList<SecurityRequirement>::new));
         return this;
     }
 
@@ -278,7 +298,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeSecurityRequirement(SecurityRequirement securityRequirement) {
-        ModelUtil.remove(this.security, securityRequirement);
+        checkFrozen();
+        ModelUtil.remove(fields.<List<SecurityRequirement>> get(SECURITY), securityRequirement);
     }
 
     /**
@@ -286,7 +307,7 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public List<Server> getServers() {
-        return ModelUtil.unmodifiableList(this.servers);
+        return ModelUtil.unmodifiableList(fields.get(SERVERS));
     }
 
     /**
@@ -294,7 +315,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void setServers(List<Server> servers) {
-        this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
+        checkFrozen();
+        fields.set(SERVERS, ModelUtil.replace(servers, ArrayList<Server>::new));
     }
 
     /**
@@ -302,7 +324,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public Operation addServer(Server server) {
-        this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
+        checkFrozen();
+        fields.set(SERVERS, ModelUtil.add(server, fields.get(SERVERS), ArrayList<Server>::new));
         return this;
     }
 
@@ -311,7 +334,8 @@ public class OperationImpl extends ExtensibleImpl<Operation> implements Operatio
      */
     @Override
     public void removeServer(Server server) {
-        ModelUtil.remove(this.servers, server);
+        checkFrozen();
+        ModelUtil.remove(fields.<List<Server>> get(SERVERS), server);
     }
 
 }
@@ -0,0 +1,204 @@
+package io.smallrye.openapi.api.models;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Compact storage for the properties of the wider model classes (e.g. {@link io.smallrye.openapi.api.models.media.SchemaImpl
+ * SchemaImpl}). Each model property is identified by a fixed index in the range 0 to 63. A bitmap records which of the
+ * properties currently hold a value, and only those values are kept in a packed array, in index order. Properties that
+ * were never set (or were set to null) therefore cost nothing beyond their bit in the bitmap.
+ *
+ * Instances are not thread safe, the same as the model classes that use them. A {@link #freeze() frozen} instance is
+ * immutable and may be shared by any number of model objects, each of which must take a {@link #copy(UnaryOperator)
+ * copy} before its first modification.
+ */
+public class PackedFields {
+
+    /**
+     * The largest number of properties that may be stored, the number of bits in the bitmap.
+     */
+    public static final int MAX_FIELDS = Long.SIZE;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private long present;
+    private Object[] values = EMPTY;
+
+    /**
+     * Retrieve the value of the property with the given index.
+     *
+     * @param <T> the type of the property
+     * @param index index of the property
+     * @return the value of the property, or null if not set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        final long bit = bit(index);
+
+        if ((present & bit) == 0) {
+            return null;
+        }
+
+        return (T) values[position(bit)];
+    }
+
+    /**
+     * Set the value of the property with the given index. Setting a null value
+     * removes the property from the storage entirely.
+     *
+     * @param index index of the property
+     * @param value new value of the property, may be null
+     */
+    public void set(int index, Object value) {
+        final long bit = bit(index);
+        final int position = position(bit);
+
+        if ((present & bit) != 0) {
+            if (value != null) {
+                values[position] = value;
+            } else {
+                remove(bit, position);
+            }
+        } else if (value != null) {
+            insert(bit, position, value);
+        }
+    }
+
+    /**
+     * @param index index of the property
+     * @return true if the property with the given index holds a non-null value
+     */
+    public boolean isSet(int index) {
+        return (present & bit(index)) != 0;
+    }
+
+    /**
+     * @return the number of properties holding a non-null value
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return true if this instance is immutable and may be shared
+     */
+    public boolean isFrozen() {
+        return false;
+    }
+
+    /**
+     * Obtain an immutable instance holding the current values of this instance.
+     * Note that the values themselves are shared, not copied, and should be
+     * immutable as well.
+     *
+     * @return an immutable copy of this instance, or this instance if it is already frozen
+     */
+    public PackedFields freeze() {
+        return copyInto(new Frozen());
+    }
+
+    /**
+     * Obtain an immutable instance holding the current values of this instance,
+     * each replaced with the result of the given function (e.g. an immutable copy
+     * of the value).
+     *
+     * @param valueFreezer function applied to each value
+     * @return an immutable copy of this instance
+     */
+    public PackedFields freeze(UnaryOperator<Object> valueFreezer) {
+        PackedFields target = new Frozen();
+        target.present = present;
+        if (values.length > 0) {
+            target.values = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target.values[i] = valueFreezer.apply(values[i]);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Note that the values are shared with this instance, see {@link #copy(UnaryOperator)}
+     * to copy the values as well.
+     *
+     * @return a modifiable copy of this instance
+     */
+    public PackedFields copy() {
+        return copyInto(new PackedFields());
+    }
+
+    /**
+     * Obtain a modifiable instance holding the current values of this instance,
+     * each replaced with the result of the given function (e.g. a modifiable copy
+     * of a list or map value).
+     *
+     * @param valueCopier function applied to each value
+     * @return a modifiable copy of this instance
+     */
+    public PackedFields copy(UnaryOperator<Object> valueCopier) {
+        PackedFields target = new PackedFields();
+        target.present = present;
+        if (values.length > 0) {
+            target.values = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target.values[i] = valueCopier.apply(values[i]);
+            }
+        }
+        return target;
+    }
+
+    private PackedFields copyInto(PackedFields target) {
+        target.present = present;
+        target.values = values.length > 0 ? values.clone() : EMPTY;
+        return target;
+    }
+
+    private static long bit(int index) {
+        if (index < 0 || index >= MAX_FIELDS) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return 1L << index;
+    }
+
+    private int position(long bit) {
+        return Long.bitCount(present & (bit - 1));
+    }
+
+    private void insert(long bit, int position, Object value) {
+        Object[] updated = new Object[values.length + 1];
+        System.arraycopy(values, 0, updated, 0, position);
+        updated[position] = value;
+        System.arraycopy(values, position, updated, position + 1, values.length - position);
+        values = updated;
+        present |= bit;
+    }
+
+    private void remove(long bit, int position) {
+        if (values.length == 1) {
+            values = EMPTY;
+        } else {
+            Object[] updated = new Object[values.length - 1];
+            System.arraycopy(values, 0, updated, 0, position);
+            System.arraycopy(values, position + 1, updated, position, values.length - position - 1);
+            values = updated;
+        }
+        present &= ~bit;
+    }
+
+    private static final class Frozen extends PackedFields {
+        @Override
+        public void set(int index, Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isFrozen() {
+            return true;
+        }
+
+        @Override
+        public PackedFields freeze() {
+            return this;
+        }
+    }
+}
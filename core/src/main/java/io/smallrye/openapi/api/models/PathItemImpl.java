@@ -44,6 +44,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         this.$ref = ref;
     }
 
@@ -60,6 +61,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setSummary(String summary) {
+        checkFrozen();
         this.summary = summary;
     }
 
@@ -85,6 +87,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -101,6 +104,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setGET(Operation get) {
+        checkFrozen();
         this.get = get;
     }
 
@@ -117,6 +121,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPUT(Operation put) {
+        checkFrozen();
         this.put = put;
     }
 
@@ -133,6 +138,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPOST(Operation post) {
+        checkFrozen();
         this.post = post;
     }
 
@@ -149,6 +155,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setDELETE(Operation delete) {
+        checkFrozen();
         this.delete = delete;
     }
 
@@ -165,6 +172,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setOPTIONS(Operation options) {
+        checkFrozen();
         this.options = options;
     }
 
@@ -181,6 +189,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setHEAD(Operation head) {
+        checkFrozen();
         this.head = head;
     }
 
@@ -197,6 +206,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setPATCH(Operation patch) {
+        checkFrozen();
         this.patch = patch;
     }
 
@@ -213,6 +223,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setTRACE(Operation trace) {
+        checkFrozen();
         this.trace = trace;
     }
 
@@ -246,6 +257,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setServers(List<Server> servers) {
+        checkFrozen();
         this.servers = ModelUtil.replace(servers, ArrayList<Server>::new);
     }
 
@@ -254,6 +266,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public PathItem addServer(Server server) {
+        checkFrozen();
         this.servers = ModelUtil.add(server, this.servers, ArrayList<Server>::new);
         return this;
     }
@@ -263,6 +276,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void removeServer(Server server) {
+        checkFrozen();
         ModelUtil.remove(this.servers, server);
     }
 
@@ -279,6 +293,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void setParameters(List<Parameter> parameters) {
+        checkFrozen();
         this.parameters = ModelUtil.replace(parameters, ArrayList<Parameter>::new);
     }
 
@@ -287,6 +302,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public PathItem addParameter(Parameter parameter) {
+        checkFrozen();
         this.parameters = ModelUtil.add(parameter, this.parameters, ArrayList<Parameter>::new);
         return this;
     }
@@ -296,6 +312,7 @@ public class PathItemImpl extends ExtensibleImpl<PathItem> implements PathItem,
      */
     @Override
     public void removeParameter(Parameter parameter) {
+        checkFrozen();
         ModelUtil.remove(this.parameters, parameter);
     }
 
@@ -21,6 +21,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public Paths addPathItem(String name, PathItem item) {
+        checkFrozen();
         this.pathItems = ModelUtil.add(name, item, this.pathItems, LinkedHashMap<String, PathItem>::new);
         return this;
     }
@@ -30,6 +31,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public void removePathItem(String name) {
+        checkFrozen();
         ModelUtil.remove(this.pathItems, name);
     }
 
@@ -46,6 +48,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
+        checkFrozen();
         this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
     }
 
@@ -58,6 +61,7 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
 
     @Override
     public void setMap(Map<String, PathItem> map) {
+        checkFrozen();
         this.pathItems = map;
     }
 
@@ -73,16 +77,19 @@ public class PathsImpl extends ExtensibleImpl<Paths> implements Paths, ModelImpl
 
     @Override
     public PathItem put(String key, PathItem value) {
+        checkFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends PathItem> m) {
+        checkFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public PathItem remove(Object key) {
+        checkFrozen();
         return MapModel.super.remove(key);
     }
 
@@ -0,0 +1,386 @@
+package io.smallrye.openapi.api.models;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion-ordered {@link Map} backed by a pair of small arrays, intended for the
+ * maps held by the model classes (content, responses, properties, extensions, etc.)
+ * which typically contain only a handful of entries. Lookups are a linear scan of
+ * the keys. Once the number of entries grows past {@link #THRESHOLD}, the entries
+ * are moved to a {@link LinkedHashMap} which is used for the remaining life of the map.
+ *
+ * Null keys and values are supported. Instances are not thread safe, unless
+ * {@link #freeze() frozen}.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class SmallMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum number of entries held in the arrays before the map is promoted
+     * to a {@link LinkedHashMap}.
+     */
+    public static final int THRESHOLD = 8;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] keys = EMPTY;
+    private Object[] values = EMPTY;
+    private int size;
+    private Map<K, V> promoted;
+    private boolean frozen;
+    private transient int modCount;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    public SmallMap() {
+    }
+
+    public SmallMap(Map<? extends K, ? extends V> source) {
+        if (source.size() > THRESHOLD) {
+            promoted = new LinkedHashMap<>(source);
+        } else {
+            keys = new Object[source.size()];
+            values = new Object[source.size()];
+            putAll(source);
+        }
+    }
+
+    /**
+     * Make this map immutable, trimming its storage to the current entries. The
+     * mutators of a frozen map throw {@link UnsupportedOperationException}.
+     */
+    public void freeze() {
+        if (promoted != null) {
+            promoted = Collections.unmodifiableMap(promoted);
+        } else if (keys.length > size) {
+            keys = size > 0 ? Arrays.copyOf(keys, size) : EMPTY;
+            values = size > 0 ? Arrays.copyOf(values, size) : EMPTY;
+        }
+        frozen = true;
+    }
+
+    /**
+     * @return true if this map was {@link #freeze() frozen}
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    protected void checkFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " is frozen");
+        }
+    }
+
+    /**
+     * @return true if the entries of this map have been moved to a hash map
+     */
+    public boolean isPromoted() {
+        return promoted != null;
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (promoted != null) {
+            return promoted.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (promoted != null) {
+            return promoted.containsValue(value);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (promoted != null) {
+            return promoted.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        checkFrozen();
+        if (promoted != null) {
+            return promoted.put(key, value);
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        if (size == THRESHOLD) {
+            promote();
+            return promoted.put(key, value);
+        }
+
+        if (size == keys.length) {
+            int capacity = Math.min(THRESHOLD, Math.max(2, size * 2));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        checkFrozen();
+        if (promoted != null) {
+            return promoted.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        checkFrozen();
+        if (promoted != null) {
+            promoted.clear();
+        } else {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (promoted != null) {
+            return promoted.entrySet();
+        }
+        Set<Map.Entry<K, V>> es = entrySet;
+        if (es == null) {
+            entrySet = es = new EntrySet();
+        }
+        return es;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(key, keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void promote() {
+        Map<K, V> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put((K) keys[i], (V) values[i]);
+        }
+        promoted = map;
+        keys = EMPTY;
+        values = EMPTY;
+        size = 0;
+        entrySet = null;
+        modCount++;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            if (promoted != null) {
+                return promoted.entrySet().iterator();
+            }
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return SmallMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            SmallMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        int next;
+        int last = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            // After a promotion, next() fails rather than the iteration silently ending
+            return next < size || promoted != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            checkModification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last, keys[last], values[last]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkModification();
+            checkFrozen();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        void checkModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * An entry of the arrays, identified by its key. The index where the entry was
+     * found is only a hint, since a removal or a promotion moves the entries. Once
+     * the key is removed from the map, the entry keeps the last value it had.
+     */
+    private class Entry implements Map.Entry<K, V> {
+        final int hint;
+        final Object key;
+        Object value;
+
+        Entry(int hint, Object key, Object value) {
+            this.hint = hint;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            int index = index();
+            if (index >= 0) {
+                value = values[index];
+            } else if (promoted != null && promoted.containsKey(key)) {
+                value = promoted.get(key);
+            }
+            return (V) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            checkFrozen();
+            V previous = getValue();
+            int index = index();
+            if (index >= 0) {
+                values[index] = value;
+            } else if (promoted != null && promoted.containsKey(key)) {
+                promoted.put((K) key, value);
+            }
+            this.value = value;
+            return previous;
+        }
+
+        private int index() {
+            if (promoted != null) {
+                return -1;
+            }
+            if (hint < size && Objects.equals(key, keys[hint])) {
+                return hint;
+            }
+            return indexOf(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.callbacks;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
@@ -10,6 +9,7 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -33,6 +33,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_CALLBACK + ref;
         }
@@ -54,7 +55,8 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public Callback addPathItem(String name, PathItem item) {
-        this.pathItems = ModelUtil.add(name, item, this.pathItems, LinkedHashMap<String, PathItem>::new);
+        checkFrozen();
+        this.pathItems = ModelUtil.add(name, item, this.pathItems, SmallMap<String, PathItem>::new);
         return this;
     }
 
@@ -63,6 +65,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void removePathItem(String name) {
+        checkFrozen();
         ModelUtil.remove(this.pathItems, name);
     }
 
@@ -79,7 +82,8 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
-        this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
+        checkFrozen();
+        this.pathItems = ModelUtil.replace(items, SmallMap<String, PathItem>::new);
     }
 
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
@@ -91,6 +95,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
 
     @Override
     public void setMap(Map<String, PathItem> map) {
+        checkFrozen();
         this.pathItems = map;
     }
 
@@ -106,18 +111,21 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
 
     @Override
     public PathItem put(String key, PathItem value) {
+        checkFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends PathItem> m) {
+        checkFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public PathItem remove(Object key) {
+        checkFrozen();
         return MapModel.super.remove(key);
     }
 
     // End Methods to support implementation of Map for MicroProfile OpenAPI 1.1
-}
\ No newline at end of file
+}
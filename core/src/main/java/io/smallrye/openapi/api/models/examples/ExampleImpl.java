@@ -30,6 +30,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_EXAMPLE + ref;
         }
@@ -49,6 +50,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setSummary(String summary) {
+        checkFrozen();
         this.summary = summary;
     }
 
@@ -65,6 +67,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -81,6 +84,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setValue(Object value) {
+        checkFrozen();
         this.value = value;
     }
 
@@ -97,6 +101,7 @@ public class ExampleImpl extends ExtensibleImpl<Example> implements Example, Mod
      */
     @Override
     public void setExternalValue(String externalValue) {
+        checkFrozen();
         this.externalValue = externalValue;
     }
 
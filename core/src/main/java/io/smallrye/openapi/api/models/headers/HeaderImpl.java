@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.headers;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
@@ -11,6 +10,8 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.PackedFields;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -18,24 +19,31 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelImpl {
 
-    private String $ref;
-    private String description;
-    private Boolean required;
-    private Boolean deprecated;
-    private Boolean allowEmptyValue;
-    private Style style = Style.SIMPLE;
-    private Boolean explode;
-    private Schema schema;
-    private Object example;
-    private Map<String, Example> examples;
-    private Content content;
+    // Indexes of the properties held in the packed fields storage
+    private static final int REF = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int REQUIRED = 2;
+    private static final int DEPRECATED = 3;
+    private static final int ALLOW_EMPTY_VALUE = 4;
+    private static final int STYLE = 5;
+    private static final int EXPLODE = 6;
+    private static final int SCHEMA = 7;
+    private static final int EXAMPLE = 8;
+    private static final int EXAMPLES = 9;
+    private static final int CONTENT = 10;
+
+    private final PackedFields fields = new PackedFields();
+
+    public HeaderImpl() {
+        fields.set(STYLE, Style.SIMPLE);
+    }
 
     /**
      * @see org.eclipse.microprofile.openapi.models.Reference#getRef()
      */
     @Override
     public String getRef() {
-        return this.$ref;
+        return fields.get(REF);
     }
 
     /**
@@ -43,10 +51,11 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_HEADER + ref;
         }
-        this.$ref = ref;
+        fields.set(REF, ref);
     }
 
     /**
@@ -54,7 +63,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return fields.get(DESCRIPTION);
     }
 
     /**
@@ -62,7 +71,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setDescription(String description) {
-        this.description = description;
+        checkFrozen();
+        fields.set(DESCRIPTION, description);
     }
 
     /**
@@ -70,7 +80,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Boolean getRequired() {
-        return this.required;
+        return fields.get(REQUIRED);
     }
 
     /**
@@ -78,7 +88,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setRequired(Boolean required) {
-        this.required = required;
+        checkFrozen();
+        fields.set(REQUIRED, required);
     }
 
     /**
@@ -86,7 +97,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return fields.get(DEPRECATED);
     }
 
     /**
@@ -94,7 +105,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
-        this.deprecated = deprecated;
+        checkFrozen();
+        fields.set(DEPRECATED, deprecated);
     }
 
     /**
@@ -102,7 +114,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Boolean getAllowEmptyValue() {
-        return this.allowEmptyValue;
+        return fields.get(ALLOW_EMPTY_VALUE);
     }
 
     /**
@@ -110,7 +122,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setAllowEmptyValue(Boolean allowEmptyValue) {
-        this.allowEmptyValue = allowEmptyValue;
+        checkFrozen();
+        fields.set(ALLOW_EMPTY_VALUE, allowEmptyValue);
     }
 
     /**
@@ -118,7 +131,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Style getStyle() {
-        return this.style;
+        return fields.get(STYLE);
     }
 
     /**
@@ -126,7 +139,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setStyle(Style style) {
-        this.style = style;
+        checkFrozen();
+        fields.set(STYLE, style);
     }
 
     /**
@@ -134,7 +148,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Boolean getExplode() {
-        return this.explode;
+        return fields.get(EXPLODE);
     }
 
     /**
@@ -142,7 +156,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExplode(Boolean explode) {
-        this.explode = explode;
+        checkFrozen();
+        fields.set(EXPLODE, explode);
     }
 
     /**
@@ -150,7 +165,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Schema getSchema() {
-        return this.schema;
+        return fields.get(SCHEMA);
     }
 
     /**
@@ -158,7 +173,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setSchema(Schema schema) {
-        this.schema = schema;
+        checkFrozen();
+        fields.set(SCHEMA, schema);
     }
 
     /**
@@ -166,7 +182,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Map<String, Example> getExamples() {
-        return ModelUtil.unmodifiableMap(this.examples);
+        return ModelUtil.unmodifiableMap(fields.get(EXAMPLES));
     }
 
     /**
@@ -174,7 +190,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
-        this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        fields.set(EXAMPLES, ModelUtil.replace(examples, SmallMap<String, Example>::new));
     }
 
     /**
@@ -183,7 +200,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Header addExample(String key, Example example) {
-        this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        fields.set(EXAMPLES, ModelUtil.add(key, example, fields.get(EXAMPLES), SmallMap<String, Example>::new));
         return this;
     }
 
@@ -192,7 +210,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void removeExample(String key) {
-        ModelUtil.remove(this.examples, key);
+        checkFrozen();
+        ModelUtil.remove(fields.<Map<String, Example>> get(EXAMPLES), key);
     }
 
     /**
@@ -200,7 +219,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Object getExample() {
-        return this.example;
+        return fields.get(EXAMPLE);
     }
 
     /**
@@ -208,7 +227,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExample(Object example) {
-        this.example = example;
+        checkFrozen();
+        fields.set(EXAMPLE, example);
     }
 
     /**
@@ -216,7 +236,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Content getContent() {
-        return this.content;
+        return fields.get(CONTENT);
     }
 
     /**
@@ -224,7 +244,8 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setContent(Content content) {
-        this.content = content;
+        checkFrozen();
+        fields.set(CONTENT, content);
     }
 
 }
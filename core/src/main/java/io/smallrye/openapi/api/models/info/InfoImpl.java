@@ -32,6 +32,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setTitle(String title) {
+        checkFrozen();
         this.title = title;
     }
 
@@ -48,6 +49,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -64,6 +66,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setTermsOfService(String termsOfService) {
+        checkFrozen();
         this.termsOfService = termsOfService;
     }
 
@@ -80,6 +83,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setContact(Contact contact) {
+        checkFrozen();
         this.contact = contact;
     }
 
@@ -96,6 +100,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setLicense(License license) {
+        checkFrozen();
         this.license = license;
     }
 
@@ -112,6 +117,7 @@ public class InfoImpl extends ExtensibleImpl<Info> implements Info, ModelImpl {
      */
     @Override
     public void setVersion(String version) {
+        checkFrozen();
         this.version = version;
     }
 
@@ -26,6 +26,7 @@ public class LicenseImpl extends ExtensibleImpl<License> implements License, Mod
      */
     @Override
     public void setName(String name) {
+        checkFrozen();
         this.name = name;
     }
 
@@ -42,6 +43,7 @@ public class LicenseImpl extends ExtensibleImpl<License> implements License, Mod
      */
     @Override
     public void setUrl(String url) {
+        checkFrozen();
         this.url = url;
     }
 
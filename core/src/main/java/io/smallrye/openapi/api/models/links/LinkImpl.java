@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.links;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.links.Link;
@@ -9,6 +8,7 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -37,6 +37,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_LINK + ref;
         }
@@ -56,6 +57,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setServer(Server server) {
+        checkFrozen();
         this.server = server;
     }
 
@@ -72,6 +74,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setOperationRef(String operationRef) {
+        checkFrozen();
         this.operationRef = operationRef;
     }
 
@@ -88,6 +91,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setRequestBody(Object requestBody) {
+        checkFrozen();
         this.requestBody = requestBody;
     }
 
@@ -104,6 +108,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setOperationId(String operationId) {
+        checkFrozen();
         this.operationId = operationId;
     }
 
@@ -120,7 +125,8 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setParameters(Map<String, Object> parameters) {
-        this.parameters = ModelUtil.replace(parameters, LinkedHashMap<String, Object>::new);
+        checkFrozen();
+        this.parameters = ModelUtil.replace(parameters, SmallMap<String, Object>::new);
     }
 
     /**
@@ -128,7 +134,8 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public Link addParameter(String name, Object parameter) {
-        this.parameters = ModelUtil.add(name, parameter, this.parameters, LinkedHashMap<String, Object>::new);
+        checkFrozen();
+        this.parameters = ModelUtil.add(name, parameter, this.parameters, SmallMap<String, Object>::new);
         return this;
     }
 
@@ -137,6 +144,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void removeParameter(String name) {
+        checkFrozen();
         ModelUtil.remove(this.parameters, name);
     }
 
@@ -153,6 +161,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -1,19 +1,20 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
 
+import io.smallrye.openapi.api.models.FreezableImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * An implementation of the {@link Content} OpenAPI model interface.
  */
-public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
+public class ContentImpl extends FreezableImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     private Map<String, MediaType> mediaTypes;
 
@@ -23,7 +24,8 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public Content addMediaType(String name, MediaType mediaType) {
-        this.mediaTypes = ModelUtil.add(name, mediaType, this.mediaTypes, LinkedHashMap<String, MediaType>::new);
+        checkFrozen();
+        this.mediaTypes = ModelUtil.add(name, mediaType, this.mediaTypes, SmallMap<String, MediaType>::new);
         return this;
     }
 
@@ -32,6 +34,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public void removeMediaType(String name) {
+        checkFrozen();
         ModelUtil.remove(this.mediaTypes, name);
     }
 
@@ -48,7 +51,8 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public void setMediaTypes(Map<String, MediaType> mediaTypes) {
-        this.mediaTypes = ModelUtil.replace(mediaTypes, LinkedHashMap<String, MediaType>::new);
+        checkFrozen();
+        this.mediaTypes = ModelUtil.replace(mediaTypes, SmallMap<String, MediaType>::new);
     }
 
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
@@ -60,6 +64,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     @Override
     public void setMap(Map<String, MediaType> map) {
+        checkFrozen();
         this.mediaTypes = map;
     }
 
@@ -75,16 +80,19 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
 
     @Override
     public MediaType put(String key, MediaType value) {
+        checkFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends MediaType> m) {
+        checkFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public MediaType remove(Object key) {
+        checkFrozen();
         return MapModel.super.remove(key);
     }
 
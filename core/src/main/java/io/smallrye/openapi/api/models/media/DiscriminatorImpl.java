@@ -1,17 +1,18 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
+import io.smallrye.openapi.api.models.FreezableImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * An implementation of the {@link Discriminator} OpenAPI model interface.
  */
-public class DiscriminatorImpl implements Discriminator, ModelImpl {
+public class DiscriminatorImpl extends FreezableImpl implements Discriminator, ModelImpl {
 
     private String propertyName;
     private Map<String, String> mapping;
@@ -29,6 +30,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void setPropertyName(String propertyName) {
+        checkFrozen();
         this.propertyName = propertyName;
     }
 
@@ -37,7 +39,8 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public Discriminator addMapping(String name, String value) {
-        this.mapping = ModelUtil.add(name, value, this.mapping, LinkedHashMap<String, String>::new);
+        checkFrozen();
+        this.mapping = ModelUtil.add(name, value, this.mapping, SmallMap<String, String>::new);
         return this;
     }
 
@@ -46,6 +49,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void removeMapping(String name) {
+        checkFrozen();
         ModelUtil.remove(this.mapping, name);
     }
 
@@ -62,7 +66,8 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void setMapping(Map<String, String> mapping) {
-        this.mapping = ModelUtil.replace(mapping, LinkedHashMap<String, String>::new);
+        checkFrozen();
+        this.mapping = ModelUtil.replace(mapping, SmallMap<String, String>::new);
     }
 
 }
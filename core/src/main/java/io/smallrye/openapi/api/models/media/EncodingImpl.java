@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
@@ -8,6 +7,7 @@ import org.eclipse.microprofile.openapi.models.media.Encoding;
 
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -34,6 +34,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setContentType(String contentType) {
+        checkFrozen();
         this.contentType = contentType;
     }
 
@@ -43,7 +44,8 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public Encoding addHeader(String key, Header header) {
-        this.headers = ModelUtil.add(key, header, this.headers, LinkedHashMap<String, Header>::new);
+        checkFrozen();
+        this.headers = ModelUtil.add(key, header, this.headers, SmallMap<String, Header>::new);
         return this;
     }
 
@@ -52,6 +54,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void removeHeader(String key) {
+        checkFrozen();
         ModelUtil.remove(this.headers, key);
     }
 
@@ -68,7 +71,8 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
-        this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
+        checkFrozen();
+        this.headers = ModelUtil.replace(headers, SmallMap<String, Header>::new);
     }
 
     /**
@@ -84,6 +88,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setStyle(Style style) {
+        checkFrozen();
         this.style = style;
     }
 
@@ -100,6 +105,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setExplode(Boolean explode) {
+        checkFrozen();
         this.explode = explode;
     }
 
@@ -116,6 +122,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setAllowReserved(Boolean allowReserved) {
+        checkFrozen();
         this.allowReserved = allowReserved;
     }
 
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
@@ -10,6 +9,7 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -35,6 +35,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setSchema(Schema schema) {
+        checkFrozen();
         this.schema = schema;
     }
 
@@ -51,7 +52,8 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
-        this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        this.examples = ModelUtil.replace(examples, SmallMap<String, Example>::new);
     }
 
     /**
@@ -60,7 +62,8 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public MediaType addExample(String key, Example example) {
-        this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        this.examples = ModelUtil.add(key, example, this.examples, SmallMap<String, Example>::new);
         return this;
     }
 
@@ -69,6 +72,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void removeExample(String key) {
+        checkFrozen();
         ModelUtil.remove(this.examples, key);
     }
 
@@ -85,6 +89,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setExample(Object example) {
+        checkFrozen();
         this.example = example;
     }
 
@@ -101,7 +106,8 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void setEncoding(Map<String, Encoding> encoding) {
-        this.encoding = ModelUtil.replace(encoding, LinkedHashMap<String, Encoding>::new);
+        checkFrozen();
+        this.encoding = ModelUtil.replace(encoding, SmallMap<String, Encoding>::new);
     }
 
     /**
@@ -110,7 +116,8 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public MediaType addEncoding(String key, Encoding encodingItem) {
-        this.encoding = ModelUtil.add(key, encodingItem, this.encoding, LinkedHashMap<String, Encoding>::new);
+        checkFrozen();
+        this.encoding = ModelUtil.add(key, encodingItem, this.encoding, SmallMap<String, Encoding>::new);
         return this;
     }
 
@@ -119,6 +126,7 @@ public class MediaTypeImpl extends ExtensibleImpl<MediaType> implements MediaTyp
      */
     @Override
     public void removeEncoding(String key) {
+        checkFrozen();
         ModelUtil.remove(this.encoding, key);
     }
 
@@ -2,10 +2,10 @@ package io.smallrye.openapi.api.models.media;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -14,6 +14,10 @@ import org.eclipse.microprofile.openapi.models.media.XML;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.PackedFields;
+import io.smallrye.openapi.api.models.SmallMap;
+import io.smallrye.openapi.api.util.CopyUtil;
+import io.smallrye.openapi.api.util.FreezeUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -21,59 +25,130 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelImpl {
 
-    private String $ref;
-    private String format;
-    private String name;
-    private String title;
-    private String description;
-    private Object defaultValue;
-    private BigDecimal multipleOf;
-    private BigDecimal maximum;
-    private Boolean exclusiveMaximum;
-    private BigDecimal minimum;
-    private Boolean exclusiveMinimum;
-    private Integer maxLength;
-    private Integer minLength;
-    private String pattern;
-    private Integer maxItems;
-    private Integer minItems;
-    private Boolean uniqueItems;
-    private Integer maxProperties;
-    private Integer minProperties;
-    private List<String> required;
-    private List<Object> enumeration;
-    private SchemaType type;
-    private Schema items;
-    private List<Schema> allOf;
-    private Map<String, Schema> properties;
-    private Schema additionalPropertiesSchema;
-    private Boolean additionalPropertiesBoolean;
-    private Boolean readOnly;
-    private XML xml;
-    private ExternalDocumentation externalDocs;
-    private Object example;
-    private List<Schema> oneOf;
-    private List<Schema> anyOf;
-    private Schema not;
-    private Discriminator discriminator;
-    private Boolean nullable;
-    private Boolean writeOnly;
-    private Boolean deprecated;
+    // Indexes of the properties held in the packed fields storage
+    private static final int REF = 0;
+    private static final int FORMAT = 1;
+    private static final int NAME = 2;
+    private static final int TITLE = 3;
+    private static final int DESCRIPTION = 4;
+    private static final int DEFAULT_VALUE = 5;
+    private static final int MULTIPLE_OF = 6;
+    private static final int MAXIMUM = 7;
+    private static final int EXCLUSIVE_MAXIMUM = 8;
+    private static final int MINIMUM = 9;
+    private static final int EXCLUSIVE_MINIMUM = 10;
+    private static final int MAX_LENGTH = 11;
+    private static final int MIN_LENGTH = 12;
+    private static final int PATTERN = 13;
+    private static final int MAX_ITEMS = 14;
+    private static final int MIN_ITEMS = 15;
+    private static final int UNIQUE_ITEMS = 16;
+    private static final int MAX_PROPERTIES = 17;
+    private static final int MIN_PROPERTIES = 18;
+    private static final int REQUIRED = 19;
+    private static final int ENUMERATION = 20;
+    private static final int TYPE = 21;
+    private static final int ITEMS = 22;
+    private static final int ALL_OF = 23;
+    private static final int PROPERTIES = 24;
+    private static final int ADDITIONAL_PROPERTIES_SCHEMA = 25;
+    private static final int ADDITIONAL_PROPERTIES_BOOLEAN = 26;
+    private static final int READ_ONLY = 27;
+    private static final int XML_OBJECT = 28;
+    private static final int EXTERNAL_DOCS = 29;
+    private static final int EXAMPLE = 30;
+    private static final int ONE_OF = 31;
+    private static final int ANY_OF = 32;
+    private static final int NOT = 33;
+    private static final int DISCRIMINATOR = 34;
+    private static final int NULLABLE = 35;
+    private static final int WRITE_ONLY = 36;
+    private static final int DEPRECATED = 37;
+
+    private PackedFields fields = new PackedFields();
 
     public SchemaImpl() {
 
     }
 
     public SchemaImpl(String name) {
-        this.name = name;
+        fields.set(NAME, name);
+    }
+
+    /**
+     * Share the properties of the prototype with this schema if this schema does
+     * not yet have any properties set. The storage is shared until either schema
+     * is modified, at which point the modified schema takes a private copy. Values
+     * held by the prototype (e.g. an external documentation object) are frozen
+     * (see {@link FreezeUtil}) and are only replaced with modifiable copies along
+     * with that private copy, which is also taken when such a value is read, so
+     * that it may be modified like the value of any other schema.
+     *
+     * @param prototype schema with the properties to share
+     * @return true if the properties of the prototype were adopted, otherwise false
+     */
+    public boolean shareProperties(SchemaImpl prototype) {
+        checkFrozen();
+        if (fields.size() > 0) {
+            return false;
+        }
+        fields = prototype.freezeProperties().fields;
+        return true;
+    }
+
+    /**
+     * Make the properties currently set on this schema immutable so that they
+     * may be shared with other schemas using {@link #shareProperties(SchemaImpl)}.
+     * Model objects, lists and maps held by the properties are replaced with
+     * frozen copies. This schema remains modifiable, taking a private copy of its
+     * properties on the first modification.
+     *
+     * @return this schema
+     */
+    public SchemaImpl freezeProperties() {
+        if (!fields.isFrozen()) {
+            fields = fields.freeze(FreezeUtil::freezeValue);
+        }
+        return this;
+    }
+
+    private PackedFields writable() {
+        checkFrozen();
+        if (fields.isFrozen()) {
+            fields = fields.copy(SchemaImpl::thaw);
+        }
+        return fields;
+    }
+
+    /**
+     * @return the value of a property, taking a private copy of shared storage first
+     *         if the value is a model object, list or map, so that it is modifiable
+     *         unless this schema is frozen
+     */
+    private <T> T getModifiable(int index) {
+        if (fields.isFrozen() && !isFrozen() && isStructured(fields.get(index))) {
+            writable();
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * @return a modifiable copy of a model object, list or map held in shared storage
+     */
+    private static Object thaw(Object value) {
+        return isStructured(value) ? CopyUtil.deepCopy(value) : value;
+    }
+
+    private static boolean isStructured(Object value) {
+        return value instanceof Constructible || value instanceof List || value instanceof Map;
     }
 
     public String getName() {
-        return name;
+        return fields.get(NAME);
     }
 
     public void setName(String name) {
-        this.name = name;
+        writable().set(NAME, name);
     }
 
     /**
@@ -81,7 +156,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getRef() {
-        return this.$ref;
+        return fields.get(REF);
     }
 
     /**
@@ -92,7 +167,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_SCHEMA + ref;
         }
-        this.$ref = ref;
+        writable().set(REF, ref);
     }
 
     /**
@@ -100,7 +175,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Discriminator getDiscriminator() {
-        return this.discriminator;
+        return getModifiable(DISCRIMINATOR);
     }
 
     /**
@@ -108,7 +183,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDiscriminator(Discriminator discriminator) {
-        this.discriminator = discriminator;
+        writable().set(DISCRIMINATOR, discriminator);
     }
 
     /**
@@ -116,7 +191,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getTitle() {
-        return this.title;
+        return fields.get(TITLE);
     }
 
     /**
@@ -124,7 +199,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setTitle(String title) {
-        this.title = title;
+        writable().set(TITLE, title);
     }
 
     /**
@@ -132,7 +207,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getDefaultValue() {
-        return this.defaultValue;
+        return getModifiable(DEFAULT_VALUE);
     }
 
     /**
@@ -140,7 +215,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDefaultValue(Object defaultValue) {
-        this.defaultValue = defaultValue;
+        writable().set(DEFAULT_VALUE, defaultValue);
     }
 
     /**
@@ -148,7 +223,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Object> getEnumeration() {
-        return ModelUtil.unmodifiableList(this.enumeration);
+        return ModelUtil.unmodifiableList(getModifiable(ENUMERATION));
     }
 
     /**
@@ -156,7 +231,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setEnumeration(List<Object> enumeration) {
-        this.enumeration = ModelUtil.replace(enumeration, ArrayList<Object>::new);
+        writable().set(ENUMERATION, ModelUtil.replace(enumeration, ArrayList<Object>::new));
     }
 
     /**
@@ -164,7 +239,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addEnumeration(Object enumeration) {
-        this.enumeration = ModelUtil.add(enumeration, this.enumeration, ArrayList<Object>::new);
+        writable().set(ENUMERATION, ModelUtil.add(enumeration, fields.get(ENUMERATION), ArrayList<Object>::new));
         return this;
     }
 
@@ -173,7 +248,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeEnumeration(Object enumeration) {
-        ModelUtil.remove(this.enumeration, enumeration);
+        ModelUtil.remove(writable().<List<Object>> get(ENUMERATION), enumeration);
     }
 
     /**
@@ -181,7 +256,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMultipleOf() {
-        return this.multipleOf;
+        return fields.get(MULTIPLE_OF);
     }
 
     /**
@@ -189,7 +264,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMultipleOf(BigDecimal multipleOf) {
-        this.multipleOf = multipleOf;
+        writable().set(MULTIPLE_OF, multipleOf);
     }
 
     /**
@@ -197,7 +272,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMaximum() {
-        return this.maximum;
+        return fields.get(MAXIMUM);
     }
 
     /**
@@ -205,7 +280,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaximum(BigDecimal maximum) {
-        this.maximum = maximum;
+        writable().set(MAXIMUM, maximum);
     }
 
     /**
@@ -213,7 +288,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMaximum() {
-        return this.exclusiveMaximum;
+        return fields.get(EXCLUSIVE_MAXIMUM);
     }
 
     /**
@@ -221,7 +296,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExclusiveMaximum(Boolean exclusiveMaximum) {
-        this.exclusiveMaximum = exclusiveMaximum;
+        writable().set(EXCLUSIVE_MAXIMUM, exclusiveMaximum);
     }
 
     /**
@@ -229,7 +304,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMinimum() {
-        return this.minimum;
+        return fields.get(MINIMUM);
     }
 
     /**
@@ -237,7 +312,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinimum(BigDecimal minimum) {
-        this.minimum = minimum;
+        writable().set(MINIMUM, minimum);
     }
 
     /**
@@ -245,7 +320,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMinimum() {
-        return this.exclusiveMinimum;
+        return fields.get(EXCLUSIVE_MINIMUM);
     }
 
     /**
@@ -253,7 +328,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExclusiveMinimum(Boolean exclusiveMinimum) {
-        this.exclusiveMinimum = exclusiveMinimum;
+        writable().set(EXCLUSIVE_MINIMUM, exclusiveMinimum);
     }
 
     /**
@@ -261,7 +336,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxLength() {
-        return this.maxLength;
+        return fields.get(MAX_LENGTH);
     }
 
     /**
@@ -269,7 +344,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxLength(Integer maxLength) {
-        this.maxLength = maxLength;
+        writable().set(MAX_LENGTH, maxLength);
     }
 
     /**
@@ -277,7 +352,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinLength() {
-        return this.minLength;
+        return fields.get(MIN_LENGTH);
     }
 
     /**
@@ -285,7 +360,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinLength(Integer minLength) {
-        this.minLength = minLength;
+        writable().set(MIN_LENGTH, minLength);
     }
 
     /**
@@ -293,7 +368,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getPattern() {
-        return this.pattern;
+        return fields.get(PATTERN);
     }
 
     /**
@@ -301,7 +376,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setPattern(String pattern) {
-        this.pattern = pattern;
+        writable().set(PATTERN, pattern);
     }
 
     /**
@@ -309,7 +384,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxItems() {
-        return this.maxItems;
+        return fields.get(MAX_ITEMS);
     }
 
     /**
@@ -317,7 +392,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxItems(Integer maxItems) {
-        this.maxItems = maxItems;
+        writable().set(MAX_ITEMS, maxItems);
     }
 
     /**
@@ -325,7 +400,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinItems() {
-        return this.minItems;
+        return fields.get(MIN_ITEMS);
     }
 
     /**
@@ -333,7 +408,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinItems(Integer minItems) {
-        this.minItems = minItems;
+        writable().set(MIN_ITEMS, minItems);
     }
 
     /**
@@ -341,7 +416,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getUniqueItems() {
-        return this.uniqueItems;
+        return fields.get(UNIQUE_ITEMS);
     }
 
     /**
@@ -349,7 +424,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setUniqueItems(Boolean uniqueItems) {
-        this.uniqueItems = uniqueItems;
+        writable().set(UNIQUE_ITEMS, uniqueItems);
     }
 
     /**
@@ -357,7 +432,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxProperties() {
-        return this.maxProperties;
+        return fields.get(MAX_PROPERTIES);
     }
 
     /**
@@ -365,7 +440,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMaxProperties(Integer maxProperties) {
-        this.maxProperties = maxProperties;
+        writable().set(MAX_PROPERTIES, maxProperties);
     }
 
     /**
@@ -373,7 +448,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinProperties() {
-        return this.minProperties;
+        return fields.get(MIN_PROPERTIES);
     }
 
     /**
@@ -381,7 +456,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setMinProperties(Integer minProperties) {
-        this.minProperties = minProperties;
+        writable().set(MIN_PROPERTIES, minProperties);
     }
 
     /**
@@ -389,7 +464,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<String> getRequired() {
-        return ModelUtil.unmodifiableList(this.required);
+        return ModelUtil.unmodifiableList(fields.get(REQUIRED));
     }
 
     /**
@@ -397,7 +472,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setRequired(List<String> required) {
-        this.required = ModelUtil.replace(required, ArrayList<String>::new);
+        writable().set(REQUIRED, ModelUtil.replace(required, ArrayList<String>::new));
     }
 
     /**
@@ -405,7 +480,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addRequired(String required) {
-        this.required = ModelUtil.add(required, this.required, ArrayList<String>::new);
+        writable().set(REQUIRED, ModelUtil.add(required, fields.get(REQUIRED), ArrayList<String>::new));
         return this;
     }
 
@@ -414,7 +489,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeRequired(String required) {
-        ModelUtil.remove(this.required, required);
+        ModelUtil.remove(writable().<List<String>> get(REQUIRED), required);
     }
 
     /**
@@ -422,7 +497,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public SchemaType getType() {
-        return this.type;
+        return fields.get(TYPE);
     }
 
     /**
@@ -430,7 +505,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setType(SchemaType type) {
-        this.type = type;
+        writable().set(TYPE, type);
     }
 
     /**
@@ -438,7 +513,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getNot() {
-        return this.not;
+        return getModifiable(NOT);
     }
 
     /**
@@ -446,7 +521,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setNot(Schema not) {
-        this.not = not;
+        writable().set(NOT, not);
     }
 
     /**
@@ -454,7 +529,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Map<String, Schema> getProperties() {
-        return ModelUtil.unmodifiableMap(this.properties);
+        return ModelUtil.unmodifiableMap(getModifiable(PROPERTIES));
     }
 
     /**
@@ -462,7 +537,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setProperties(Map<String, Schema> properties) {
-        this.properties = ModelUtil.replace(properties, LinkedHashMap<String, Schema>::new);
+        writable().set(PROPERTIES, ModelUtil.replace(properties, SmallMap<String, Schema>::new));
     }
 
     /**
@@ -471,7 +546,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addProperty(String key, Schema propertySchema) {
-        this.properties = ModelUtil.add(key, propertySchema, this.properties, LinkedHashMap<String, Schema>::new);
+        writable().set(PROPERTIES, ModelUtil.add(key, propertySchema, fields.get(PROPERTIES), SmallMap<String, Schema>::new));
         return this;
     }
 
@@ -480,17 +555,17 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeProperty(String key) {
-        ModelUtil.remove(this.properties, key);
+        ModelUtil.remove(writable().<Map<String, Schema>> get(PROPERTIES), key);
     }
 
     @Override
     public Schema getAdditionalPropertiesSchema() {
-        return this.additionalPropertiesSchema;
+        return getModifiable(ADDITIONAL_PROPERTIES_SCHEMA);
     }
 
     @Override
     public Boolean getAdditionalPropertiesBoolean() {
-        return this.additionalPropertiesBoolean;
+        return fields.get(ADDITIONAL_PROPERTIES_BOOLEAN);
     }
 
     /**
@@ -498,8 +573,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAdditionalPropertiesSchema(Schema additionalProperties) {
-        this.additionalPropertiesBoolean = null;
-        this.additionalPropertiesSchema = additionalProperties;
+        writable().set(ADDITIONAL_PROPERTIES_BOOLEAN, null);
+        writable().set(ADDITIONAL_PROPERTIES_SCHEMA, additionalProperties);
     }
 
     /**
@@ -507,8 +582,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAdditionalPropertiesBoolean(Boolean additionalProperties) {
-        this.additionalPropertiesSchema = null;
-        this.additionalPropertiesBoolean = additionalProperties;
+        writable().set(ADDITIONAL_PROPERTIES_SCHEMA, null);
+        writable().set(ADDITIONAL_PROPERTIES_BOOLEAN, additionalProperties);
     }
 
     /**
@@ -516,7 +591,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return fields.get(DESCRIPTION);
     }
 
     /**
@@ -524,7 +599,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDescription(String description) {
-        this.description = description;
+        writable().set(DESCRIPTION, description);
     }
 
     /**
@@ -532,7 +607,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getFormat() {
-        return this.format;
+        return fields.get(FORMAT);
     }
 
     /**
@@ -540,7 +615,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setFormat(String format) {
-        this.format = format;
+        writable().set(FORMAT, format);
     }
 
     /**
@@ -548,7 +623,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getNullable() {
-        return this.nullable;
+        return fields.get(NULLABLE);
     }
 
     /**
@@ -556,7 +631,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setNullable(Boolean nullable) {
-        this.nullable = nullable;
+        writable().set(NULLABLE, nullable);
     }
 
     /**
@@ -564,7 +639,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getReadOnly() {
-        return this.readOnly;
+        return fields.get(READ_ONLY);
     }
 
     /**
@@ -572,7 +647,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setReadOnly(Boolean readOnly) {
-        this.readOnly = readOnly;
+        writable().set(READ_ONLY, readOnly);
     }
 
     /**
@@ -580,7 +655,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getWriteOnly() {
-        return this.writeOnly;
+        return fields.get(WRITE_ONLY);
     }
 
     /**
@@ -588,7 +663,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setWriteOnly(Boolean writeOnly) {
-        this.writeOnly = writeOnly;
+        writable().set(WRITE_ONLY, writeOnly);
     }
 
     /**
@@ -596,7 +671,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getExample() {
-        return this.example;
+        return getModifiable(EXAMPLE);
     }
 
     /**
@@ -604,7 +679,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExample(Object example) {
-        this.example = example;
+        writable().set(EXAMPLE, example);
     }
 
     /**
@@ -612,7 +687,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public ExternalDocumentation getExternalDocs() {
-        return this.externalDocs;
+        return getModifiable(EXTERNAL_DOCS);
     }
 
     /**
@@ -620,7 +695,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
-        this.externalDocs = externalDocs;
+        writable().set(EXTERNAL_DOCS, externalDocs);
     }
 
     /**
@@ -628,7 +703,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return fields.get(DEPRECATED);
     }
 
     /**
@@ -636,7 +711,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
-        this.deprecated = deprecated;
+        writable().set(DEPRECATED, deprecated);
     }
 
     /**
@@ -644,7 +719,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public XML getXml() {
-        return this.xml;
+        return getModifiable(XML_OBJECT);
     }
 
     /**
@@ -652,7 +727,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setXml(XML xml) {
-        this.xml = xml;
+        writable().set(XML_OBJECT, xml);
     }
 
     /**
@@ -660,7 +735,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getItems() {
-        return this.items;
+        return getModifiable(ITEMS);
     }
 
     /**
@@ -668,7 +743,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setItems(Schema items) {
-        this.items = items;
+        writable().set(ITEMS, items);
     }
 
     /**
@@ -676,7 +751,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAllOf() {
-        return ModelUtil.unmodifiableList(this.allOf);
+        return ModelUtil.unmodifiableList(getModifiable(ALL_OF));
     }
 
     /**
@@ -684,7 +759,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAllOf(List<Schema> allOf) {
-        this.allOf = ModelUtil.replace(allOf, ArrayList<Schema>::new);
+        writable().set(ALL_OF, ModelUtil.replace(allOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -692,7 +767,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addAllOf(Schema allOf) {
-        this.allOf = ModelUtil.add(allOf, this.allOf, ArrayList<Schema>::new);
+        writable().set(ALL_OF, ModelUtil.add(allOf, fields.get(ALL_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -701,7 +776,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeAllOf(Schema allOf) {
-        ModelUtil.remove(this.allOf, allOf);
+        ModelUtil.remove(writable().<List<Schema>> get(ALL_OF), allOf);
     }
 
     /**
@@ -709,7 +784,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAnyOf() {
-        return ModelUtil.unmodifiableList(this.anyOf);
+        return ModelUtil.unmodifiableList(getModifiable(ANY_OF));
     }
 
     /**
@@ -717,7 +792,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setAnyOf(List<Schema> anyOf) {
-        this.anyOf = ModelUtil.replace(anyOf, ArrayList<Schema>::new);
+        writable().set(ANY_OF, ModelUtil.replace(anyOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -725,7 +800,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addAnyOf(Schema anyOf) {
-        this.anyOf = ModelUtil.add(anyOf, this.anyOf, ArrayList<Schema>::new);
+        writable().set(ANY_OF, ModelUtil.add(anyOf, fields.get(ANY_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -734,7 +809,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeAnyOf(Schema anyOf) {
-        ModelUtil.remove(this.anyOf, anyOf);
+        ModelUtil.remove(writable().<List<Schema>> get(ANY_OF), anyOf);
     }
 
     /**
@@ -742,7 +817,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getOneOf() {
-        return ModelUtil.unmodifiableList(this.oneOf);
+        return ModelUtil.unmodifiableList(getModifiable(ONE_OF));
     }
 
     /**
@@ -750,7 +825,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void setOneOf(List<Schema> oneOf) {
-        this.oneOf = ModelUtil.replace(oneOf, ArrayList<Schema>::new);
+        writable().set(ONE_OF, ModelUtil.replace(oneOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -758,7 +833,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema addOneOf(Schema oneOf) {
-        this.oneOf = ModelUtil.add(oneOf, this.oneOf, ArrayList<Schema>::new);
+        writable().set(ONE_OF, ModelUtil.add(oneOf, fields.get(ONE_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -767,7 +842,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public void removeOneOf(Schema oneOf) {
-        ModelUtil.remove(this.oneOf, oneOf);
+        ModelUtil.remove(writable().<List<Schema>> get(ONE_OF), oneOf);
     }
 
 }
@@ -29,6 +29,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setName(String name) {
+        checkFrozen();
         this.name = name;
     }
 
@@ -45,6 +46,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setNamespace(String namespace) {
+        checkFrozen();
         this.namespace = namespace;
     }
 
@@ -61,6 +63,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setPrefix(String prefix) {
+        checkFrozen();
         this.prefix = prefix;
     }
 
@@ -77,6 +80,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setAttribute(Boolean attribute) {
+        checkFrozen();
         this.attribute = attribute;
     }
 
@@ -93,6 +97,7 @@ public class XMLImpl extends ExtensibleImpl<XML> implements XML, ModelImpl {
      */
     @Override
     public void setWrapped(Boolean wrapped) {
+        checkFrozen();
         this.wrapped = wrapped;
     }
 
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.parameters;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
@@ -11,6 +10,8 @@ import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.PackedFields;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -18,27 +19,30 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class ParameterImpl extends ExtensibleImpl<Parameter> implements Parameter, ModelImpl {
 
-    private String $ref;
-    private String name;
-    private In in;
-    private String description;
-    private Boolean required;
-    private Schema schema;
-    private Boolean allowEmptyValue;
-    private Boolean deprecated;
-    private Style style;
-    private Boolean explode;
-    private Boolean allowReserved;
-    private Object example;
-    private Map<String, Example> examples;
-    private Content content;
+    // Indexes of the properties held in the packed fields storage
+    private static final int REF = 0;
+    private static final int NAME = 1;
+    private static final int IN = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int REQUIRED = 4;
+    private static final int SCHEMA = 5;
+    private static final int ALLOW_EMPTY_VALUE = 6;
+    private static final int DEPRECATED = 7;
+    private static final int STYLE = 8;
+    private static final int EXPLODE = 9;
+    private static final int ALLOW_RESERVED = 10;
+    private static final int EXAMPLE = 11;
+    private static final int EXAMPLES = 12;
+    private static final int CONTENT = 13;
+
+    private final PackedFields fields = new PackedFields();
 
     /**
      * @see org.eclipse.microprofile.openapi.models.Reference#getRef()
      */
     @Override
     public String getRef() {
-        return this.$ref;
+        return fields.get(REF);
     }
 
     /**
@@ -46,10 +50,11 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_PARAMETER + ref;
         }
-        this.$ref = ref;
+        fields.set(REF, ref);
     }
 
     /**
@@ -57,7 +62,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public String getName() {
-        return this.name;
+        return fields.get(NAME);
     }
 
     /**
@@ -65,7 +70,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setName(String name) {
-        this.name = name;
+        checkFrozen();
+        fields.set(NAME, name);
     }
 
     /**
@@ -73,7 +79,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return fields.get(DESCRIPTION);
     }
 
     /**
@@ -81,7 +87,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setDescription(String description) {
-        this.description = description;
+        checkFrozen();
+        fields.set(DESCRIPTION, description);
     }
 
     /**
@@ -89,7 +96,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Boolean getRequired() {
-        return this.required;
+        return fields.get(REQUIRED);
     }
 
     /**
@@ -97,7 +104,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setRequired(Boolean required) {
-        this.required = required;
+        checkFrozen();
+        fields.set(REQUIRED, required);
     }
 
     /**
@@ -105,7 +113,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return fields.get(DEPRECATED);
     }
 
     /**
@@ -113,7 +121,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setDeprecated(Boolean deprecated) {
-        this.deprecated = deprecated;
+        checkFrozen();
+        fields.set(DEPRECATED, deprecated);
     }
 
     /**
@@ -121,7 +130,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Boolean getAllowEmptyValue() {
-        return this.allowEmptyValue;
+        return fields.get(ALLOW_EMPTY_VALUE);
     }
 
     /**
@@ -129,7 +138,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setAllowEmptyValue(Boolean allowEmptyValue) {
-        this.allowEmptyValue = allowEmptyValue;
+        checkFrozen();
+        fields.set(ALLOW_EMPTY_VALUE, allowEmptyValue);
     }
 
     /**
@@ -137,7 +147,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Style getStyle() {
-        return this.style;
+        return fields.get(STYLE);
     }
 
     /**
@@ -145,7 +155,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setStyle(Style style) {
-        this.style = style;
+        checkFrozen();
+        fields.set(STYLE, style);
     }
 
     /**
@@ -153,7 +164,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Boolean getExplode() {
-        return this.explode;
+        return fields.get(EXPLODE);
     }
 
     /**
@@ -161,7 +172,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExplode(Boolean explode) {
-        this.explode = explode;
+        checkFrozen();
+        fields.set(EXPLODE, explode);
     }
 
     /**
@@ -169,7 +181,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Boolean getAllowReserved() {
-        return this.allowReserved;
+        return fields.get(ALLOW_RESERVED);
     }
 
     /**
@@ -177,7 +189,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setAllowReserved(Boolean allowReserved) {
-        this.allowReserved = allowReserved;
+        checkFrozen();
+        fields.set(ALLOW_RESERVED, allowReserved);
     }
 
     /**
@@ -185,7 +198,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Schema getSchema() {
-        return this.schema;
+        return fields.get(SCHEMA);
     }
 
     /**
@@ -193,7 +206,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setSchema(Schema schema) {
-        this.schema = schema;
+        checkFrozen();
+        fields.set(SCHEMA, schema);
     }
 
     /**
@@ -201,7 +215,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Map<String, Example> getExamples() {
-        return ModelUtil.unmodifiableMap(this.examples);
+        return ModelUtil.unmodifiableMap(fields.get(EXAMPLES));
     }
 
     /**
@@ -209,7 +223,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
-        this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        fields.set(EXAMPLES, ModelUtil.replace(examples, SmallMap<String, Example>::new));
     }
 
     /**
@@ -218,7 +233,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Parameter addExample(String key, Example example) {
-        this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
+        checkFrozen();
+        fields.set(EXAMPLES, ModelUtil.add(key, example, fields.get(EXAMPLES), SmallMap<String, Example>::new));
         return this;
     }
 
@@ -227,7 +243,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void removeExample(String key) {
-        ModelUtil.remove(this.examples, key);
+        checkFrozen();
+        ModelUtil.remove(fields.<Map<String, Example>> get(EXAMPLES), key);
     }
 
     /**
@@ -235,7 +252,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Object getExample() {
-        return this.example;
+        return fields.get(EXAMPLE);
     }
 
     /**
@@ -243,7 +260,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setExample(Object example) {
-        this.example = example;
+        checkFrozen();
+        fields.set(EXAMPLE, example);
     }
 
     /**
@@ -251,7 +269,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public Content getContent() {
-        return this.content;
+        return fields.get(CONTENT);
     }
 
     /**
@@ -259,7 +277,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setContent(Content content) {
-        this.content = content;
+        checkFrozen();
+        fields.set(CONTENT, content);
     }
 
     /**
@@ -267,7 +286,7 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public In getIn() {
-        return in;
+        return fields.get(IN);
     }
 
     /**
@@ -275,10 +294,11 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
      */
     @Override
     public void setIn(In in) {
+        checkFrozen();
         if (in == In.PATH) {
-            this.required = true;
+            fields.set(REQUIRED, true);
         }
-        this.in = in;
+        fields.set(IN, in);
     }
 
     public static boolean isHidden(Parameter parameter) {
@@ -297,4 +317,4 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
     }
 
     public static final String HIDDEN = "smallrye.internal.hidden";
-}
\ No newline at end of file
+}
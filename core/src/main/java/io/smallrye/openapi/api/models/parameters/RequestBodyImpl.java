@@ -30,6 +30,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_REQUEST_BODY + ref;
         }
@@ -49,6 +50,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -65,6 +67,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setContent(Content content) {
+        checkFrozen();
         this.content = content;
     }
 
@@ -81,6 +84,7 @@ public class RequestBodyImpl extends ExtensibleImpl<RequestBody> implements Requ
      */
     @Override
     public void setRequired(Boolean required) {
+        checkFrozen();
         this.required = required;
     }
 
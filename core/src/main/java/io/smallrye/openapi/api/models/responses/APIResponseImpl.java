@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.responses;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
@@ -11,6 +10,7 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -37,6 +37,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_API_RESPONSE + ref;
         }
@@ -56,6 +57,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -72,7 +74,8 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
-        this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
+        checkFrozen();
+        this.headers = ModelUtil.replace(headers, SmallMap<String, Header>::new);
     }
 
     /**
@@ -81,7 +84,8 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addHeader(String name, Header header) {
-        this.headers = ModelUtil.add(name, header, this.headers, LinkedHashMap<String, Header>::new);
+        checkFrozen();
+        this.headers = ModelUtil.add(name, header, this.headers, SmallMap<String, Header>::new);
         return this;
     }
 
@@ -90,6 +94,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void removeHeader(String name) {
+        checkFrozen();
         ModelUtil.remove(this.headers, name);
     }
 
@@ -106,6 +111,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setContent(Content content) {
+        checkFrozen();
         this.content = content;
     }
 
@@ -122,7 +128,8 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setLinks(Map<String, Link> links) {
-        this.links = ModelUtil.replace(links, LinkedHashMap<String, Link>::new);
+        checkFrozen();
+        this.links = ModelUtil.replace(links, SmallMap<String, Link>::new);
     }
 
     /**
@@ -131,7 +138,8 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addLink(String name, Link link) {
-        this.links = ModelUtil.add(name, link, this.links, LinkedHashMap<String, Link>::new);
+        checkFrozen();
+        this.links = ModelUtil.add(name, link, this.links, SmallMap<String, Link>::new);
         return this;
     }
 
@@ -140,6 +148,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void removeLink(String name) {
+        checkFrozen();
         ModelUtil.remove(this.links, name);
     }
 
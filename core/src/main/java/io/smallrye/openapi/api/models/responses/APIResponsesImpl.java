@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.responses;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
@@ -9,6 +8,7 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -24,7 +24,8 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public APIResponses addAPIResponse(String name, APIResponse apiResponse) {
-        this.apiResponses = ModelUtil.add(name, apiResponse, this.apiResponses, LinkedHashMap<String, APIResponse>::new);
+        checkFrozen();
+        this.apiResponses = ModelUtil.add(name, apiResponse, this.apiResponses, SmallMap<String, APIResponse>::new);
         return this;
     }
 
@@ -33,6 +34,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public void removeAPIResponse(String name) {
+        checkFrozen();
         ModelUtil.remove(this.apiResponses, name);
     }
 
@@ -43,7 +45,8 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public void setAPIResponses(Map<String, APIResponse> items) {
-        this.apiResponses = ModelUtil.replace(items, LinkedHashMap<String, APIResponse>::new);
+        checkFrozen();
+        this.apiResponses = ModelUtil.replace(items, SmallMap<String, APIResponse>::new);
     }
 
     /**
@@ -59,6 +62,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public void setDefaultValue(APIResponse defaultValue) {
+        checkFrozen();
         if (defaultValue == null) {
             removeAPIResponse(DEFAULT);
         } else {
@@ -75,6 +79,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public void setMap(Map<String, APIResponse> map) {
+        checkFrozen();
         this.apiResponses = map;
     }
 
@@ -90,16 +95,19 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public APIResponse put(String key, APIResponse value) {
+        checkFrozen();
         return MapModel.super.put(key, value);
     }
 
     @Override
     public void putAll(Map<? extends String, ? extends APIResponse> m) {
+        checkFrozen();
         MapModel.super.putAll(m);
     }
 
     @Override
     public APIResponse remove(Object key) {
+        checkFrozen();
         return MapModel.super.remove(key);
     }
 
@@ -33,6 +33,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setAuthorizationUrl(String authorizationUrl) {
+        checkFrozen();
         this.authorizationUrl = authorizationUrl;
     }
 
@@ -49,6 +50,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setTokenUrl(String tokenUrl) {
+        checkFrozen();
         this.tokenUrl = tokenUrl;
     }
 
@@ -65,6 +67,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setRefreshUrl(String refreshUrl) {
+        checkFrozen();
         this.refreshUrl = refreshUrl;
     }
 
@@ -83,6 +86,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     // TODO: @Override for MicroProfile OpenAPI 2.0 (and restore JavaDoc comment)
     public void setScopes(Map<String, String> scopes) {
+        checkFrozen();
         //this.scopes = ModelUtil.replace(scopes, LinkedHashMap<String, String>::new);
         if (scopes == null) {
             this.scopes = null;
@@ -96,6 +100,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     // TODO: @Override for MicroProfile OpenAPI 2.0 (and restore JavaDoc comment)
     public OAuthFlow addScope(String scope, String description) {
+        checkFrozen();
         // this.scopes = ModelUtil.add(scope, description, this.scopes, LinkedHashMap<String, String>::new);
         if (scope == null) {
             return this;
@@ -112,12 +117,14 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     // TODO: @Override for MicroProfile OpenAPI 2.0 (and restore JavaDoc comment)
     public void removeScope(String scope) {
+        checkFrozen();
         ModelUtil.remove(this.scopes, scope);
     }
 
     @Override
     // TODO: Remove method for MicroProfile OpenAPI 2.0
     public void setScopes(Scopes scopes) {
+        checkFrozen();
         this.scopes = scopes;
     }
 }
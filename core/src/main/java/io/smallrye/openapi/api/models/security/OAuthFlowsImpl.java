@@ -29,6 +29,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setImplicit(OAuthFlow implicit) {
+        checkFrozen();
         this.implicit = implicit;
     }
 
@@ -45,6 +46,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setPassword(OAuthFlow password) {
+        checkFrozen();
         this.password = password;
     }
 
@@ -61,6 +63,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setClientCredentials(OAuthFlow clientCredentials) {
+        checkFrozen();
         this.clientCredentials = clientCredentials;
     }
 
@@ -77,6 +80,7 @@ public class OAuthFlowsImpl extends ExtensibleImpl<OAuthFlows> implements OAuthF
      */
     @Override
     public void setAuthorizationCode(OAuthFlow authorizationCode) {
+        checkFrozen();
         this.authorizationCode = authorizationCode;
     }
 
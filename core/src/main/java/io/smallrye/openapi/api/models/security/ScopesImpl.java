@@ -1,18 +1,18 @@
 package io.smallrye.openapi.api.models.security;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.Scopes;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 
 /**
  * An implementation of the {@link Scopes} OpenAPI model interface.
  */
 //TODO: Remove class for MicroProfile OpenAPI 2.0
-public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes, ModelImpl {
+public class ScopesImpl extends SmallMap<String, String> implements Scopes, ModelImpl {
 
     private static final long serialVersionUID = -6449984041086619713L;
 
@@ -39,11 +39,12 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public Scopes addExtension(String name, Object value) {
+        checkFrozen();
         if (value == null) {
             return this;
         }
         if (extensions == null) {
-            this.extensions = new LinkedHashMap<>();
+            this.extensions = new SmallMap<>();
         }
         this.extensions.put(name, value);
         return this;
@@ -54,6 +55,7 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public void removeExtension(String name) {
+        checkFrozen();
         if (this.extensions != null) {
             this.extensions.remove(name);
         }
@@ -64,7 +66,8 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public void setExtensions(Map<String, Object> extensions) {
-        this.extensions = (extensions == null) ? null : new LinkedHashMap<>(extensions);
+        checkFrozen();
+        this.extensions = (extensions == null) ? null : new SmallMap<>(extensions);
     }
 
     /**
@@ -72,6 +75,7 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public Scopes addScope(String scope, String description) {
+        checkFrozen();
         if (scope == null) {
             return this;
         }
@@ -84,6 +88,7 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public void removeScope(String scope) {
+        checkFrozen();
         this.remove(scope);
     }
 
@@ -100,6 +105,7 @@ public class ScopesImpl extends LinkedHashMap<String, String> implements Scopes,
      */
     @Override
     public void setScopes(Map<String, String> items) {
+        checkFrozen();
         this.clear();
         this.putAll(items);
     }
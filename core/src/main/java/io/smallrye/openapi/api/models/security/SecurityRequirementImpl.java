@@ -1,18 +1,18 @@
 package io.smallrye.openapi.api.models.security;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 
 /**
  * An implementation of the {@link SecurityRequirement} OpenAPI model interface.
  */
-public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>> implements SecurityRequirement, ModelImpl {
+public class SecurityRequirementImpl extends SmallMap<String, List<String>> implements SecurityRequirement, ModelImpl {
 
     private static final long serialVersionUID = -2336114397712664136L;
 
@@ -21,6 +21,7 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
      */
     @Override
     public SecurityRequirement addScheme(String securitySchemeName, String scope) {
+        checkFrozen();
         if (scope == null) {
             this.put(securitySchemeName, Collections.emptyList());
         } else {
@@ -34,6 +35,7 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
      */
     @Override
     public SecurityRequirement addScheme(String securitySchemeName, List<String> scopes) {
+        checkFrozen();
         if (scopes == null) {
             scopes = Collections.emptyList();
         }
@@ -46,6 +48,7 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
      */
     @Override
     public SecurityRequirement addScheme(String securitySchemeName) {
+        checkFrozen();
         this.put(securitySchemeName, Collections.emptyList());
         return this;
     }
@@ -55,6 +58,7 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
      */
     @Override
     public void removeScheme(String securitySchemeName) {
+        checkFrozen();
         this.remove(securitySchemeName);
     }
 
@@ -71,8 +75,9 @@ public class SecurityRequirementImpl extends LinkedHashMap<String, List<String>>
      */
     @Override
     public void setSchemes(Map<String, List<String>> items) {
+        checkFrozen();
         this.clear();
         this.putAll(items);
     }
 
-}
\ No newline at end of file
+}
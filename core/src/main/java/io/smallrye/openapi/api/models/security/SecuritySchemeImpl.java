@@ -35,6 +35,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setRef(String ref) {
+        checkFrozen();
         if (ref != null && !ref.contains("/")) {
             ref = OpenApiConstants.REF_PREFIX_SECURITY_SCHEME + ref;
         }
@@ -54,6 +55,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setType(Type type) {
+        checkFrozen();
         this.type = type;
     }
 
@@ -70,6 +72,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -86,6 +89,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setName(String name) {
+        checkFrozen();
         this.name = name;
     }
 
@@ -102,6 +106,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setIn(In in) {
+        checkFrozen();
         this.in = in;
     }
 
@@ -118,6 +123,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setScheme(String scheme) {
+        checkFrozen();
         this.scheme = scheme;
     }
 
@@ -134,6 +140,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setBearerFormat(String bearerFormat) {
+        checkFrozen();
         this.bearerFormat = bearerFormat;
     }
 
@@ -150,6 +157,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setFlows(OAuthFlows flows) {
+        checkFrozen();
         this.flows = flows;
     }
 
@@ -166,6 +174,7 @@ public class SecuritySchemeImpl extends ExtensibleImpl<SecurityScheme> implement
      */
     @Override
     public void setOpenIdConnectUrl(String openIdConnectUrl) {
+        checkFrozen();
         this.openIdConnectUrl = openIdConnectUrl;
     }
 
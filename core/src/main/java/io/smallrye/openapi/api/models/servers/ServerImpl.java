@@ -34,6 +34,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setUrl(String url) {
+        checkFrozen();
         this.url = url;
     }
 
@@ -50,6 +51,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -69,7 +71,8 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
     @Override
     // TODO: @Override for MicroProfile OpenAPI 2.0
     public void setVariables(Map<String, ServerVariable> variables) {
-        //this.variables = ModelUtil.replace(variables, LinkedHashMap<String, ServerVariable>::new);
+        checkFrozen();
+        //this.variables = ModelUtil.replace(variables, SmallMap<String, ServerVariable>::new);
         if (variables == null) {
             this.variables = null;
         } else {
@@ -82,7 +85,8 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     // TODO: @Override for MicroProfile OpenAPI 2.0 (and restore JavaDoc comment)
     public Server addVariable(String variableName, ServerVariable variable) {
-        //this.variables = ModelUtil.add(variableName, variable, this.variables, LinkedHashMap<String, ServerVariable>::new);
+        checkFrozen();
+        //this.variables = ModelUtil.add(variableName, variable, this.variables, SmallMap<String, ServerVariable>::new);
         if (variableName == null) {
             return this;
         }
@@ -98,12 +102,14 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     // TODO: @Override for MicroProfile OpenAPI 2.0 (and restore JavaDoc comment)
     public void removeVariable(String variableName) {
+        checkFrozen();
         ModelUtil.remove(this.variables, variableName);
     }
 
     @Override
     // TODO: Remove method for MicroProfile OpenAPI 2.0
     public void setVariables(ServerVariables variables) {
+        checkFrozen();
         this.variables = variables;
     }
 }
\ No newline at end of file
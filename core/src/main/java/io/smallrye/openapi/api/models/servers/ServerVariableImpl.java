@@ -31,6 +31,7 @@ public class ServerVariableImpl extends ExtensibleImpl<ServerVariable> implement
      */
     @Override
     public void setEnumeration(List<String> enumeration) {
+        checkFrozen();
         this.enumeration = ModelUtil.replace(enumeration, ArrayList<String>::new);
     }
 
@@ -39,6 +40,7 @@ public class ServerVariableImpl extends ExtensibleImpl<ServerVariable> implement
      */
     @Override
     public ServerVariable addEnumeration(String enumeration) {
+        checkFrozen();
         this.enumeration = ModelUtil.add(enumeration, this.enumeration, ArrayList<String>::new);
         return this;
     }
@@ -48,6 +50,7 @@ public class ServerVariableImpl extends ExtensibleImpl<ServerVariable> implement
      */
     @Override
     public void removeEnumeration(String enumeration) {
+        checkFrozen();
         ModelUtil.remove(this.enumeration, enumeration);
     }
 
@@ -64,6 +67,7 @@ public class ServerVariableImpl extends ExtensibleImpl<ServerVariable> implement
      */
     @Override
     public void setDefaultValue(String defaultValue) {
+        checkFrozen();
         this.defaultValue = defaultValue;
     }
 
@@ -80,6 +84,7 @@ public class ServerVariableImpl extends ExtensibleImpl<ServerVariable> implement
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -1,20 +1,20 @@
 package io.smallrye.openapi.api.models.servers;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariables;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 
 /**
  * An implementation of the {@link ServerVariables} OpenAPI model interface.
  */
 //TODO: Remove class for MicroProfile OpenAPI 2.0
 @Deprecated
-public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> implements ServerVariables, ModelImpl {
+public class ServerVariablesImpl extends SmallMap<String, ServerVariable> implements ServerVariables, ModelImpl {
 
     private static final long serialVersionUID = -7724841358483233927L;
 
@@ -41,11 +41,12 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
      */
     @Override
     public ServerVariables addExtension(String name, Object value) {
+        checkFrozen();
         if (value == null) {
             return this;
         }
         if (extensions == null) {
-            this.extensions = new LinkedHashMap<>();
+            this.extensions = new SmallMap<>();
         }
         this.extensions.put(name, value);
         return this;
@@ -56,6 +57,7 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
      */
     @Override
     public void removeExtension(String name) {
+        checkFrozen();
         if (this.extensions != null) {
             this.extensions.remove(name);
         }
@@ -66,7 +68,8 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
      */
     @Override
     public void setExtensions(Map<String, Object> extensions) {
-        this.extensions = (extensions == null) ? null : new LinkedHashMap<>(extensions);
+        checkFrozen();
+        this.extensions = (extensions == null) ? null : new SmallMap<>(extensions);
     }
 
     /**
@@ -75,6 +78,7 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
      */
     @Override
     public ServerVariables addServerVariable(String name, ServerVariable serverVariable) {
+        checkFrozen();
         if (serverVariable == null) {
             return this;
         }
@@ -87,6 +91,7 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
      */
     @Override
     public void removeServerVariable(String name) {
+        checkFrozen();
         this.remove(name);
     }
 
@@ -100,6 +105,7 @@ public class ServerVariablesImpl extends LinkedHashMap<String, ServerVariable> i
 
     @Override
     public void setServerVariables(Map<String, ServerVariable> items) {
+        checkFrozen();
         this.clear();
         this.putAll(items);
     }
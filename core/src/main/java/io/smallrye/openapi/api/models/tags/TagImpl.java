@@ -28,6 +28,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setName(String name) {
+        checkFrozen();
         this.name = name;
     }
 
@@ -44,6 +45,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setDescription(String description) {
+        checkFrozen();
         this.description = description;
     }
 
@@ -60,6 +62,7 @@ public class TagImpl extends ExtensibleImpl<Tag> implements Tag, ModelImpl {
      */
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
+        checkFrozen();
         this.externalDocs = externalDocs;
     }
 
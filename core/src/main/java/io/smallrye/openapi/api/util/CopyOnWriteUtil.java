@@ -0,0 +1,250 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+/**
+ * Applies an {@link OASFilter} to a document without modifying it, so that several
+ * variants of the same document (e.g. public, partner and internal) may be derived
+ * from one shared base model.
+ *
+ * The filter is given a private copy of the base model (see {@link CopyUtil}), made
+ * of regular model objects which it may modify like any other model. Once the filter
+ * completes, every object of the copy left unchanged by the filter is replaced by the
+ * instance of the base model it was copied from, so the result retains copies of the
+ * objects modified by the filter and their ancestors only, and every other object is
+ * the instance of the base model. The base model is only read, so several variants
+ * may be derived from it concurrently, and may be a frozen model (see
+ * {@link FreezeUtil}).
+ *
+ * Properties of model classes not declared by the MicroProfile OpenAPI model
+ * interfaces are not copied, except for the name of a {@link SchemaImpl}.
+ */
+public class CopyOnWriteUtil {
+
+    private CopyOnWriteUtil() {
+    }
+
+    /**
+     * Apply the given filter to a copy of the given model.
+     *
+     * @param filter OASFilter
+     * @param base the model to filter, not modified
+     * @return the filtered model, sharing the objects not modified by the filter
+     *         with the base model
+     */
+    public static OpenAPI applyFilter(OASFilter filter, OpenAPI base) {
+        if (base == null) {
+            return null;
+        }
+
+        return apply(filter.getClass().getName(), base, copy -> FilterUtil.applyFilter(filter, copy));
+    }
+
+    /**
+     * Apply changes to a copy of the given model.
+     *
+     * @param base the model to change, not modified
+     * @param update the changes, made to the copy given to it
+     * @return the changed model, sharing the objects not modified by the update
+     *         with the base model
+     */
+    public static OpenAPI update(OpenAPI base, Consumer<OpenAPI> update) {
+        if (base == null) {
+            return null;
+        }
+
+        return apply(update.getClass().getName(), base, copy -> {
+            update.accept(copy);
+            return copy;
+        });
+    }
+
+    private static OpenAPI apply(String name, OpenAPI base, UnaryOperator<OpenAPI> function) {
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        OpenAPI copy = (OpenAPI) CopyUtil.copy(base, copies);
+        Reconciliation reconciliation = new Reconciliation(copies);
+        OpenAPI result = (OpenAPI) reconciliation.resolve(function.apply(copy));
+        UtilLogging.log.copyOnWriteApplied(name, copies.size(), reconciliation.retained);
+        return result;
+    }
+
+    /**
+     * Replaces the objects of the copy left unchanged by the filter with the objects
+     * of the base model they were copied from.
+     */
+    private static final class Reconciliation {
+        final Map<Object, Object> origins = new IdentityHashMap<>();
+        final Map<Object, Object> resolved = new IdentityHashMap<>();
+        int retained;
+
+        Reconciliation(Map<Object, Object> copies) {
+            for (Map.Entry<Object, Object> entry : copies.entrySet()) {
+                origins.put(entry.getValue(), entry.getKey());
+            }
+        }
+
+        /**
+         * @return the value with every model object replaced by the object it
+         *         resolves to
+         */
+        Object resolve(Object value) {
+            if (value instanceof Constructible) {
+                Object result = resolved.get(value);
+                if (result == null) {
+                    // A model object reached again through a cycle is kept as is
+                    resolved.put(value, value);
+                    Object origin = origins.get(value);
+                    result = origin != null ? resolveCopy(value, origin) : resolveProperties(value);
+                    resolved.put(value, result);
+                }
+                return result;
+            }
+            if (value instanceof List) {
+                return mapList((List<?>) value);
+            }
+            if (value instanceof Map) {
+                return mapMap((Map<?, ?>) value);
+            }
+            return value;
+        }
+
+        /**
+         * Resolve a model object created by the filter, whose properties may hold
+         * objects of the copy.
+         */
+        private Object resolveProperties(Object model) {
+            ModelType type = ModelType.of(model.getClass());
+            for (int i = 0; i < type.getters.length; i++) {
+                if (type.setters[i] != null) {
+                    Object value = CopyUtil.call(type.getters[i], model);
+                    Object result = resolve(value);
+                    if (result != value) {
+                        CopyUtil.call(type.setters[i], model, result);
+                    }
+                }
+            }
+            return model;
+        }
+
+        /**
+         * Resolve an object of the copy, which is retained only if it or one of its
+         * descendants was modified by the filter.
+         */
+        private Object resolveCopy(Object copy, Object origin) {
+            ModelType type = ModelType.of(copy.getClass());
+            Object[] values = new Object[type.getters.length];
+            boolean changed = copy instanceof SchemaImpl
+                    && !Objects.equals(((SchemaImpl) copy).getName(), ((SchemaImpl) origin).getName());
+
+            for (int i = 0; i < type.getters.length; i++) {
+                if (type.setters[i] != null) {
+                    values[i] = resolve(CopyUtil.call(type.getters[i], copy));
+                    changed = changed || !isSame(values[i], CopyUtil.call(type.getters[i], origin));
+                }
+            }
+
+            if (!changed) {
+                return origin;
+            }
+
+            retained++;
+            for (int i = 0; i < type.getters.length; i++) {
+                if (type.setters[i] != null && !isSame(values[i], CopyUtil.call(type.getters[i], copy))) {
+                    CopyUtil.call(type.setters[i], copy, values[i]);
+                }
+            }
+            return copy;
+        }
+
+        /**
+         * @return the list, or a copy if one of its elements resolves to another object
+         */
+        private Object mapList(List<?> list) {
+            List<Object> result = null;
+            for (int i = 0; i < list.size(); i++) {
+                Object element = list.get(i);
+                Object mapped = resolve(element);
+                if (result == null && mapped != element) {
+                    result = new ArrayList<>(list);
+                }
+                if (result != null) {
+                    result.set(i, mapped);
+                }
+            }
+            return result != null ? result : list;
+        }
+
+        /**
+         * @return the map, or a copy if one of its values resolves to another object
+         */
+        private Object mapMap(Map<?, ?> map) {
+            Map<Object, Object> result = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object mapped = resolve(entry.getValue());
+                if (result == null && mapped != entry.getValue()) {
+                    result = new LinkedHashMap<>(map);
+                }
+                if (result != null) {
+                    result.put(entry.getKey(), mapped);
+                }
+            }
+            return result != null ? result : map;
+        }
+
+        /**
+         * @return true if both values hold the same model objects, in the same order,
+         *         and equal values otherwise
+         */
+        private static boolean isSame(Object value, Object other) {
+            if (value == other) {
+                return true;
+            }
+            if (value instanceof Constructible || other instanceof Constructible) {
+                return false;
+            }
+            if (value instanceof List && other instanceof List) {
+                List<?> a = (List<?>) value;
+                List<?> b = (List<?>) other;
+                if (a.size() != b.size()) {
+                    return false;
+                }
+                for (int i = 0; i < a.size(); i++) {
+                    if (!isSame(a.get(i), b.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (value instanceof Map && other instanceof Map) {
+                Map<?, ?> a = (Map<?, ?>) value;
+                Map<?, ?> b = (Map<?, ?>) other;
+                if (a.size() != b.size()) {
+                    return false;
+                }
+                Iterator<? extends Map.Entry<?, ?>> entries = b.entrySet().iterator();
+                for (Map.Entry<?, ?> entry : a.entrySet()) {
+                    Map.Entry<?, ?> next = entries.next();
+                    if (!entry.getKey().equals(next.getKey()) || !isSame(entry.getValue(), next.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return Objects.equals(value, other);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+/**
+ * Creates deep copies of model objects, so that a model kept as a template (for
+ * example a schema parsed once from the config) can be handed to code that modifies
+ * it without affecting the template.
+ *
+ * Every model object, list and map reachable from the copied object is copied,
+ * and an instance shared by several parents in the source is shared the same way
+ * in the copy. Other values (strings, numbers, ...) are not copied. Properties of
+ * model classes not declared by the MicroProfile OpenAPI model interfaces are not
+ * copied, except for the name of a {@link SchemaImpl}.
+ */
+public class CopyUtil {
+
+    private CopyUtil() {
+    }
+
+    /**
+     * @param model the model object to copy, may be null; a frozen model (see
+     *        {@link FreezeUtil}) is copied into a modifiable one
+     * @param <T> the type of the model object
+     * @return a deep copy of the model object
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T model) {
+        return (T) copy(model, new IdentityHashMap<>());
+    }
+
+    /**
+     * @param copies the copies made so far, by source object; the copies made are added
+     * @return a deep copy of the value
+     */
+    static Object copy(Object value, Map<Object, Object> copies) {
+        if (value instanceof Constructible) {
+            return copyModel(value, copies);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copy(element, copies));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue(), copies));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static Object copyModel(Object model, Map<Object, Object> copies) {
+        Object copy = copies.get(model);
+
+        if (copy == null) {
+            ModelType type = ModelType.of(model.getClass());
+            copy = type.newInstance();
+            copies.put(model, copy);
+
+            for (int i = 0; i < type.getters.length; i++) {
+                if (type.setters[i] != null) {
+                    Object value = call(type.getters[i], model);
+                    // Properties with a default value may be null in the source
+                    if (value != null || call(type.getters[i], copy) != null) {
+                        call(type.setters[i], copy, copy(value, copies));
+                    }
+                }
+            }
+
+            if (model instanceof SchemaImpl) {
+                ((SchemaImpl) copy).setName(((SchemaImpl) model).getName());
+            }
+        }
+
+        return copy;
+    }
+
+    static Object call(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.openapi.api.util;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Wraps an {@link OASFilter} so that {@link FilterUtil} filters each distinct
+ * instance of the model once, even when the instance is shared by several parents
+ * (for example the schema references created by the annotation scanner, or the
+ * objects of a merged static file).
+ *
+ * The first time an instance is found, its children are filtered and the wrapped
+ * filter is called. Each later occurrence is given the result of that call, so a
+ * shared instance rejected by the filter is removed from every parent, without
+ * filtering it or its children again.
+ *
+ * The instances seen are kept by {@link FilterUtil} for one traversal of a model, so
+ * the same wrapper may be used by several traversals at once. The counters describe
+ * the last traversal completed. When the wrapped filter is a {@link ThreadSafeFilter},
+ * the model is filtered in parallel: the wrapped filter is then called once per
+ * instance by the first thread to reach it, the other threads waiting for its result.
+ *
+ * Called directly rather than by {@link FilterUtil}, each method of this filter calls
+ * the wrapped filter.
+ */
+public class DistinctInstanceFilter implements OASFilter {
+
+    private final OASFilter delegate;
+    private long invoked;
+    private long avoided;
+
+    public DistinctInstanceFilter(OASFilter delegate) {
+        this.delegate = delegate;
+    }
+
+    public OASFilter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the number of calls made to the wrapped filter during the last traversal
+     */
+    public synchronized long getInvoked() {
+        return invoked;
+    }
+
+    /**
+     * @return the number of calls avoided during the last traversal, because the
+     *         instance had already been filtered
+     */
+    public synchronized long getAvoided() {
+        return avoided;
+    }
+
+    /**
+     * Record the counters of a completed traversal.
+     */
+    synchronized void traversed(long invoked, long avoided) {
+        this.invoked = invoked;
+        this.avoided = avoided;
+    }
+
+    @Override
+    public PathItem filterPathItem(PathItem pathItem) {
+        return delegate.filterPathItem(pathItem);
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        return delegate.filterOperation(operation);
+    }
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        return delegate.filterParameter(parameter);
+    }
+
+    @Override
+    public Header filterHeader(Header header) {
+        return delegate.filterHeader(header);
+    }
+
+    @Override
+    public RequestBody filterRequestBody(RequestBody requestBody) {
+        return delegate.filterRequestBody(requestBody);
+    }
+
+    @Override
+    public APIResponse filterAPIResponse(APIResponse apiResponse) {
+        return delegate.filterAPIResponse(apiResponse);
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        return delegate.filterSchema(schema);
+    }
+
+    @Override
+    public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+        return delegate.filterSecurityScheme(securityScheme);
+    }
+
+    @Override
+    public Server filterServer(Server server) {
+        return delegate.filterServer(server);
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        return delegate.filterTag(tag);
+    }
+
+    @Override
+    public Link filterLink(Link link) {
+        return delegate.filterLink(link);
+    }
+
+    @Override
+    public Callback filterCallback(Callback callback) {
+        return delegate.filterCallback(callback);
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        delegate.filterOpenAPI(openAPI);
+    }
+}
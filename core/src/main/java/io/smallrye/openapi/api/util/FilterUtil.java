@@ -2,9 +2,16 @@ package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.Components;
@@ -22,10 +29,13 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
-import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
+
 /**
  * @author eric.wittmann@gmail.com
  */
@@ -35,539 +45,686 @@ public class FilterUtil {
     }
 
     /**
-     * Apply the given filter to the given model.
+     * Apply the given filter to the given model. The paths and components of the
+     * model are filtered in parallel if the filter is a {@link ThreadSafeFilter}
+     * (or a {@link DistinctInstanceFilter} wrapping one). Instances shared by several
+     * parents are filtered once if the filter is a {@link DistinctInstanceFilter}, or
+     * if the model is filtered in parallel.
      * 
      * @param filter OASFilter
      * @param model OpenAPI model
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
-        filterComponents(filter, model.getComponents());
-        filterPaths(filter, model.getPaths());
-        filterServers(filter, model.getServers());
-        filterTags(filter, model.getTags());
-        filter.filterOpenAPI(model);
-        return model;
+        DistinctInstanceFilter distinct = filter instanceof DistinctInstanceFilter ? (DistinctInstanceFilter) filter : null;
+        OASFilter delegate = distinct != null ? distinct.getDelegate() : filter;
+        long start = ScanInstrumentation.start(ScanPhase.FILTER, delegate);
+        OpenAPI result = null;
+        try {
+            boolean parallel = delegate instanceof ThreadSafeFilter;
+            // In parallel, an instance shared by several entries is filtered by a single thread
+            Visits visits = distinct != null || parallel ? new Visits(parallel) : null;
+            Traversal traversal = new Traversal(delegate, Changes.IMMEDIATE, visits);
+
+            if (parallel) {
+                filterInParallel(traversal, model);
+            } else {
+                filterComponents(traversal, model.getComponents());
+                filterPaths(traversal, model.getPaths());
+            }
+            filterServers(traversal, model, model.getServers(), OpenAPI::removeServer);
+            filterTags(traversal, model, model.getTags());
+            delegate.filterOpenAPI(model);
+            result = model;
+            if (distinct != null) {
+                long invoked = visits.invoked.get();
+                long avoided = visits.avoided.get();
+                distinct.traversed(invoked, avoided);
+                UtilLogging.log.distinctInstancesFiltered(delegate.getClass().getName(), invoked, avoided);
+            }
+            return result;
+        } finally {
+            ScanInstrumentation.end(ScanPhase.FILTER, delegate, result, start);
+        }
     }
 
     /**
-     * Filters the given model.
+     * Filters the path items and the entries of the components of the given model
+     * on the common {@link ForkJoinPool}, one task per entry. The tasks only read
+     * the model: the changes made by each task, including the removal of the entry
+     * itself when rejected by the filter, are applied once all tasks have completed,
+     * in the order of the model.
      * 
-     * @param filter
+     * @param traversal
      * @param model
      */
-    private static void filterComponents(OASFilter filter, Components model) {
-        if (model != null) {
-            filterCallbacks(filter, model.getCallbacks());
-            filterHeaders(filter, model.getHeaders());
-            filterLinks(filter, model.getLinks());
-            filterParameters(filter, model.getParameters());
-            filterRequestBodies(filter, model.getRequestBodies());
-            filterAPIResponses(filter, model.getResponses());
-            filterSchemas(filter, model.getSchemas());
-            filterSecuritySchemes(filter, model.getSecuritySchemes());
+    private static void filterInParallel(Traversal traversal, OpenAPI model) {
+        List<EntryFilterTask<?, ?>> tasks = new ArrayList<>();
+        Components components = model.getComponents();
+
+        if (components != null) {
+            addTasks(tasks, traversal, components, components.getCallbacks(), Components::removeCallback,
+                    FilterUtil::filterCallback, OASFilter::filterCallback);
+            addTasks(tasks, traversal, components, components.getHeaders(), Components::removeHeader,
+                    FilterUtil::filterHeader, OASFilter::filterHeader);
+            addTasks(tasks, traversal, components, components.getLinks(), Components::removeLink,
+                    FilterUtil::filterLink, OASFilter::filterLink);
+            addTasks(tasks, traversal, components, components.getParameters(), Components::removeParameter,
+                    FilterUtil::filterParameter, OASFilter::filterParameter);
+            addTasks(tasks, traversal, components, components.getRequestBodies(), Components::removeRequestBody,
+                    FilterUtil::filterRequestBody, OASFilter::filterRequestBody);
+            addTasks(tasks, traversal, components, components.getResponses(), Components::removeResponse,
+                    FilterUtil::filterAPIResponse, OASFilter::filterAPIResponse);
+            addTasks(tasks, traversal, components, components.getSchemas(), Components::removeSchema,
+                    FilterUtil::filterSchema, OASFilter::filterSchema);
+            addTasks(tasks, traversal, components, components.getSecuritySchemes(), Components::removeSecurityScheme,
+                    null, OASFilter::filterSecurityScheme);
+        }
+
+        Paths paths = model.getPaths();
+
+        if (paths != null) {
+            addTasks(tasks, traversal, paths, paths.getPathItems(), Paths::removePathItem,
+                    FilterUtil::filterPathItem, OASFilter::filterPathItem);
+        }
+
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+
+        for (EntryFilterTask<?, ?> task : tasks) {
+            task.applyChanges();
         }
     }
 
-    /**
-     * Filters the given models.
-     * 
-     * @param filter
-     * @param models
-     */
-    private static void filterCallbacks(OASFilter filter, Map<String, Callback> models) {
+    private static <P, T> void addTasks(List<EntryFilterTask<?, ?>> tasks, Traversal traversal, P parent,
+            Map<String, T> models, BiConsumer<P, String> remover, BiConsumer<Traversal, T> children,
+            BiFunction<OASFilter, T, T> callback) {
         if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Callback model = models.get(key);
-                filterCallback(filter, model);
-                if (filter.filterCallback(model) == null) {
-                    models.remove(key);
-                }
+            for (Map.Entry<String, T> entry : models.entrySet()) {
+                tasks.add(new EntryFilterTask<>(traversal.deferred(), parent, entry.getKey(), entry.getValue(), remover,
+                        children, callback));
             }
         }
     }
 
     /**
-     * Filters the given model.
-     * 
-     * @param filter
-     * @param model
+     * Changes made to the model while it is filtered, such as the removal of a model
+     * rejected by the filter from its parent. The changes are made immediately when
+     * filtering on a single thread.
      */
-    private static void filterCallback(OASFilter filter, Callback model) {
-        if (model != null) {
-            Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
-            for (String key : keys) {
-                PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
+    private static class Changes {
+        static final Changes IMMEDIATE = new Changes();
+
+        /**
+         * @param model the model to change
+         * @param value the value (or key) passed to the change
+         * @param change the change, e.g. a setter or remove method of the model
+         */
+        <P, V> void apply(P model, V value, BiConsumer<P, V> change) {
+            change.accept(model, value);
+        }
+    }
 
-                if (filter.filterPathItem(childModel) == null) {
-                    model.removePathItem(key);
-                }
+    /**
+     * Changes recorded by a task filtering in parallel with others, so that the
+     * tasks never modify an instance the others may be reading.
+     */
+    private static final class DeferredChanges extends Changes {
+        private final List<Runnable> changes = new ArrayList<>();
+
+        @Override
+        <P, V> void apply(P model, V value, BiConsumer<P, V> change) {
+            changes.add(() -> change.accept(model, value));
+        }
+
+        void applyAll() {
+            for (Runnable change : changes) {
+                change.run();
             }
         }
     }
 
     /**
-     * Filters the given model.
-     * 
-     * @param filter
-     * @param model
+     * The state of one call to {@link FilterUtil#applyFilter(OASFilter, OpenAPI)}, or of
+     * one of its tasks when filtering in parallel: the filter called, where the changes
+     * to the model go, and the instances already visited if each instance is filtered
+     * once.
      */
-    private static void filterPathItem(OASFilter filter, PathItem model) {
-        if (model != null) {
-            model.setParameters(filterParameterList(filter, model.getParameters()));
-            filterOperation(filter, model.getDELETE());
-            if (model.getDELETE() != null) {
-                model.setDELETE(filter.filterOperation(model.getDELETE()));
-            }
-            filterOperation(filter, model.getGET());
-            if (model.getGET() != null) {
-                model.setGET(filter.filterOperation(model.getGET()));
+    private static final class Traversal {
+        final OASFilter filter;
+        final Changes changes;
+        final Visits visits;
+
+        Traversal(OASFilter filter, Changes changes, Visits visits) {
+            this.filter = filter;
+            this.changes = changes;
+            this.visits = visits;
+        }
+
+        /**
+         * @return a traversal of the same model whose changes are deferred
+         */
+        Traversal deferred() {
+            return new Traversal(filter, new DeferredChanges(), visits);
+        }
+
+        /**
+         * Filters the children of a model, then calls the filter for the model itself.
+         *
+         * @param model the model, may be null
+         * @param children filters the children of the model, or null if it has none
+         * @param callback the method of the filter for the model, or null if there is none
+         * @return the result of the filter for the model, or the model itself if there is no method
+         */
+        <T> T filter(T model, BiConsumer<Traversal, T> children, BiFunction<OASFilter, T, T> callback) {
+            if (model == null) {
+                return callback != null ? callback.apply(filter, null) : null;
+            }
+            if (visits != null) {
+                return visits.visit(this, model, children, callback);
+            }
+            if (children != null) {
+                children.accept(this, model);
+            }
+            return callback != null ? callback.apply(filter, model) : model;
+        }
+    }
+
+    /**
+     * The instances visited by a traversal that filters each distinct instance once.
+     *
+     * The first thread to reach an instance owns it: it filters the children, then
+     * calls the filter for the instance. A thread reaching an instance owned by another
+     * waits for the result, unless the owner is itself waiting (directly or not) for an
+     * instance owned by that thread. Such a cycle of instances is then resolved as on a
+     * single thread, by calling the filter for the instance before its children have
+     * been filtered.
+     */
+    private static final class Visits {
+        private static final int STRIPES = 64;
+        private static final long WAIT_MILLIS = 10;
+
+        private final Map<Object, Visit>[] visits;
+        private final Map<Thread, Visit> waiting = new ConcurrentHashMap<>();
+        final AtomicLong invoked = new AtomicLong();
+        final AtomicLong avoided = new AtomicLong();
+
+        @SuppressWarnings("unchecked")
+        Visits(boolean parallel) {
+            visits = new Map[parallel ? STRIPES : 1];
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] = new IdentityHashMap<>();
             }
-            filterOperation(filter, model.getHEAD());
-            if (model.getHEAD() != null) {
-                model.setHEAD(filter.filterOperation(model.getHEAD()));
+        }
+
+        private Visit visitOf(Object model) {
+            Map<Object, Visit> stripe = visits[System.identityHashCode(model) & (visits.length - 1)];
+            synchronized (stripe) {
+                return stripe.computeIfAbsent(model, k -> new Visit());
             }
-            filterOperation(filter, model.getOPTIONS());
-            if (model.getOPTIONS() != null) {
-                model.setOPTIONS(filter.filterOperation(model.getOPTIONS()));
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T visit(Traversal traversal, T model, BiConsumer<Traversal, T> children,
+                BiFunction<OASFilter, T, T> callback) {
+            Visit visit = visitOf(model);
+            Thread current = Thread.currentThread();
+
+            synchronized (visit) {
+                boolean interrupted = false;
+                try {
+                    while (!visit.done) {
+                        if (visit.owner == null) {
+                            visit.owner = current;
+                            break;
+                        }
+                        if (isWaitingFor(visit.owner, current)) {
+                            // Reached again through a cycle, before its children are filtered
+                            return (T) complete(visit, traversal, model, callback);
+                        }
+                        waiting.put(current, visit);
+                        try {
+                            visit.wait(WAIT_MILLIS);
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        } finally {
+                            waiting.remove(current);
+                        }
+                    }
+                } finally {
+                    if (interrupted) {
+                        current.interrupt();
+                    }
+                }
+                if (visit.done) {
+                    return (T) result(visit, callback);
+                }
             }
-            filterOperation(filter, model.getPATCH());
-            if (model.getPATCH() != null) {
-                model.setPATCH(filter.filterOperation(model.getPATCH()));
+
+            try {
+                if (children != null) {
+                    children.accept(traversal, model);
+                }
+                synchronized (visit) {
+                    return (T) (visit.done ? result(visit, callback) : complete(visit, traversal, model, callback));
+                }
+            } finally {
+                synchronized (visit) {
+                    visit.owner = null;
+                    visit.notifyAll();
+                }
             }
-            filterOperation(filter, model.getPOST());
-            if (model.getPOST() != null) {
-                model.setPOST(filter.filterOperation(model.getPOST()));
+        }
+
+        /**
+         * @return true if the thread is the current thread, or waits for an instance
+         *         owned by a thread waiting for the current thread
+         */
+        private boolean isWaitingFor(Thread owner, Thread current) {
+            Thread thread = owner;
+            for (int i = 0; thread != null && i <= waiting.size(); i++) {
+                if (thread == current) {
+                    return true;
+                }
+                Visit awaited = waiting.get(thread);
+                thread = awaited != null ? awaited.owner : null;
             }
-            filterOperation(filter, model.getPUT());
-            if (model.getPUT() != null) {
-                model.setPUT(filter.filterOperation(model.getPUT()));
+            return false;
+        }
+
+        private <T> Object complete(Visit visit, Traversal traversal, T model, BiFunction<OASFilter, T, T> callback) {
+            if (callback != null) {
+                invoked.incrementAndGet();
+                visit.result = callback.apply(traversal.filter, model);
+            } else {
+                visit.result = model;
             }
-            filterOperation(filter, model.getTRACE());
-            if (model.getTRACE() != null) {
-                model.setTRACE(filter.filterOperation(model.getTRACE()));
+            visit.done = true;
+            visit.notifyAll();
+            return visit.result;
+        }
+
+        private Object result(Visit visit, BiFunction<?, ?, ?> callback) {
+            if (callback != null) {
+                avoided.incrementAndGet();
             }
-            filterServers(filter, model.getServers());
+            return visit.result;
         }
     }
 
     /**
-     * Filters the given models.
-     * 
-     * @param filter
-     * @param models
+     * The state of one instance during a traversal, guarded by its own lock.
      */
-    private static List<Parameter> filterParameterList(OASFilter filter, List<Parameter> models) {
-        if (models != null) {
-            models = new ArrayList<>(models);
-            ListIterator<Parameter> iterator = models.listIterator();
-            while (iterator.hasNext()) {
-                Parameter model = iterator.next();
-                filterParameter(filter, model);
-
-                if (filter.filterParameter(model) == null) {
-                    iterator.remove();
-                }
+    private static final class Visit {
+        volatile Thread owner;
+        boolean done;
+        Object result;
+    }
+
+    /**
+     * Filters the model of one map entry, recording the changes to make to the model.
+     */
+    private static final class EntryFilterTask<P, T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Traversal traversal;
+        private final P parent;
+        private final String key;
+        private final T model;
+        private final BiConsumer<P, String> remover;
+        private final BiConsumer<Traversal, T> children;
+        private final BiFunction<OASFilter, T, T> callback;
+        private boolean rejected;
+
+        EntryFilterTask(Traversal traversal, P parent, String key, T model, BiConsumer<P, String> remover,
+                BiConsumer<Traversal, T> children, BiFunction<OASFilter, T, T> callback) {
+            this.traversal = traversal;
+            this.parent = parent;
+            this.key = key;
+            this.model = model;
+            this.remover = remover;
+            this.children = children;
+            this.callback = callback;
+        }
+
+        @Override
+        protected void compute() {
+            rejected = traversal.filter(model, children, callback) == null;
+        }
+
+        void applyChanges() {
+            ((DeferredChanges) traversal.changes).applyAll();
+            if (rejected) {
+                remover.accept(parent, key);
             }
         }
-        return models;
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterOperation(OASFilter filter, Operation model) {
+    private static void filterComponents(Traversal t, Components model) {
         if (model != null) {
-            filterCallbacks(filter, model.getCallbacks());
-            model.setParameters(filterParameterList(filter, model.getParameters()));
-            filterRequestBody(filter, model.getRequestBody());
-            if (model.getRequestBody() != null && filter.filterRequestBody(model.getRequestBody()) == null) {
-                model.setRequestBody(null);
-            }
-            if (model.getResponses() != null) {
-                filterAPIResponses(filter, model.getResponses().getAPIResponses());
-            }
-            filterServers(filter, model.getServers());
+            filterMap(t, model, model.getCallbacks(), Components::removeCallback, FilterUtil::filterCallback,
+                    OASFilter::filterCallback);
+            filterMap(t, model, model.getHeaders(), Components::removeHeader, FilterUtil::filterHeader,
+                    OASFilter::filterHeader);
+            filterMap(t, model, model.getLinks(), Components::removeLink, FilterUtil::filterLink,
+                    OASFilter::filterLink);
+            filterMap(t, model, model.getParameters(), Components::removeParameter, FilterUtil::filterParameter,
+                    OASFilter::filterParameter);
+            filterMap(t, model, model.getRequestBodies(), Components::removeRequestBody,
+                    FilterUtil::filterRequestBody, OASFilter::filterRequestBody);
+            filterMap(t, model, model.getResponses(), Components::removeResponse, FilterUtil::filterAPIResponse,
+                    OASFilter::filterAPIResponse);
+            filterMap(t, model, model.getSchemas(), Components::removeSchema, FilterUtil::filterSchema,
+                    OASFilter::filterSchema);
+            filterMap(t, model, model.getSecuritySchemes(), Components::removeSecurityScheme, null,
+                    OASFilter::filterSecurityScheme);
         }
     }
 
     /**
-     * Filters the given models.
+     * Filters the models of a map, removing those rejected by the filter from their parent.
      * 
-     * @param filter
+     * @param t
+     * @param parent
      * @param models
+     * @param remover
+     * @param children
+     * @param callback
      */
-    private static void filterHeaders(OASFilter filter, Map<String, Header> models) {
+    private static <P, T> void filterMap(Traversal t, P parent, Map<String, T> models, BiConsumer<P, String> remover,
+            BiConsumer<Traversal, T> children, BiFunction<OASFilter, T, T> callback) {
         if (models != null) {
             Collection<String> keys = new ArrayList<>(models.keySet());
             for (String key : keys) {
-                Header model = models.get(key);
-                filterHeader(filter, model);
-
-                if (filter.filterHeader(model) == null) {
-                    models.remove(key);
+                if (t.filter(models.get(key), children, callback) == null) {
+                    t.changes.apply(parent, key, remover);
                 }
             }
         }
     }
 
     /**
-     * Filters the given model.
+     * Filters the models of a list, removing those rejected by the filter from their
+     * parent once the list is no longer being iterated.
      * 
-     * @param filter
-     * @param model
+     * @param t
+     * @param parent
+     * @param models
+     * @param remover
+     * @param children
+     * @param callback
      */
-    private static void filterHeader(OASFilter filter, Header model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filterSchema(filter, model.getSchema());
-            if (model.getSchema() != null && filter.filterSchema(model.getSchema()) == null) {
-                model.setSchema(null);
+    private static <P, T> void filterList(Traversal t, P parent, List<T> models, BiConsumer<P, T> remover,
+            BiConsumer<Traversal, T> children, BiFunction<OASFilter, T, T> callback) {
+        if (models != null) {
+            List<T> rejected = null;
+            for (T model : models) {
+                if (t.filter(model, children, callback) == null) {
+                    rejected = rejected != null ? rejected : new ArrayList<>();
+                    rejected.add(model);
+                }
+            }
+            if (rejected != null) {
+                for (T model : rejected) {
+                    t.changes.apply(parent, model, remover);
+                }
             }
         }
     }
 
     /**
-     * Filters the given model.
+     * Filters a model held by a field of its parent, setting the field to null if the
+     * model is rejected by the filter.
      * 
-     * @param filter
+     * @param t
+     * @param parent
      * @param model
+     * @param setter
+     * @param children
+     * @param callback
      */
-    private static void filterContent(OASFilter filter, Content model) {
-        if (model != null && model.getMediaTypes() != null) {
-            Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
-            for (String key : keys) {
-                MediaType childModel = model.getMediaType(key);
-                filterMediaType(filter, childModel);
-            }
+    private static <P, T> void filterField(Traversal t, P parent, T model, BiConsumer<P, T> setter,
+            BiConsumer<Traversal, T> children, BiFunction<OASFilter, T, T> callback) {
+        if (model != null && t.filter(model, children, callback) == null) {
+            t.changes.apply(parent, null, setter);
         }
     }
 
     /**
-     * Filters the given model.
-     * 
-     * @param filter
-     * @param model
+     * Filters an operation of a path item, setting the operation to the result of the filter.
      */
-    private static void filterMediaType(OASFilter filter, MediaType model) {
+    private static void filterOperation(Traversal t, PathItem parent, Operation model,
+            BiConsumer<PathItem, Operation> setter) {
         if (model != null) {
-            filterEncoding(filter, model.getEncoding());
-            filterSchema(filter, model.getSchema());
-            if (model.getSchema() != null && filter.filterSchema(model.getSchema()) == null) {
-                model.setSchema(null);
-            }
+            t.changes.apply(parent, t.filter(model, FilterUtil::filterOperation, OASFilter::filterOperation), setter);
         }
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterEncoding(OASFilter filter, Map<String, Encoding> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Encoding model = models.get(key);
-                filterEncoding(filter, model);
-            }
-        }
+    private static void filterCallback(Traversal t, Callback model) {
+        filterMap(t, model, model.getPathItems(), Callback::removePathItem, FilterUtil::filterPathItem,
+                OASFilter::filterPathItem);
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterEncoding(OASFilter filter, Encoding model) {
-        if (model != null) {
-            filterHeaders(filter, model.getHeaders());
-        }
+    private static void filterPathItem(Traversal t, PathItem model) {
+        filterList(t, model, model.getParameters(), PathItem::removeParameter, FilterUtil::filterParameter,
+                OASFilter::filterParameter);
+        filterOperation(t, model, model.getDELETE(), PathItem::setDELETE);
+        filterOperation(t, model, model.getGET(), PathItem::setGET);
+        filterOperation(t, model, model.getHEAD(), PathItem::setHEAD);
+        filterOperation(t, model, model.getOPTIONS(), PathItem::setOPTIONS);
+        filterOperation(t, model, model.getPATCH(), PathItem::setPATCH);
+        filterOperation(t, model, model.getPOST(), PathItem::setPOST);
+        filterOperation(t, model, model.getPUT(), PathItem::setPUT);
+        filterOperation(t, model, model.getTRACE(), PathItem::setTRACE);
+        filterServers(t, model, model.getServers(), PathItem::removeServer);
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterLinks(OASFilter filter, Map<String, Link> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Link model = models.get(key);
-                filterLink(filter, model);
-
-                if (filter.filterLink(model) == null) {
-                    models.remove(key);
-                }
-            }
+    private static void filterOperation(Traversal t, Operation model) {
+        filterMap(t, model, model.getCallbacks(), Operation::removeCallback, FilterUtil::filterCallback,
+                OASFilter::filterCallback);
+        filterList(t, model, model.getParameters(), Operation::removeParameter, FilterUtil::filterParameter,
+                OASFilter::filterParameter);
+        filterField(t, model, model.getRequestBody(), Operation::setRequestBody, FilterUtil::filterRequestBody,
+                OASFilter::filterRequestBody);
+        APIResponses responses = model.getResponses();
+        if (responses != null) {
+            filterMap(t, responses, responses.getAPIResponses(), APIResponses::removeAPIResponse,
+                    FilterUtil::filterAPIResponse, OASFilter::filterAPIResponse);
         }
+        filterServers(t, model, model.getServers(), Operation::removeServer);
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterLink(OASFilter filter, Link model) {
-        if (model != null && model.getServer() != null && filter.filterServer(model.getServer()) == null) {
-            model.setServer(null);
-        }
+    private static void filterHeader(Traversal t, Header model) {
+        filterContent(t, model.getContent());
+        filterField(t, model, model.getSchema(), Header::setSchema, FilterUtil::filterSchema, OASFilter::filterSchema);
     }
 
     /**
-     * Filters the given models.
+     * Filters the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterParameters(OASFilter filter, Map<String, Parameter> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Parameter model = models.get(key);
-                filterParameter(filter, model);
-
-                if (filter.filterParameter(model) == null) {
-                    models.remove(key);
-                }
-            }
+    private static void filterContent(Traversal t, Content model) {
+        if (model != null && model.getMediaTypes() != null) {
+            t.filter(model, FilterUtil::filterMediaTypes, null);
         }
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterParameter(OASFilter filter, Parameter model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filterSchema(filter, model.getSchema());
-            if (model.getSchema() != null && filter.filterSchema(model.getSchema()) == null) {
-                model.setSchema(null);
-            }
+    private static void filterMediaTypes(Traversal t, Content model) {
+        Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
+        for (String key : keys) {
+            t.filter(model.getMediaType(key), FilterUtil::filterMediaType, null);
         }
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterRequestBodies(OASFilter filter, Map<String, RequestBody> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
+    private static void filterMediaType(Traversal t, MediaType model) {
+        Map<String, Encoding> encodings = model.getEncoding();
+        if (encodings != null) {
+            Collection<String> keys = new ArrayList<>(encodings.keySet());
             for (String key : keys) {
-                RequestBody model = models.get(key);
-                filterRequestBody(filter, model);
-
-                if (filter.filterRequestBody(model) == null) {
-                    models.remove(key);
-                }
+                t.filter(encodings.get(key), FilterUtil::filterEncoding, null);
             }
         }
+        filterField(t, model, model.getSchema(), MediaType::setSchema, FilterUtil::filterSchema,
+                OASFilter::filterSchema);
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterRequestBody(OASFilter filter, RequestBody model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-        }
-    }
-
-    /**
-     * Filters the given models.
-     * 
-     * @param filter
-     * @param models
-     */
-    private static void filterAPIResponses(OASFilter filter, Map<String, APIResponse> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                APIResponse model = models.get(key);
-                filterAPIResponse(filter, model);
-
-                if (filter.filterAPIResponse(model) == null) {
-                    models.remove(key);
-                }
-            }
-        }
+    private static void filterEncoding(Traversal t, Encoding model) {
+        filterMap(t, model, model.getHeaders(), Encoding::removeHeader, FilterUtil::filterHeader,
+                OASFilter::filterHeader);
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterAPIResponse(OASFilter filter, APIResponse model) {
-        if (model != null) {
-            filterContent(filter, model.getContent());
-            filterHeaders(filter, model.getHeaders());
-            filterLinks(filter, model.getLinks());
-        }
+    private static void filterLink(Traversal t, Link model) {
+        filterField(t, model, model.getServer(), Link::setServer, null, OASFilter::filterServer);
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterSchemas(OASFilter filter, Map<String, Schema> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                Schema model = models.get(key);
-                filterSchema(filter, model);
-
-                if (filter.filterSchema(model) == null) {
-                    models.remove(key);
-                }
-            }
-        }
+    private static void filterParameter(Traversal t, Parameter model) {
+        filterContent(t, model.getContent());
+        filterField(t, model, model.getSchema(), Parameter::setSchema, FilterUtil::filterSchema,
+                OASFilter::filterSchema);
     }
 
     /**
-     * Filters the given model.
+     * Filters the children of the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterSchema(OASFilter filter, Schema model) {
-        if (model != null) {
-            Schema ap = model.getAdditionalPropertiesSchema();
-            if (ap != null) {
-                filterSchema(filter, ap);
-                if (filter.filterSchema(ap) == null) {
-                    model.setAdditionalPropertiesSchema((Schema) null);
-                }
-            }
-            filterSchemaList(filter, model.getAllOf());
-            filterSchemaList(filter, model.getAnyOf());
-            filterSchema(filter, model.getItems());
-            if (model.getItems() != null && filter.filterSchema(model.getItems()) == null) {
-                model.setItems(null);
-            }
-            filterSchema(filter, model.getNot());
-            if (model.getNot() != null && filter.filterSchema(model.getNot()) == null) {
-                model.setNot(null);
-            }
-            filterSchemas(filter, model.getProperties());
-        }
+    private static void filterRequestBody(Traversal t, RequestBody model) {
+        filterContent(t, model.getContent());
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterSchemaList(OASFilter filter, List<Schema> models) {
-        if (models != null) {
-            ListIterator<Schema> iterator = models.listIterator();
-            while (iterator.hasNext()) {
-                Schema model = iterator.next();
-                filterSchema(filter, model);
-
-                if (filter.filterSchema(model) == null) {
-                    iterator.remove();
-                }
-            }
-        }
+    private static void filterAPIResponse(Traversal t, APIResponse model) {
+        filterContent(t, model.getContent());
+        filterMap(t, model, model.getHeaders(), APIResponse::removeHeader, FilterUtil::filterHeader,
+                OASFilter::filterHeader);
+        filterMap(t, model, model.getLinks(), APIResponse::removeLink, FilterUtil::filterLink, OASFilter::filterLink);
     }
 
     /**
-     * Filters the given models.
+     * Filters the children of the given model.
      * 
-     * @param filter
-     * @param models
+     * @param t
+     * @param model
      */
-    private static void filterSecuritySchemes(OASFilter filter, Map<String, SecurityScheme> models) {
-        if (models != null) {
-            Collection<String> keys = new ArrayList<>(models.keySet());
-            for (String key : keys) {
-                SecurityScheme model = models.get(key);
-                if (filter.filterSecurityScheme(model) == null) {
-                    models.remove(key);
-                }
-            }
-        }
+    private static void filterSchema(Traversal t, Schema model) {
+        filterField(t, model, model.getAdditionalPropertiesSchema(), Schema::setAdditionalPropertiesSchema,
+                FilterUtil::filterSchema, OASFilter::filterSchema);
+        filterList(t, model, model.getAllOf(), Schema::removeAllOf, FilterUtil::filterSchema, OASFilter::filterSchema);
+        filterList(t, model, model.getAnyOf(), Schema::removeAnyOf, FilterUtil::filterSchema, OASFilter::filterSchema);
+        filterField(t, model, model.getItems(), Schema::setItems, FilterUtil::filterSchema, OASFilter::filterSchema);
+        filterField(t, model, model.getNot(), Schema::setNot, FilterUtil::filterSchema, OASFilter::filterSchema);
+        filterMap(t, model, model.getProperties(), Schema::removeProperty, FilterUtil::filterSchema,
+                OASFilter::filterSchema);
     }
 
     /**
      * Filters the given model.
      * 
-     * @param filter
+     * @param t
      * @param model
      */
-    private static void filterPaths(OASFilter filter, Paths model) {
+    private static void filterPaths(Traversal t, Paths model) {
         if (model != null) {
-            Collection<String> keys = new ArrayList<>(model.getPathItems().keySet());
-            for (String key : keys) {
-                PathItem childModel = model.getPathItem(key);
-                filterPathItem(filter, childModel);
-
-                if (filter.filterPathItem(childModel) == null) {
-                    model.removePathItem(key);
-                }
-            }
+            filterMap(t, model, model.getPathItems(), Paths::removePathItem, FilterUtil::filterPathItem,
+                    OASFilter::filterPathItem);
         }
     }
 
     /**
-     * Filters the given model.
+     * Filters the given models.
      * 
-     * @param filter
+     * @param t
+     * @param parent
      * @param models
+     * @param remover
      */
-    private static void filterServers(OASFilter filter, List<Server> models) {
-        if (models != null) {
-            ListIterator<Server> iterator = models.listIterator();
-            while (iterator.hasNext()) {
-                Server model = iterator.next();
-                if (filter.filterServer(model) == null) {
-                    iterator.remove();
-                }
-            }
-        }
+    private static <P> void filterServers(Traversal t, P parent, List<Server> models, BiConsumer<P, Server> remover) {
+        filterList(t, parent, models, remover, null, OASFilter::filterServer);
     }
 
     /**
-     * Filters the given model.
+     * Filters the given models.
      * 
-     * @param filter
+     * @param t
+     * @param parent
      * @param models
      */
-    private static void filterTags(OASFilter filter, List<Tag> models) {
-        if (models != null) {
-            ListIterator<Tag> iterator = models.listIterator();
-            while (iterator.hasNext()) {
-                Tag model = iterator.next();
-                model = filter.filterTag(model);
-                if (model == null) {
-                    iterator.remove();
-                }
-            }
-        }
+    private static void filterTags(Traversal t, OpenAPI parent, List<Tag> models) {
+        filterList(t, parent, models, OpenAPI::removeTag, null, OASFilter::filterTag);
     }
 
 }
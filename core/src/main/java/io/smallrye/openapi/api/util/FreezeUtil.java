@@ -0,0 +1,199 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.models.FreezableImpl;
+import io.smallrye.openapi.api.models.FrozenList;
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.PackedFields;
+import io.smallrye.openapi.api.models.SmallMap;
+
+/**
+ * Converts an OAI data model into an immutable representation that may be
+ * shared freely between threads. Each model object is copied into a frozen
+ * instance of the same model class (see {@link ModelImpl#isFrozen()}), whose
+ * getters behave the same as on the original model and whose mutators throw
+ * {@link UnsupportedOperationException}. Lists and maps are copied into exactly
+ * sized, unmodifiable collections, and the packed storage of the wider model
+ * classes into {@link PackedFields#freeze(java.util.function.UnaryOperator)
+ * frozen storage}.
+ *
+ * Model objects not created by {@link OASFactory} are first copied into the
+ * default implementation of their model interface.
+ */
+public class FreezeUtil {
+
+    private static final ClassValue<Field[]> MODEL_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> modelClass) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = modelClass; c != FreezableImpl.class && c != SmallMap.class
+                    && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private static final FrozenList<Object> EMPTY_LIST = new FrozenList<>(new Object[0]);
+
+    private FreezeUtil() {
+    }
+
+    /**
+     * Create an immutable copy of the given document.
+     *
+     * @param model the document to freeze
+     * @return an immutable copy of the model, or null if the model is null
+     */
+    public static OpenAPI freeze(OpenAPI model) {
+        if (model == null) {
+            return null;
+        }
+        return (OpenAPI) new Freezer().freeze(model);
+    }
+
+    /**
+     * Create an immutable copy of a single value of a model, e.g. a property of
+     * a schema shared by several others.
+     *
+     * @param value a model object, list or map, or any other value
+     * @return an immutable copy of a model object, list or map, otherwise the value itself
+     */
+    public static Object freezeValue(Object value) {
+        return value != null ? new Freezer().freeze(value) : null;
+    }
+
+    /**
+     * @param model a model object
+     * @return true if the model was created by {@link #freeze(OpenAPI)}
+     */
+    public static boolean isFrozen(Object model) {
+        return model instanceof ModelImpl && ((ModelImpl) model).isFrozen();
+    }
+
+    /**
+     * Copies a graph of model objects, freezing each distinct object only once
+     * so that objects shared within the original model remain shared.
+     */
+    private static final class Freezer {
+        private final Map<Object, Object> frozen = new IdentityHashMap<>();
+
+        Object freeze(Object value) {
+            if (value instanceof Constructible) {
+                Object result = frozen.get(value);
+                if (result == null) {
+                    result = freezeModel(value);
+                }
+                return result;
+            }
+            if (value instanceof PackedFields) {
+                Object result = frozen.get(value);
+                if (result == null) {
+                    // Storage shared by several schemas remains shared
+                    result = ((PackedFields) value).freeze(this::freeze);
+                    frozen.put(value, result);
+                }
+                return result;
+            }
+            if (value instanceof List) {
+                return freezeList((List<?>) value);
+            }
+            if (value instanceof Map) {
+                return freezeMap((Map<?, ?>) value, new SmallMap<>());
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object freezeModel(Object model) {
+            final Object source;
+
+            if (model instanceof ModelImpl) {
+                source = model;
+            } else {
+                source = toModelImpl(model);
+            }
+
+            Object result = ModelType.of(source.getClass()).newInstance();
+            frozen.put(model, result);
+
+            for (Field field : MODEL_FIELDS.get(source.getClass())) {
+                try {
+                    field.set(result, freeze(field.get(source)));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            if (result instanceof SmallMap) {
+                // Model that is itself a map, e.g. Scopes
+                freezeMap((Map<?, ?>) source, (SmallMap<Object, Object>) result);
+            } else {
+                ((FreezableImpl) result).freeze();
+            }
+
+            return result;
+        }
+
+        /**
+         * Shallow copy of a model object into the default implementation of
+         * its model interface, the values being frozen along with the copy.
+         */
+        @SuppressWarnings("unchecked")
+        private static Object toModelImpl(Object model) {
+            ModelType type = ModelType.of(model.getClass());
+            Object copy = OASFactory.createObject((Class<Constructible>) type.interfaces[0]);
+            ModelType copyType = ModelType.of(copy.getClass());
+
+            for (int i = 0; i < type.getters.length; i++) {
+                Integer index = copyType.getterIndexes.get(type.getters[i].getName());
+                if (index != null && copyType.setters[index] != null) {
+                    Object value = CopyUtil.call(type.getters[i], model);
+                    if (value != null) {
+                        CopyUtil.call(copyType.setters[index], copy, value);
+                    }
+                }
+            }
+            if (model instanceof Map && copy instanceof Map) {
+                ((Map<Object, Object>) copy).putAll((Map<?, ?>) model);
+            }
+
+            return copy;
+        }
+
+        private List<Object> freezeList(List<?> list) {
+            if (list.isEmpty()) {
+                return EMPTY_LIST;
+            }
+            Object[] elements = new Object[list.size()];
+            int i = 0;
+            for (Object element : list) {
+                elements[i++] = freeze(element);
+            }
+            return new FrozenList<>(elements);
+        }
+
+        private SmallMap<Object, Object> freezeMap(Map<?, ?> map, SmallMap<Object, Object> target) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                target.put(entry.getKey(), freeze(entry.getValue()));
+            }
+            target.freeze();
+            return target;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.ModelImpl;
 
 /**
@@ -53,7 +55,12 @@ public class MergeUtil {
      * @return Merged OpenAPIImpl instance
      */
     public static final OpenAPI merge(OpenAPI document1, OpenAPI document2) {
-        return mergeObjects(document1, document2);
+        long start = ScanInstrumentation.start(ScanPhase.MERGE, null);
+        try {
+            return mergeObjects(document1, document2);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.MERGE, null, start);
+        }
     }
 
     /**
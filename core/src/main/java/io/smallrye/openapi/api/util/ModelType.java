@@ -0,0 +1,121 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+import io.smallrye.openapi.api.models.PackedFields;
+
+/**
+ * The model interfaces implemented by a model class, along with the getters
+ * used to capture the state of its instances and the matching setters.
+ */
+final class ModelType {
+
+    private static final Map<Class<?>, ModelType> MODEL_TYPES = new ConcurrentHashMap<>();
+
+    final Class<?> modelClass;
+    final Class<?>[] interfaces;
+    final Method[] getters;
+    final Method[] setters;
+    final Map<String, Integer> getterIndexes = new HashMap<>();
+
+    static ModelType of(Class<?> modelClass) {
+        return MODEL_TYPES.computeIfAbsent(modelClass, ModelType::new);
+    }
+
+    private ModelType(Class<?> modelClass) {
+        this.modelClass = modelClass;
+        Set<Class<?>> modelInterfaces = new LinkedHashSet<>();
+        for (Class<?> c = modelClass; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                if (i.getName().startsWith(Constructible.class.getPackage().getName())) {
+                    modelInterfaces.add(i);
+                }
+            }
+        }
+        interfaces = modelInterfaces.toArray(new Class<?>[0]);
+
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> i : interfaces) {
+            for (Method m : i.getMethods()) {
+                if (isGetter(m) && !getterIndexes.containsKey(m.getName())) {
+                    getterIndexes.put(m.getName(), methods.size());
+                    methods.add(m);
+                }
+            }
+        }
+        if (methods.size() > PackedFields.MAX_FIELDS) {
+            throw new IllegalStateException("Too many properties in " + modelClass.getName());
+        }
+        getters = methods.toArray(new Method[0]);
+
+        setters = new Method[getters.length];
+        for (int g = 0; g < getters.length; g++) {
+            setters[g] = setter(getters[g]);
+        }
+    }
+
+    /**
+     * @return a new, empty instance of the model class, or of the default
+     *         implementation of the model interface if the class is a proxy
+     */
+    @SuppressWarnings("unchecked")
+    Object newInstance() {
+        if (Proxy.isProxyClass(modelClass)) {
+            return OASFactory.createObject((Class<Constructible>) interfaces[0]);
+        }
+        try {
+            return modelClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the setter of the property read by the getter, or null if the
+     *         property is read-only
+     */
+    private Method setter(Method getter) {
+        String name = getter.getName();
+        String property = name.substring(name.startsWith("is") ? 2 : name.startsWith("read") ? 4 : 3);
+
+        for (Class<?> i : interfaces) {
+            try {
+                return i.getMethod("set" + property, getter.getReturnType());
+            } catch (NoSuchMethodException e) {
+                // Declared by another interface, if any
+            }
+        }
+        return null;
+    }
+
+    static boolean isGetter(Method m) {
+        if (m.getParameterCount() > 0 || m.getReturnType() == void.class || Modifier.isStatic(m.getModifiers())) {
+            return false;
+        }
+        if (isMapMethod(m)) {
+            return false;
+        }
+        return m.getName().startsWith("get") || m.getName().startsWith("is") || m.getName().startsWith("read");
+    }
+
+    static boolean isMapMethod(Method m) {
+        try {
+            Map.class.getMethod(m.getName(), m.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
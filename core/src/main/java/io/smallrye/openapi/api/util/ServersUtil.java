@@ -1,6 +1,7 @@
 package io.smallrye.openapi.api.util;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -35,12 +36,77 @@ public class ServersUtil {
         }
 
         // Now the PathItem and Operation servers
+        Map<String, Set<String>> pathServers = config.getPathServers();
+        Map<String, Set<String>> operationServers = config.getOperationServers();
+        if (pathServers != null && operationServers != null) {
+            configureServers(oai, pathServers, operationServers);
+            return;
+        }
         Map<String, PathItem> pathItems = oai.getPaths().getPathItems();
         if (pathItems != null) {
             pathItems.entrySet().forEach(entry -> configureServers(config, entry.getKey(), entry.getValue()));
         }
     }
 
+    /**
+     * Configures the servers of the paths and operations found in the config, rather
+     * than looking up the config of each path and operation of the document. The
+     * operations are only visited when servers are configured for some of them.
+     * 
+     * @param oai OpenAPI
+     * @param pathServers the servers configured for each path
+     * @param operationServers the servers configured for each operation id
+     */
+    private static void configureServers(OpenAPI oai, Map<String, Set<String>> pathServers,
+            Map<String, Set<String>> operationServers) {
+        for (Map.Entry<String, Set<String>> entry : pathServers.entrySet()) {
+            PathItem pathItem = oai.getPaths().getPathItem(entry.getKey());
+            if (pathItem != null) {
+                pathItem.servers(servers(entry.getValue()));
+            }
+        }
+
+        if (operationServers.isEmpty()) {
+            return;
+        }
+
+        Map<String, PathItem> pathItems = oai.getPaths().getPathItems();
+        if (pathItems != null) {
+            for (PathItem pathItem : pathItems.values()) {
+                if (pathItem != null) {
+                    configureServers(operationServers, pathItem.getGET());
+                    configureServers(operationServers, pathItem.getPUT());
+                    configureServers(operationServers, pathItem.getPOST());
+                    configureServers(operationServers, pathItem.getDELETE());
+                    configureServers(operationServers, pathItem.getHEAD());
+                    configureServers(operationServers, pathItem.getOPTIONS());
+                    configureServers(operationServers, pathItem.getPATCH());
+                    configureServers(operationServers, pathItem.getTRACE());
+                }
+            }
+        }
+    }
+
+    private static void configureServers(Map<String, Set<String>> operationServers, Operation operation) {
+        if (operation == null || operation.getOperationId() == null) {
+            return;
+        }
+        Set<String> servers = operationServers.get(operation.getOperationId());
+        if (servers != null) {
+            operation.servers(servers(servers));
+        }
+    }
+
+    private static List<Server> servers(Set<String> urls) {
+        List<Server> servers = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            Server server = new ServerImpl();
+            server.setUrl(url);
+            servers.add(server);
+        }
+        return servers;
+    }
+
     /**
      * Configures the servers for a PathItem.
      * 
@@ -0,0 +1,26 @@
+package io.smallrye.openapi.api.util;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+
+/**
+ * Marker for an {@link OASFilter} that may be called by several threads at once.
+ *
+ * When the filter implements this interface, {@link FilterUtil} filters the path
+ * items and the entries of each map of the components of a model in parallel. While
+ * the tasks run the model is only read: the changes to the model, from the entries
+ * themselves down to the nested properties, parameters or headers rejected by the
+ * filter, are applied once all tasks have completed, in the order of the model. The
+ * servers, the tags and the model itself are filtered last, on the calling thread.
+ * The same applies to a {@link DistinctInstanceFilter} wrapping a thread-safe filter.
+ *
+ * An instance of the model shared by several entries, such as a schema referenced
+ * from many operations, is filtered by a single thread: the filter is called once
+ * for that instance, as with a {@link DistinctInstanceFilter}, and the other threads
+ * wait for the result. A filter may thus modify the instance it is given.
+ *
+ * A thread-safe filter must not rely on the order in which the elements of the
+ * model are passed to it, and must synchronize any state of its own shared between
+ * calls.
+ */
+public interface ThreadSafeFilter extends OASFilter {
+}
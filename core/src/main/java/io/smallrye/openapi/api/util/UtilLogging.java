@@ -14,4 +14,12 @@ interface UtilLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.ERROR)
     @Message(id = 1000, value = "Failed to introspect BeanInfo for: %s")
     void failedToIntrospectBeanInfo(Class<?> clazz, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1001, value = "Filter %s was called %s times, %s calls were avoided for instances already filtered")
+    void distinctInstancesFiltered(String filter, long invoked, long avoided);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1002, value = "Model changed by %s: %s objects of the base model copied, %s retained by the result")
+    void copyOnWriteApplied(String by, int copied, int retained);
 }
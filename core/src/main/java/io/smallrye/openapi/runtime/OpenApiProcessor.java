@@ -1,6 +1,8 @@
 package io.smallrye.openapi.runtime;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.OASModelReader;
@@ -8,6 +10,8 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
@@ -30,13 +34,37 @@ public class OpenApiProcessor {
      * @return OpenApiImpl
      */
     public static OpenAPI modelFromStaticFile(OpenApiStaticFile staticFile) {
+        return modelFromStaticFile(null, staticFile);
+    }
+
+    /**
+     * Parse the static file content and return the resulting model. Note that this
+     * method does NOT close the resources in the static file. The caller is
+     * responsible for that.
+     * 
+     * @param config OpenApiConfig, may be null
+     * @param staticFile OpenApiStaticFile to be parsed
+     * @return OpenApiImpl
+     */
+    public static OpenAPI modelFromStaticFile(OpenApiConfig config, OpenApiStaticFile staticFile) {
         if (staticFile == null) {
             return null;
         }
+        long start = ScanInstrumentation.start(ScanPhase.STATIC_FILE, staticFile);
+        OpenAPI result = null;
         try {
-            return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat());
+            if (start == 0L) {
+                result = OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat(), config);
+            } else {
+                CountingInputStream content = new CountingInputStream(staticFile.getContent());
+                result = OpenApiParser.parse(content, staticFile.getFormat(), config);
+                ScanInstrumentation.bytesRead(ScanPhase.STATIC_FILE, staticFile, content.count);
+            }
+            return result;
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.STATIC_FILE, staticFile, result, start);
         }
     }
 
@@ -54,8 +82,15 @@ public class OpenApiProcessor {
             return null;
         }
 
-        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, index);
-        return scanner.scan();
+        long start = ScanInstrumentation.start(ScanPhase.ANNOTATIONS, index);
+        OpenAPI result = null;
+        try {
+            OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, index);
+            result = scanner.scan();
+            return result;
+        } finally {
+            ScanInstrumentation.end(ScanPhase.ANNOTATIONS, index, result, start);
+        }
     }
 
     /**
@@ -101,4 +136,40 @@ public class OpenApiProcessor {
         }
     }
 
+    /**
+     * Counts the bytes of a static file read by the parser, used only when instrumentation
+     * is enabled.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
 }
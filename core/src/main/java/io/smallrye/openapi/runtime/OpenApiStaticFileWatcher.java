@@ -0,0 +1,167 @@
+package io.smallrye.openapi.runtime;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.IoLogging;
+
+/**
+ * Watches a static OpenAPI file on the file system (for example the
+ * {@code META-INF/openapi.yaml} of an exploded deployment) and rebuilds the
+ * {@link OpenApiDocument} when the file changes.
+ *
+ * Only the static file is read again: it is merged with the reader and annotations
+ * models kept by the document, and the result is filtered and published with
+ * {@link OpenApiDocument#reloadStaticFile(OpenAPI)}. The document must have been
+ * initialized with the static file reload enabled in its configuration.
+ *
+ * The changes are detected by a daemon thread using a {@link WatchService}. A change
+ * that leaves the content of the file as it was, or that cannot be parsed, does not
+ * replace the current document. Removing the file rebuilds the document without a
+ * static part.
+ */
+public class OpenApiStaticFileWatcher implements Closeable {
+
+    private final OpenApiConfig config;
+    private final Path file;
+    private final Format format;
+    private final WatchService watchService;
+    private final Thread thread;
+    private byte[] content;
+
+    /**
+     * Start watching a static file. The current content of the file is assumed to be
+     * the one the document was initialized with.
+     *
+     * @param config OpenApiConfig
+     * @param file the static file
+     * @param format the format of the static file
+     * @return the watcher, to be closed when the file no longer needs to be watched
+     * @throws IOException Errors reading the file or watching its directory
+     */
+    public static OpenApiStaticFileWatcher watch(OpenApiConfig config, Path file, Format format) throws IOException {
+        return new OpenApiStaticFileWatcher(config, file.toAbsolutePath(), format);
+    }
+
+    private OpenApiStaticFileWatcher(OpenApiConfig config, Path file, Format format) throws IOException {
+        this.config = config;
+        this.file = file;
+        this.format = format;
+        this.content = read(file);
+        this.watchService = file.getFileSystem().newWatchService();
+
+        try {
+            file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::watch, "smallrye-open-api-static-file-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @return the watched file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Read the static file and rebuild the document if its content has changed since
+     * it was last read. This is called by the watcher thread, and may also be called
+     * directly.
+     *
+     * @return true if the document was rebuilt
+     */
+    public synchronized boolean reload() {
+        long start = System.nanoTime();
+        try {
+            byte[] changed = read(file);
+
+            if (Arrays.equals(content, changed)) {
+                return false;
+            }
+
+            OpenAPI model = null;
+            if (changed != null) {
+                try (OpenApiStaticFile staticFile = new OpenApiStaticFile(new ByteArrayInputStream(changed), format)) {
+                    model = OpenApiProcessor.modelFromStaticFile(config, staticFile);
+                }
+            }
+
+            OpenApiDocument.INSTANCE.reloadStaticFile(model);
+            content = changed;
+            IoLogging.log.staticFileReloaded(file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            IoLogging.log.staticFileReloadFailed(file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Stop watching the file, waiting for a reload in progress to complete. The
+     * current document is kept.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void watch() {
+        try {
+            boolean valid = true;
+            while (valid) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= event.kind() == OVERFLOW || file.getFileName().equals(event.context());
+                }
+
+                valid = key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+            IoLogging.log.staticFileWatchFailed(file, null);
+        } catch (ClosedWatchServiceException e) {
+            // Closed by the application
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            IoLogging.log.staticFileWatchFailed(file, e);
+        }
+    }
+
+    private static byte[] read(Path file) throws IOException {
+        return Files.exists(file) ? Files.readAllBytes(file) : null;
+    }
+}
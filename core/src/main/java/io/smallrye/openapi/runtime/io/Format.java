@@ -1,16 +1,34 @@
 package io.smallrye.openapi.runtime.io;
 
 public enum Format {
-    JSON("application/json"),
-    YAML("application/yaml");
+    JSON("application/json", false),
+    YAML("application/yaml", false),
+    /**
+     * The binary JSON format of Jackson, see https://github.com/FasterXML/smile-format-specification
+     */
+    SMILE("application/x-jackson-smile", true),
+    /**
+     * Concise Binary Object Representation, see RFC 7049
+     */
+    CBOR("application/cbor", true);
 
     private final String mimeType;
+    private final boolean binary;
 
-    Format(String mimeType) {
+    Format(String mimeType, boolean binary) {
         this.mimeType = mimeType;
+        this.binary = binary;
     }
 
     public String getMimeType() {
         return mimeType;
     }
+
+    /**
+     * @return true if the format is binary, so that a document in this format
+     *         cannot be represented as a String
+     */
+    public boolean isBinary() {
+        return binary;
+    }
 }
@@ -75,4 +75,20 @@ public interface IoLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.DEBUG)
     @Message(id = 2015, value = "Processing a json array of %s json nodes.")
     void jsonArray(String of);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 2016, value = "String pool held %d distinct strings, replaced %d duplicates, saving an estimated %d bytes.")
+    void stringPoolSummary(int size, int duplicates, long bytesSaved);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 2017, value = "Reloaded the static file %s in %d ms.")
+    void staticFileReloaded(Object file, long millis);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 2018, value = "Failed to reload the static file %s, the current document is kept.")
+    void staticFileReloadFailed(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 2019, value = "Stopped watching the static file %s.")
+    void staticFileWatchFailed(Object file, @Cause Throwable cause);
 }
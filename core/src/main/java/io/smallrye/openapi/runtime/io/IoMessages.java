@@ -18,4 +18,7 @@ interface IoMessages {
 
     @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, or yml): %s")
     IOException invalidFileExtension(String url);
+
+    @Message(id = 3003, value = "Format %s is binary, the document cannot be serialized as a String")
+    IllegalArgumentException binaryFormat(Format format);
 }
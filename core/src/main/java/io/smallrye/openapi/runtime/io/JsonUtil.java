@@ -16,6 +16,8 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.smallrye.openapi.runtime.util.StringPool;
+
 /**
  * Utilities methods for reading information from a Json Tree.
  * 
@@ -51,7 +53,7 @@ public final class JsonUtil {
     public static String stringProperty(JsonNode node, String propertyName) {
         JsonNode propertyNode = node.get(propertyName);
         if (propertyNode != null) {
-            return propertyNode.asText();
+            return StringPool.canonical(propertyNode.asText());
         }
         return null;
     }
@@ -310,7 +312,7 @@ public final class JsonUtil {
             ArrayNode arrayNode = (ArrayNode) node;
             for (JsonNode arrayItem : arrayNode) {
                 if (arrayItem != null) {
-                    rval.add(arrayItem.asText());
+                    rval.add(StringPool.canonical(arrayItem.asText()));
                 }
             }
             return Optional.of(rval);
@@ -10,11 +10,15 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
+import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaReader;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * A class used to parse an OpenAPI document (either YAML or JSON) into a Microprofile OpenAPI model tree.
@@ -23,6 +27,8 @@ import io.smallrye.openapi.runtime.io.schema.SchemaReader;
  */
 public class OpenApiParser {
 
+    private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+
     /**
      * Parses the resource found at the given URL. This method accepts resources
      * either in JSON or YAML format. It will parse the input and, assuming it is
@@ -59,7 +65,8 @@ public class OpenApiParser {
 
     /**
      * Parses the resource found at the given stream. The format of the stream must
-     * be specified.
+     * be specified. Repeated strings are canonicalized as with the default configuration,
+     * use {@link #parse(InputStream, Format, OpenApiConfig)} to disable the string pool.
      * 
      * @param stream InputStream containing an OpenAPI document
      * @param format Format of the stream
@@ -67,29 +74,70 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final OpenAPI parse(InputStream stream, Format format) throws IOException {
+        return parse(stream, format, null);
+    }
+
+    /**
+     * Parses the resource found at the given stream. The format of the stream must
+     * be specified. Unless disabled by the configuration, repeated strings in the
+     * document are canonicalized using a {@link StringPool} (if one is not already
+     * active for the current thread).
+     * 
+     * @param stream InputStream containing an OpenAPI document
+     * @param format Format of the stream
+     * @param config OpenApiConfig, may be null
+     * @return OpenAPIImpl parsed from the stream
+     * @throws IOException Errors in reading the stream
+     */
+    public static final OpenAPI parse(InputStream stream, Format format, OpenApiConfig config) throws IOException {
         ObjectMapper mapper;
-        if (format == Format.JSON) {
-            mapper = new ObjectMapper();
-        } else {
-            mapper = new ObjectMapper(new YAMLFactory());
+        switch (format) {
+            case YAML:
+                mapper = new ObjectMapper(new YAMLFactory());
+                break;
+            case SMILE:
+                mapper = new ObjectMapper(new SmileFactory());
+                break;
+            case CBOR:
+                mapper = new ObjectMapper(new CBORFactory());
+                break;
+            default:
+                mapper = new ObjectMapper();
+                break;
         }
-        JsonNode tree = mapper.readTree(stream);
+        return parse(mapper.readTree(stream), config);
+    }
 
-        OpenApiParser parser = new OpenApiParser(tree);
-        return parser.parse();
+    /**
+     * Parses an OpenAPI document already read into a tree. Unless disabled by the
+     * configuration, repeated strings in the document are canonicalized using a
+     * {@link StringPool} (if one is not already active for the current thread).
+     *
+     * @param tree the root node of an OpenAPI document
+     * @param config OpenApiConfig, may be null
+     * @return OpenAPIImpl parsed from the tree
+     */
+    public static final OpenAPI parse(JsonNode tree, OpenApiConfig config) {
+        StringPool pool = StringPool.begin(config);
+
+        try {
+            OpenApiParser parser = new OpenApiParser(tree);
+            return parser.parse();
+        } finally {
+            StringPool.end(pool);
+        }
     }
 
     /**
      * Parses the schema in the provided String. The format of the stream must
-     * be JSON.
+     * be JSON. This method may be called by several threads at once.
      *
      * @param schemaJson String containing a JSON formatted schema
      * @return Schema parsed from the String
      * @throws IOException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode tree = mapper.readTree(schemaJson);
+        JsonNode tree = SCHEMA_MAPPER.readTree(schemaJson);
         return SchemaReader.readSchema(tree);
     }
 
@@ -1,15 +1,21 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
 
 /**
@@ -26,30 +32,73 @@ public class OpenApiSerializer {
      * Serializes the given OpenAPI object into either JSON or YAML and returns it as a string.
      * 
      * @param openApi the OpenAPI object
-     * @param format the serialization format
+     * @param format the serialization format, must not be {@link Format#isBinary() binary}
      * @return OpenAPI object as a String
      * @throws IOException Errors in processing the JSON
+     * @throws IllegalArgumentException if the format is binary
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
+        if (format.isBinary()) {
+            throw IoMessages.msg.binaryFormat(format);
+        }
+
+        long start = ScanInstrumentation.start(ScanPhase.SERIALIZE, format);
+        String result = null;
 
         try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeOpenAPI(tree, openApi);
+            ObjectNode tree = tree(openApi);
 
             ObjectMapper mapper;
             if (format == Format.JSON) {
                 mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+                result = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
             } else {
                 YAMLFactory factory = new YAMLFactory();
                 factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
                 factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
                 mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
+                result = mapper.writer().writeValueAsString(tree);
             }
+            return result;
         } catch (JsonProcessingException e) {
             throw new IOException(e);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.SERIALIZE, format, result, start);
         }
     }
 
+    /**
+     * Serializes the given OpenAPI object in any format. A document in JSON or YAML
+     * is returned UTF-8 encoded.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @return OpenAPI object as bytes
+     * @throws IOException Errors in processing the JSON
+     */
+    public static final byte[] serializeToBytes(OpenAPI openApi, Format format) throws IOException {
+        if (!format.isBinary()) {
+            return serialize(openApi, format).getBytes(StandardCharsets.UTF_8);
+        }
+
+        long start = ScanInstrumentation.start(ScanPhase.SERIALIZE, format);
+        byte[] result = null;
+
+        try {
+            JsonFactory factory = format == Format.SMILE ? new SmileFactory() : new CBORFactory();
+            result = new ObjectMapper(factory).writeValueAsBytes(tree(openApi));
+            return result;
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.SERIALIZE, format, result, start);
+        }
+    }
+
+    private static ObjectNode tree(OpenAPI openApi) {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, openApi);
+        return tree;
+    }
+
 }
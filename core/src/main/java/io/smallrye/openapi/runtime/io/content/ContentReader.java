@@ -17,6 +17,7 @@ import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.mediatype.MediaTypeReader;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Reading the Content object annotation and json
@@ -74,7 +75,7 @@ public class ContentReader {
         }
         Content content = new ContentImpl();
         for (Iterator<String> fieldNames = node.fieldNames(); fieldNames.hasNext();) {
-            String fieldName = fieldNames.next();
+            String fieldName = StringPool.canonical(fieldNames.next());
             content.addMediaType(fieldName, MediaTypeReader.readMediaType(node.get(fieldName)));
         }
         return content;
@@ -18,6 +18,7 @@ import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Reading the Extension annotation
@@ -114,7 +115,7 @@ public class ExtensionReader {
             String fieldName = iterator.next();
             if (fieldName.toLowerCase().startsWith(ExtensionConstant.EXTENSION_PROPERTY_PREFIX)) {
                 Object value = readObject(node.get(fieldName));
-                model.addExtension(fieldName, value);
+                model.addExtension(StringPool.canonical(fieldName), value);
             }
         }
     }
@@ -32,6 +32,7 @@ import io.smallrye.openapi.runtime.io.link.LinkReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Reading the APIResponse annotation
@@ -136,7 +137,7 @@ public class ResponseReader {
         for (Iterator<String> fieldNames = node.fieldNames(); fieldNames.hasNext();) {
             String fieldName = fieldNames.next();
             JsonNode childNode = node.get(fieldName);
-            responses.put(fieldName, readResponse(childNode));
+            responses.put(StringPool.canonical(fieldName), readResponse(childNode));
         }
 
         return responses;
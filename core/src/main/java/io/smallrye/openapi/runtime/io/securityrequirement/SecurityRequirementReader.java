@@ -17,6 +17,7 @@ import io.smallrye.openapi.api.models.security.SecurityRequirementImpl;
 import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.JsonUtil;
 import io.smallrye.openapi.runtime.util.JandexUtil;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Reading the Security from annotations or json
@@ -107,7 +108,7 @@ public class SecurityRequirementReader {
 
             SecurityRequirement requirement = new SecurityRequirementImpl();
             for (Iterator<String> fieldNames = node.fieldNames(); fieldNames.hasNext();) {
-                String fieldName = fieldNames.next();
+                String fieldName = StringPool.canonical(fieldNames.next());
                 JsonNode scopesNode = node.get(fieldName);
                 Optional<List<String>> maybeScopes = JsonUtil.readStringArray(scopesNode);
                 if (maybeScopes.isPresent()) {
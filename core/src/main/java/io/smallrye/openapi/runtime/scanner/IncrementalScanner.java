@@ -0,0 +1,95 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+
+/**
+ * Scans a deployment repeatedly as its classes change, e.g. in a development mode
+ * where the application is rebuilt after each edit. Each scan keeps the contribution
+ * of every resource class to the model (its paths, operations, tags and schemas) and
+ * the classes it depends on. The next scan, given the classes changed in between,
+ * scans again only the resource classes depending on a changed class and reuses the
+ * contributions of the others, building the same model as a full scan.
+ *
+ * Instances are not thread safe, scans must not be run concurrently.
+ *
+ * @see ScanFragments
+ */
+public class IncrementalScanner {
+
+    private final OpenApiConfig config;
+    private final List<AnnotationScannerExtension> extensions;
+    private final ScanFragments fragments = new ScanFragments();
+
+    /**
+     * Constructor.
+     *
+     * @param config OpenApiConfig instance
+     */
+    public IncrementalScanner(OpenApiConfig config) {
+        this(config, Collections.singletonList(new AnnotationScannerExtension() {
+        }));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config OpenApiConfig instance
+     * @param extensions A set of extensions to scanning
+     */
+    public IncrementalScanner(OpenApiConfig config, List<AnnotationScannerExtension> extensions) {
+        this.config = config;
+        this.extensions = extensions;
+    }
+
+    /**
+     * Scan all resource classes of the deployment.
+     *
+     * @param index IndexView of deployment
+     * @return OpenAPI generated from scanning annotations
+     */
+    public OpenAPI scan(IndexView index) {
+        return scan(index, null);
+    }
+
+    /**
+     * Scan the deployment, reusing the results of the previous scan for the resource
+     * classes not depending on a changed class.
+     *
+     * @param index IndexView of deployment
+     * @param changed names of all classes added, removed or modified since the previous
+     *        scan, or null to scan all resource classes
+     * @return OpenAPI generated from scanning annotations, the same as that of a full scan
+     */
+    public OpenAPI scan(IndexView index, Collection<DotName> changed) {
+        long start = System.nanoTime();
+        OpenAPI model;
+
+        fragments.start(index, changed);
+
+        try {
+            model = new OpenApiAnnotationScanner(config, new RecordingIndexView(index, fragments), extensions, fragments)
+                    .scan();
+        } catch (RuntimeException e) {
+            fragments.discard();
+            throw e;
+        }
+
+        fragments.complete(model);
+        ScannerLogging.log.incrementalScan(fragments.getReused(), fragments.getScanned(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        return model;
+    }
+
+    ScanFragments getFragments() {
+        return fragments;
+    }
+}
@@ -14,6 +14,8 @@ import org.jboss.jandex.IndexView;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
@@ -22,6 +24,7 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -57,6 +60,19 @@ public class OpenApiAnnotationScanner {
      * @param extensions A set of extensions to scanning
      */
     public OpenApiAnnotationScanner(OpenApiConfig config, IndexView index, List<AnnotationScannerExtension> extensions) {
+        this(config, index, extensions, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config OpenApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param fragments the fragments of an incremental scan, or null
+     */
+    OpenApiAnnotationScanner(OpenApiConfig config, IndexView index, List<AnnotationScannerExtension> extensions,
+            ScanFragments fragments) {
         FilteredIndexView filteredIndexView;
 
         if (index instanceof FilteredIndexView) {
@@ -65,7 +81,7 @@ public class OpenApiAnnotationScanner {
             filteredIndexView = new FilteredIndexView(index, config);
         }
 
-        this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, extensions, config);
+        this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, extensions, config, fragments);
     }
 
     /**
@@ -75,17 +91,45 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan() {
-        // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
-        OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
-
-        // Now load all entry points with SPI and scan those
-        List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
-        for (AnnotationScanner annotationScanner : annotationScanners) {
-            ScannerLogging.log.scanning(annotationScanner.getName());
-            CurrentScannerInfo.register(annotationScanner);
-            openApi = annotationScanner.scan(annotationScannerContext, openApi);
+        OpenApiConfig config = annotationScannerContext.getConfig();
+        StringPool pool = StringPool.begin(config);
+        long start = ScanInstrumentation.start(ScanPhase.SCAN, null);
+
+        try {
+            List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
+
+            // Reuse the model of a previous scan of the same classes and configuration, if cached
+            ScanCache cache = annotationScannerContext.getFragments() == null ? ScanCache.forConfig(config) : null;
+            String fingerprint = null;
+
+            if (cache != null) {
+                fingerprint = cache.fingerprint(annotationScannerContext.getIndex(), annotationScanners);
+                OpenAPI cached = cache.read(fingerprint);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+
+            long scanStart = System.nanoTime();
+
+            // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
+            OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
+
+            // Now load all entry points with SPI and scan those
+            for (AnnotationScanner annotationScanner : annotationScanners) {
+                ScannerLogging.log.scanning(annotationScanner.getName());
+                CurrentScannerInfo.register(annotationScanner);
+                openApi = annotationScanner.scan(annotationScannerContext, openApi);
+            }
+
+            if (cache != null) {
+                cache.write(fingerprint, openApi, scanStart);
+            }
+            return openApi;
+        } finally {
+            ScanInstrumentation.end(ScanPhase.SCAN, null, start);
+            StringPool.end(pool);
         }
-        return openApi;
     }
 
     private OpenAPI scanMicroProfileOpenApiAnnotations() {
@@ -97,6 +141,7 @@ public class OpenApiAnnotationScanner {
         // Creating a new instance of a registry which will be set on the thread context.
         SchemaRegistry schemaRegistry = SchemaRegistry.newInstance(annotationScannerContext.getConfig(), openApi,
                 annotationScannerContext.getIndex());
+        schemaRegistry.setFragments(annotationScannerContext.getFragments());
 
         // Register custom schemas if available
         getCustomSchemaRegistry(annotationScannerContext.getConfig()).registerCustomSchemas(schemaRegistry);
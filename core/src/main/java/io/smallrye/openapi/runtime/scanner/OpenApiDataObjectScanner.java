@@ -1,8 +1,5 @@
 package io.smallrye.openapi.runtime.scanner;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Map;
 
@@ -12,12 +9,12 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.dataobject.AnnotationTargetProcessor;
@@ -25,6 +22,7 @@ import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.openapi.runtime.util.JdkIndex;
 import io.smallrye.openapi.runtime.util.TypeUtil;
 
 /**
@@ -88,28 +86,16 @@ public class OpenApiDataObjectScanner {
     private static ClassInfo mapStandin;
 
     /*-
-     * Index the "standin" collection types for internal use. These are required to wrap
-     * collections of application classes (indexed elsewhere).
+     * The "standin" collection types for internal use, from the index of JDK classes. These
+     * are required to wrap collections of application classes (indexed elsewhere).
      */
     static {
-        Indexer indexer = new Indexer();
-        index(indexer, "CollectionStandin.class");
-        index(indexer, "IterableStandin.class");
-        index(indexer, "MapStandin.class");
-        Index index = indexer.complete();
+        IndexView index = JdkIndex.get();
         collectionStandin = index.getClassByName(DotName.createSimple(CollectionStandin.class.getName()));
         iterableStandin = index.getClassByName(DotName.createSimple(IterableStandin.class.getName()));
         mapStandin = index.getClassByName(DotName.createSimple(MapStandin.class.getName()));
     }
 
-    private static void index(Indexer indexer, String resourceName) {
-        try (InputStream stream = OpenApiDataObjectScanner.class.getResourceAsStream(resourceName)) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
-
     private Schema rootSchema;
     private AnnotationTarget rootAnnotationTarget;
     private final Type rootClassType;
@@ -153,7 +139,12 @@ public class OpenApiDataObjectScanner {
      * @return the OAI schema
      */
     public static Schema process(IndexView index, Type type) {
-        return new OpenApiDataObjectScanner(index, type).process();
+        long start = ScanInstrumentation.start(ScanPhase.SCHEMA, type);
+        try {
+            return new OpenApiDataObjectScanner(index, type).process();
+        } finally {
+            ScanInstrumentation.end(ScanPhase.SCHEMA, type, start);
+        }
     }
 
     /**
@@ -164,7 +155,7 @@ public class OpenApiDataObjectScanner {
      */
     public static Schema process(PrimitiveType primitive) {
         Schema primitiveSchema = new SchemaImpl();
-        TypeUtil.applyTypeAttributes(primitive, primitiveSchema);
+        TypeUtil.applyTypeAttributes(primitive, primitiveSchema, SchemaRegistry.currentSharedSchemasEnabled());
         return primitiveSchema;
     }
 
@@ -179,7 +170,7 @@ public class OpenApiDataObjectScanner {
         // If top level item is simple
         if (TypeUtil.isTerminalType(rootClassType)) {
             SchemaImpl simpleSchema = new SchemaImpl();
-            TypeUtil.applyTypeAttributes(rootClassType, simpleSchema);
+            TypeUtil.applyTypeAttributes(rootClassType, simpleSchema, SchemaRegistry.currentSharedSchemasEnabled());
             return simpleSchema;
         }
 
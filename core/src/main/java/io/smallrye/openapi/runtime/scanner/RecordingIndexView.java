@@ -0,0 +1,62 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Collection;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+/**
+ * Index wrapper reporting the classes and queries used while a resource class is
+ * scanned to the {@link ScanFragments} of an {@link IncrementalScanner}.
+ */
+class RecordingIndexView implements IndexView {
+
+    private final IndexView delegate;
+    private final ScanFragments fragments;
+
+    RecordingIndexView(IndexView delegate, ScanFragments fragments) {
+        this.delegate = delegate;
+        this.fragments = fragments;
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownClasses() {
+        return fragments.queried(ScanFragments.Query.KNOWN_CLASSES, null, delegate.getKnownClasses());
+    }
+
+    @Override
+    public ClassInfo getClassByName(DotName className) {
+        fragments.classRead(className);
+        return delegate.getClassByName(className);
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
+        return fragments.queried(ScanFragments.Query.DIRECT_SUBCLASSES, className,
+                delegate.getKnownDirectSubclasses(className));
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
+        return fragments.queried(ScanFragments.Query.ALL_SUBCLASSES, className, delegate.getAllKnownSubclasses(className));
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
+        return fragments.queried(ScanFragments.Query.DIRECT_IMPLEMENTORS, className,
+                delegate.getKnownDirectImplementors(className));
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
+        return fragments.queried(ScanFragments.Query.ALL_IMPLEMENTORS, interfaceName,
+                delegate.getAllKnownImplementors(interfaceName));
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+        return fragments.queried(ScanFragments.Query.ANNOTATIONS, annotationName, delegate.getAnnotations(annotationName));
+    }
+}
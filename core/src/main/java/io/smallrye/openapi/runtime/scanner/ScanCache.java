@@ -0,0 +1,251 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
+
+/**
+ * Caches the models created by the annotation scanner in a directory, so that an
+ * unchanged deployment need not be scanned again after a restart. Enabled by
+ * setting {@link OpenApiConfig#scanCacheDirectory()}.
+ *
+ * Each entry is keyed by a fingerprint of the classes in the index (including their
+ * members, signatures and annotations), the configuration properties used by the
+ * scanner, the scanner extensions present and the Java version. Entries are JSON
+ * files holding the model and the duration of the scan that created it, written
+ * atomically so that concurrent processes never read a partial entry.
+ */
+final class ScanCache {
+
+    private static final String FORMAT_VERSION = "1";
+    private static final String FILE_SUFFIX = ".json";
+    private static final String SCAN_MILLIS = "scanMillis";
+    private static final String MODEL = "model";
+
+    private final Path directory;
+    private final OpenApiConfig config;
+
+    private ScanCache(Path directory, OpenApiConfig config) {
+        this.directory = directory;
+        this.config = config;
+    }
+
+    /**
+     * @param config the configuration of the scan
+     * @return the cache configured, or null if the cache is disabled
+     */
+    static ScanCache forConfig(OpenApiConfig config) {
+        String directory = config != null ? config.scanCacheDirectory() : null;
+        return directory != null ? new ScanCache(Paths.get(directory), config) : null;
+    }
+
+    /**
+     * Compute the key of the cache entry for a scan.
+     *
+     * @param index the index to be scanned
+     * @param scanners the scanner extensions
+     * @return hexadecimal SHA-256 fingerprint of the inputs of the scan
+     */
+    String fingerprint(IndexView index, List<AnnotationScanner> scanners) {
+        Fingerprint fingerprint = new Fingerprint();
+
+        fingerprint.add(FORMAT_VERSION)
+                .add(System.getProperty("java.specification.version"))
+                .add(ScanCache.class.getPackage().getImplementationVersion());
+
+        for (AnnotationScanner scanner : scanners) {
+            fingerprint.add(scanner.getClass().getName());
+        }
+
+        fingerprint.add(config.scanPackages())
+                .add(config.scanClasses())
+                .add(config.scanExcludePackages())
+                .add(config.scanExcludeClasses())
+                .add(config.scanDependenciesDisable())
+                .add(new TreeSet<>(config.scanDependenciesJars()))
+                .add(config.schemaReferencesEnable())
+                .add(config.customSchemaRegistryClass())
+                .add(config.applicationPathDisable())
+                .add(new TreeMap<>(config.getSchemas()))
+                .add(config.sharedSchemasEnable());
+
+        List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(c -> c.name().toString()));
+
+        for (ClassInfo clazz : classes) {
+            fingerprint.add(clazz.name())
+                    .add(clazz.flags())
+                    .add(clazz.typeParameters())
+                    .add(clazz.superClassType())
+                    .add(clazz.interfaceTypes());
+
+            for (FieldInfo field : clazz.fields()) {
+                fingerprint.add(field.flags()).add(field.type()).add(field.name());
+            }
+            for (MethodInfo method : clazz.methods()) {
+                fingerprint.add(method.flags()).add(method).add(method.typeParameters());
+            }
+
+            // The order of the annotations map is unspecified
+            TreeSet<String> annotations = new TreeSet<>();
+            for (Collection<AnnotationInstance> instances : clazz.annotations().values()) {
+                for (AnnotationInstance instance : instances) {
+                    annotations.add(instance.target() + " " + instance);
+                }
+            }
+            fingerprint.add(annotations);
+        }
+
+        return fingerprint.toHex();
+    }
+
+    /**
+     * @param fingerprint the key of the entry
+     * @return the cached model, or null if not cached
+     */
+    OpenAPI read(String fingerprint) {
+        Path file = file(fingerprint);
+        long start = System.nanoTime();
+
+        try (InputStream stream = Files.newInputStream(file)) {
+            JsonNode entry = new ObjectMapper().readTree(stream);
+            OpenAPI model = OpenApiParser.parse(entry.get(MODEL), config);
+            ScannerLogging.log.scanCacheHit(fingerprint, millisSince(start), entry.path(SCAN_MILLIS).asLong());
+            return model;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            ScannerLogging.log.scanCacheReadFailed(file, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Write the model created by a scan, replacing any existing entry.
+     *
+     * @param fingerprint the key of the entry
+     * @param model the model created by the scan
+     * @param scanStart the value of {@link System#nanoTime()} when the scan started
+     */
+    void write(String fingerprint, OpenAPI model, long scanStart) {
+        long scanMillis = millisSince(scanStart);
+        Path file = file(fingerprint);
+        ScannerLogging.log.scanCacheMiss(fingerprint, scanMillis);
+
+        ObjectNode entry = JsonUtil.objectNode();
+        entry.put(SCAN_MILLIS, scanMillis);
+        DefinitionWriter.writeOpenAPI(entry.putObject(MODEL), model);
+
+        Path temp = null;
+
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, fingerprint, ".tmp");
+
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                new ObjectMapper().writeValue(stream, entry);
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            ScannerLogging.log.scanCacheWriteFailed(file, e.toString());
+            deleteQuietly(temp);
+        }
+    }
+
+    Path file(String fingerprint) {
+        return directory.resolve(fingerprint + FILE_SUFFIX);
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp != null) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                // Ignored, the entry was not written
+            }
+        }
+    }
+
+    /**
+     * Accumulates the SHA-256 digest of a sequence of values.
+     */
+    private static final class Fingerprint {
+        private final MessageDigest digest;
+
+        Fingerprint() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Fingerprint add(Object value) {
+            String string;
+
+            if (value instanceof Pattern) {
+                string = ((Pattern) value).pattern();
+            } else if (value instanceof Map) {
+                string = ((Map<?, ?>) value).entrySet().toString();
+            } else {
+                string = String.valueOf(value);
+            }
+
+            digest.update(string.getBytes(StandardCharsets.UTF_8));
+            // Separator, so that consecutive values cannot be confused
+            digest.update((byte) 0);
+            return this;
+        }
+
+        String toHex() {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        }
+    }
+}
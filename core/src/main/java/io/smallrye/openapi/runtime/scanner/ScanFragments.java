@@ -0,0 +1,520 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.components.ComponentsWriter;
+import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
+import io.smallrye.openapi.runtime.io.extension.ExtensionWriter;
+import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsWriter;
+import io.smallrye.openapi.runtime.io.info.InfoWriter;
+import io.smallrye.openapi.runtime.io.paths.PathsReader;
+import io.smallrye.openapi.runtime.io.paths.PathsWriter;
+import io.smallrye.openapi.runtime.io.schema.SchemaReader;
+import io.smallrye.openapi.runtime.io.schema.SchemaWriter;
+import io.smallrye.openapi.runtime.io.securityrequirement.SecurityRequirementWriter;
+import io.smallrye.openapi.runtime.io.server.ServerWriter;
+import io.smallrye.openapi.runtime.io.tag.TagWriter;
+import io.smallrye.openapi.runtime.scanner.SchemaRegistry.TypeKey;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * The contributions of each resource class to the model built by a scan, recorded
+ * by an {@link IncrementalScanner} so that they may be replayed in place of
+ * scanning the class again.
+ *
+ * A fragment records:
+ * <ul>
+ * <li>the classes read from the index and the results of the index queries made
+ * while the class was scanned, the dependencies of the fragment;</li>
+ * <li>the schema registry entries looked up, with the name registered for each type
+ * at the time, and the schemas registered by the class;</li>
+ * <li>the path items added by the class;</li>
+ * <li>the remainder of the model (tags, security schemes, etc.) before and after the
+ * class was scanned.</li>
+ * </ul>
+ *
+ * A fragment is replayed only when none of its dependencies changed and the state it
+ * was recorded in (registry entries, schema names taken and the remainder of the
+ * model) is the same, so that scanning the class again would give the same result.
+ * Otherwise the class is scanned, and its fragment recorded again.
+ *
+ * Scanners process their resource classes through
+ * {@link io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner#scanResourceClass
+ * scanResourceClass} and add their path items with
+ * {@link io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner#addPathItem addPathItem}
+ * to take part in incremental scans; any other processing is repeated by every scan.
+ */
+public class ScanFragments {
+
+    enum Query {
+        KNOWN_CLASSES,
+        DIRECT_SUBCLASSES,
+        ALL_SUBCLASSES,
+        DIRECT_IMPLEMENTORS,
+        ALL_IMPLEMENTORS,
+        ANNOTATIONS;
+
+        Collection<?> evaluate(IndexView index, DotName name) {
+            switch (this) {
+                case KNOWN_CLASSES:
+                    return index.getKnownClasses();
+                case DIRECT_SUBCLASSES:
+                    return index.getKnownDirectSubclasses(name);
+                case ALL_SUBCLASSES:
+                    return index.getAllKnownSubclasses(name);
+                case DIRECT_IMPLEMENTORS:
+                    return index.getKnownDirectImplementors(name);
+                case ALL_IMPLEMENTORS:
+                    return index.getAllKnownImplementors(name);
+                default:
+                    return index.getAnnotations(name);
+            }
+        }
+    }
+
+    static final class QueryResult {
+        final Query query;
+        final DotName name;
+        final List<String> classes;
+
+        QueryResult(Query query, DotName name, List<String> classes) {
+            this.query = query;
+            this.name = name;
+            this.classes = classes;
+        }
+    }
+
+    static final class Registration {
+        final TypeKey key;
+        final String replacedName;
+        final String nameBase;
+        final String name;
+        JsonNode schema;
+
+        Registration(TypeKey key, String replacedName, String nameBase, String name) {
+            this.key = key;
+            this.replacedName = replacedName;
+            this.nameBase = nameBase;
+            this.name = name;
+        }
+    }
+
+    static final class Fragment {
+        final String key;
+        final String state;
+        final JsonNode restBefore;
+        JsonNode restAfter;
+
+        final Set<DotName> classes = new HashSet<>();
+        final Map<String, QueryResult> queries = new LinkedHashMap<>();
+        // Name registered for each type when first looked up, null when not registered
+        final Map<TypeKey, String> registryBefore = new LinkedHashMap<>();
+        final List<Registration> registrations = new ArrayList<>();
+        final List<Map.Entry<String, JsonNode>> pathItems = new ArrayList<>();
+
+        Fragment(String key, String state, JsonNode restBefore) {
+            this.key = key;
+            this.state = state;
+            this.restBefore = restBefore;
+        }
+    }
+
+    private Map<String, Fragment> previous = Collections.emptyMap();
+    private List<Fragment> recorded = new ArrayList<>();
+    private Set<DotName> changed = Collections.emptySet();
+    private IndexView index;
+    private Fragment current;
+    private int reused;
+    private int scanned;
+
+    ScanFragments() {
+    }
+
+    /**
+     * Prepare for a scan.
+     *
+     * @param index the index to be scanned
+     * @param changed names of the classes added, removed or modified since the previous
+     *        scan, or null to scan all resource classes
+     */
+    void start(IndexView index, Collection<DotName> changed) {
+        this.index = index;
+        this.changed = changed != null ? new HashSet<>(changed) : Collections.emptySet();
+        this.recorded = new ArrayList<>();
+        this.reused = 0;
+        this.scanned = 0;
+
+        if (changed == null) {
+            this.previous = Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Keep the fragments of a completed scan for the next one, unless a schema registered
+     * by a fragment was later modified outside of it, in which case replaying the fragment
+     * would not reproduce the model.
+     *
+     * @param model the model built by the scan
+     */
+    void complete(OpenAPI model) {
+        Map<String, JsonNode> registered = new HashMap<>();
+        Map<String, Fragment> fragments = new LinkedHashMap<>();
+
+        for (Fragment fragment : recorded) {
+            fragments.put(fragment.key, fragment);
+            for (Registration registration : fragment.registrations) {
+                registered.put(registration.name, registration.schema);
+            }
+        }
+
+        Map<String, Schema> schemas = model.getComponents() != null ? model.getComponents().getSchemas() : null;
+
+        for (Map.Entry<String, JsonNode> entry : registered.entrySet()) {
+            Schema schema = schemas != null ? schemas.get(entry.getKey()) : null;
+
+            if (schema == null || !writeSchema(schema, entry.getKey()).equals(entry.getValue())) {
+                ScannerLogging.log.incrementalScanFragmentsDiscarded(entry.getKey());
+                fragments.clear();
+                break;
+            }
+        }
+
+        this.previous = fragments;
+        this.recorded = new ArrayList<>();
+        this.index = null;
+    }
+
+    /**
+     * Forget all fragments, following a failed scan.
+     */
+    void discard() {
+        this.previous = Collections.emptyMap();
+        this.recorded = new ArrayList<>();
+        this.current = null;
+        this.index = null;
+    }
+
+    int getReused() {
+        return reused;
+    }
+
+    int getScanned() {
+        return scanned;
+    }
+
+    /**
+     * Process a resource class, replaying its fragment from the previous scan if still
+     * valid, otherwise scanning it and recording its fragment.
+     *
+     * @param scanner name of the scanner processing the class
+     * @param state state of the scanner affecting the result, e.g. the application path
+     * @param openApi the model being built
+     * @param resourceClass the resource class
+     * @param scan scans the resource class into the model
+     */
+    public void processResourceClass(String scanner, String state, OpenAPI openApi, ClassInfo resourceClass,
+            Runnable scan) {
+        if (current != null) {
+            // Nested, part of the enclosing resource class' fragment
+            scan.run();
+            return;
+        }
+
+        String key = scanner + ' ' + resourceClass.name();
+        JsonNode restBefore = writeRest(openApi);
+        Fragment fragment = previous.get(key);
+
+        if (fragment != null && isReusable(fragment, state, restBefore)) {
+            replay(fragment, openApi);
+            recorded.add(fragment);
+            reused++;
+            return;
+        }
+
+        fragment = new Fragment(key, state, restBefore);
+        fragment.classes.add(resourceClass.name());
+        current = fragment;
+
+        try {
+            scan.run();
+        } finally {
+            current = null;
+        }
+
+        fragment.restAfter = writeRest(openApi);
+
+        for (Registration registration : fragment.registrations) {
+            Schema schema = openApi.getComponents().getSchemas().get(registration.name);
+            registration.schema = writeSchema(schema, registration.name);
+        }
+
+        recorded.add(fragment);
+        scanned++;
+    }
+
+    /**
+     * Record a path item added to the model by the resource class being scanned.
+     *
+     * @param path the path
+     * @param pathItem the path item, before it is added or merged into the model
+     */
+    public void pathItemAdded(String path, PathItem pathItem) {
+        if (current != null) {
+            ObjectNode node = JsonUtil.objectNode();
+            PathsWriter.writePathItem(node, pathItem, path);
+            current.pathItems.add(new AbstractMap.SimpleImmutableEntry<>(path, node.get(path)));
+        }
+    }
+
+    void classRead(DotName name) {
+        if (current != null) {
+            current.classes.add(name);
+        }
+    }
+
+    <T> Collection<T> queried(Query query, DotName name, Collection<T> result) {
+        if (current != null) {
+            current.queries.computeIfAbsent(query + " " + name,
+                    k -> new QueryResult(query, name, classNames(result, current.classes)));
+        }
+        return result;
+    }
+
+    void registryRead(TypeKey key, String name) {
+        if (current != null) {
+            recordRegistryBefore(key, name);
+        }
+    }
+
+    void registered(TypeKey key, String replacedName, String nameBase, String name) {
+        if (current != null) {
+            // Registered without a prior lookup, the type was registered under the replaced name, if any
+            recordRegistryBefore(key, replacedName);
+            current.registrations.add(new Registration(key, replacedName, nameBase, name));
+        }
+    }
+
+    private void recordRegistryBefore(TypeKey key, String name) {
+        // The first lookup is recorded; putIfAbsent would replace a recorded null
+        if (!current.registryBefore.containsKey(key)) {
+            current.registryBefore.put(key, name);
+        }
+    }
+
+    private boolean isReusable(Fragment fragment, String state, JsonNode restBefore) {
+        if (!fragment.state.equals(state) || !fragment.restBefore.equals(restBefore)) {
+            return false;
+        }
+
+        for (DotName name : fragment.classes) {
+            if (changed.contains(name)) {
+                return false;
+            }
+        }
+
+        for (QueryResult result : fragment.queries.values()) {
+            if (!classNames(result.query.evaluate(index, result.name), new HashSet<>()).equals(result.classes)) {
+                return false;
+            }
+        }
+
+        return isRegistryUnchanged(fragment, SchemaRegistry.currentInstance());
+    }
+
+    /**
+     * Verify that the types looked up by the fragment are registered under the same
+     * names as when it was recorded, and that the names given to the schemas it
+     * registered are still the first available.
+     */
+    private static boolean isRegistryUnchanged(Fragment fragment, SchemaRegistry registry) {
+        for (Map.Entry<TypeKey, String> entry : fragment.registryBefore.entrySet()) {
+            if (!Objects.equals(registry.nameOf(entry.getKey()), entry.getValue())) {
+                return false;
+            }
+        }
+
+        Set<String> added = new HashSet<>();
+        Set<String> removed = new HashSet<>();
+
+        for (Registration registration : fragment.registrations) {
+            if (registration.replacedName != null) {
+                added.remove(registration.replacedName);
+                removed.add(registration.replacedName);
+            }
+
+            String name = registration.nameBase;
+            int idx = 1;
+
+            while (!name.equals(registration.name)) {
+                if (!isTaken(registry, added, removed, name) || !registration.name.startsWith(registration.nameBase)) {
+                    return false;
+                }
+                name = registration.nameBase + idx++;
+            }
+
+            if (isTaken(registry, added, removed, name)) {
+                return false;
+            }
+
+            added.add(name);
+            removed.remove(name);
+        }
+
+        return true;
+    }
+
+    private static boolean isTaken(SchemaRegistry registry, Set<String> added, Set<String> removed, String name) {
+        return added.contains(name) || (!removed.contains(name) && registry.hasName(name));
+    }
+
+    private static void replay(Fragment fragment, OpenAPI openApi) {
+        SchemaRegistry registry = SchemaRegistry.currentInstance();
+
+        for (Registration registration : fragment.registrations) {
+            registry.replay(registration.key, registration.replacedName, registration.name,
+                    SchemaReader.readSchema(registration.schema));
+        }
+
+        for (Map.Entry<String, JsonNode> entry : fragment.pathItems) {
+            ModelUtil.addPathItem(openApi, entry.getKey(), PathsReader.readPathItem(entry.getValue()));
+        }
+
+        if (!fragment.restBefore.equals(fragment.restAfter)) {
+            applyRest(openApi, fragment.restAfter);
+        }
+    }
+
+    /**
+     * Write the parts of the model other than the paths and the schemas.
+     */
+    private static JsonNode writeRest(OpenAPI model) {
+        ObjectNode node = JsonUtil.objectNode();
+        InfoWriter.writeInfo(node, model.getInfo());
+        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
+        ServerWriter.writeServers(node, model.getServers());
+        SecurityRequirementWriter.writeSecurityRequirements(node, model.getSecurity());
+        TagWriter.writeTags(node, model.getTags());
+
+        Components components = model.getComponents();
+
+        if (components != null) {
+            Components rest = new ComponentsImpl();
+            rest.setResponses(components.getResponses());
+            rest.setParameters(components.getParameters());
+            rest.setExamples(components.getExamples());
+            rest.setRequestBodies(components.getRequestBodies());
+            rest.setHeaders(components.getHeaders());
+            rest.setSecuritySchemes(components.getSecuritySchemes());
+            rest.setLinks(components.getLinks());
+            rest.setCallbacks(components.getCallbacks());
+            rest.setExtensions(components.getExtensions());
+            ComponentsWriter.writeComponents(node, rest);
+        }
+
+        ExtensionWriter.writeExtensions(node, model);
+        return node;
+    }
+
+    private static void applyRest(OpenAPI model, JsonNode node) {
+        OpenAPI rest = new OpenAPIImpl();
+        DefinitionReader.processDefinition(rest, node);
+
+        model.setInfo(rest.getInfo());
+        model.setExternalDocs(rest.getExternalDocs());
+        model.setServers(rest.getServers());
+        model.setSecurity(rest.getSecurity());
+        model.setTags(rest.getTags());
+        model.setExtensions(rest.getExtensions());
+
+        Components components = rest.getComponents();
+
+        if (components != null) {
+            Components target = ModelUtil.components(model);
+            target.setResponses(components.getResponses());
+            target.setParameters(components.getParameters());
+            target.setExamples(components.getExamples());
+            target.setRequestBodies(components.getRequestBodies());
+            target.setHeaders(components.getHeaders());
+            target.setSecuritySchemes(components.getSecuritySchemes());
+            target.setLinks(components.getLinks());
+            target.setCallbacks(components.getCallbacks());
+            target.setExtensions(components.getExtensions());
+        }
+    }
+
+    private static JsonNode writeSchema(Schema schema, String name) {
+        ObjectNode node = JsonUtil.objectNode();
+        SchemaWriter.writeSchema(node, schema, name);
+        return node.get(name);
+    }
+
+    /**
+     * @return the sorted names of the classes in a query result, also added to classes
+     */
+    private static List<String> classNames(Collection<?> result, Set<DotName> classes) {
+        List<String> names = new ArrayList<>(result.size());
+
+        for (Object element : result) {
+            DotName name;
+
+            if (element instanceof ClassInfo) {
+                name = ((ClassInfo) element).name();
+            } else {
+                name = declaringClass(((AnnotationInstance) element).target());
+            }
+
+            if (name != null) {
+                classes.add(name);
+                names.add(name.toString());
+            }
+        }
+
+        Collections.sort(names);
+        return names;
+    }
+
+    private static DotName declaringClass(AnnotationTarget target) {
+        if (target == null) {
+            return null;
+        }
+
+        switch (target.kind()) {
+            case CLASS:
+                return target.asClass().name();
+            case FIELD:
+                return target.asField().declaringClass().name();
+            case METHOD:
+                return target.asMethod().declaringClass().name();
+            case METHOD_PARAMETER:
+                return target.asMethodParameter().method().declaringClass().name();
+            default:
+                return declaringClass(target.asType().enclosingTarget());
+        }
+    }
+}
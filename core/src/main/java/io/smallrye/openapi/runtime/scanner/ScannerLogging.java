@@ -1,5 +1,7 @@
 package io.smallrye.openapi.runtime.scanner;
 
+import java.nio.file.Path;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Type;
@@ -33,4 +35,28 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4004, value = "Configured schema for %s has been registered")
     void configSchemaRegistered(String className);
 
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 4006, value = "Scan cache hit for %s, model loaded in %d ms instead of scanning for %d ms.")
+    void scanCacheHit(String fingerprint, long loadMillis, long scanMillis);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 4007, value = "Scan cache miss for %s, deployment scanned in %d ms.")
+    void scanCacheMiss(String fingerprint, long scanMillis);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4008, value = "Scan cache entry %s could not be read, the deployment will be scanned: %s")
+    void scanCacheReadFailed(Path file, String reason);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4009, value = "Scan cache entry %s could not be written: %s")
+    void scanCacheWriteFailed(Path file, String reason);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 4010, value = "Incremental scan reused %d and scanned %d resource classes in %d ms.")
+    void incrementalScan(int reused, int scanned, long millis);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4011, value = "Schema %s was modified after its registration, the next incremental scan will scan all resource classes.")
+    void incrementalScanFragmentsDiscarded(String name);
+
 }
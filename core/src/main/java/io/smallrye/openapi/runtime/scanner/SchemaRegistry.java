@@ -2,11 +2,16 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -22,12 +27,15 @@ import org.jboss.jandex.WildcardType;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.util.CopyUtil;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.ModelUtil;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * A simple registry used to track schemas that have been generated and inserted
@@ -40,6 +48,14 @@ public class SchemaRegistry {
     // Initial value is null
     private static final ThreadLocal<SchemaRegistry> current = new ThreadLocal<>();
 
+    /**
+     * The schemas parsed from the <code>mp.openapi.schema.*</code> config, keyed by
+     * their JSON, for each config still in use. Each registry registers copies, the
+     * cached schemas are never modified.
+     */
+    private static final Map<OpenApiConfig, Map<String, Schema>> configSchemas = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
     /**
      * Create a new instance of a {@link SchemaRegistry} on this thread. The
      * registry returned by this method may also be obtained by subsequent calls
@@ -126,13 +142,16 @@ public class SchemaRegistry {
         }
 
         TypeKey key = new TypeKey(resolvedType);
+        boolean registered = registry.has(key);
 
-        if (registry.has(key)) {
+        ScanInstrumentation.registryLookup(resolvedType, registered);
+
+        if (registered) {
             schema = registry.lookupRef(key);
         } else if (registry.index.getClassByName(resolvedType.name()) == null) {
             return schema;
         } else {
-            schema = registry.register(key, schema, null);
+            schema = registry.register(key, schema, null, null);
         }
 
         return schema;
@@ -161,11 +180,15 @@ public class SchemaRegistry {
 
     private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
     private final Set<String> names = new LinkedHashSet<>();
+    private final boolean sharedSchemas;
+    private final Map<String, SchemaImpl> canonicalRefs = new HashMap<>();
+    private ScanFragments fragments;
 
     private SchemaRegistry(OpenApiConfig config, OpenAPI oai, IndexView index) {
         this.config = config;
         this.oai = oai;
         this.index = index;
+        this.sharedSchemas = config.sharedSchemasEnable();
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -180,24 +203,51 @@ public class SchemaRegistry {
             }
         }
 
-        config.getSchemas().entrySet().forEach(entry -> {
+        Map<String, String> schemas = config.getSchemas();
+        Map<String, Schema> parsedSchemas = parseConfigSchemas(config, schemas.values());
+
+        schemas.entrySet().forEach(entry -> {
             String className = entry.getKey();
-            String jsonSchema = entry.getValue();
-            Schema schema;
+            Schema parsed = parsedSchemas.get(entry.getValue());
 
-            try {
-                schema = OpenApiParser.parseSchema(jsonSchema);
-            } catch (Exception e) {
+            if (parsed == null) {
                 ScannerLogging.log.errorParsingSchema(className);
                 return;
             }
 
+            // The schema becomes part of the document, which may be modified later
+            Schema schema = CopyUtil.deepCopy(parsed);
             Type type = Type.create(DotName.createSimple(className), Type.Kind.CLASS);
-            this.register(new TypeKey(type), schema, ((SchemaImpl) schema).getName());
+            this.register(new TypeKey(type), schema, ((SchemaImpl) schema).getName(), null);
             ScannerLogging.log.configSchemaRegistered(className);
         });
     }
 
+    /**
+     * Parse the config schemas not parsed by a previous registry of the same config,
+     * on the calling thread. A schema that cannot be parsed is not cached, and is
+     * parsed again by the next registry.
+     *
+     * @param config the config of the schemas
+     * @param schemas the JSON of the config schemas
+     * @return the parsed schemas of the config, keyed by their JSON
+     */
+    private static Map<String, Schema> parseConfigSchemas(OpenApiConfig config, Collection<String> schemas) {
+        Map<String, Schema> parsed = configSchemas.computeIfAbsent(config, c -> new ConcurrentHashMap<>());
+
+        for (String json : schemas) {
+            if (!parsed.containsKey(json)) {
+                try {
+                    parsed.put(json, OpenApiParser.parseSchema(json));
+                } catch (Exception e) {
+                    // Reported for each class using the schema
+                }
+            }
+        }
+
+        return parsed;
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -211,13 +261,14 @@ public class SchemaRegistry {
      */
     public Schema register(Type entityType, Schema schema) {
         TypeKey key = new TypeKey(entityType);
+        String replacedName = null;
 
         if (has(key)) {
             // This is a replacement registration
-            remove(key);
+            replacedName = remove(key);
         }
 
-        return register(key, schema, null);
+        return register(key, schema, null, replacedName);
     }
 
     /**
@@ -234,9 +285,13 @@ public class SchemaRegistry {
      *        a value to be used for referencing the schema in the registry
      * @param schema
      *        {@link Schema} to add to the registry
+     * @param schemaName
+     *        name of the schema, or null to derive it from the type
+     * @param replacedName
+     *        name of the schema previously registered for the key, if replaced
      * @return a reference to the newly registered {@link Schema}
      */
-    private Schema register(TypeKey key, Schema schema, String schemaName) {
+    private Schema register(TypeKey key, Schema schema, String schemaName, String replacedName) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
          * property name rather then a schema name.
@@ -257,14 +312,55 @@ public class SchemaRegistry {
             name = nameBase + idx++;
         }
 
-        Schema schemaRef = new SchemaImpl();
-        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        if (fragments != null) {
+            fragments.registered(key, replacedName, nameBase, name);
+        }
+
+        return add(key, name, schema);
+    }
+
+    /**
+     * Add a schema registered with the given name to the registry and to the OpenAPI
+     * document's schema map.
+     */
+    private Schema add(TypeKey key, String name, Schema schema) {
+        Schema schemaRef;
+
+        if (sharedSchemas) {
+            // One reference prototype per name, even when a type's registration is replaced
+            schemaRef = canonicalRefs.computeIfAbsent(name, SchemaRegistry::createRefPrototype);
+        } else {
+            schemaRef = createRef(name);
+        }
 
         registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
         names.add(name);
 
         ModelUtil.components(oai).addSchema(name, schema);
 
+        return refInstance(schemaRef);
+    }
+
+    private static SchemaImpl createRefPrototype(String name) {
+        return ((SchemaImpl) createRef(name)).freezeProperties();
+    }
+
+    /**
+     * @return a reference schema that may be modified by the caller, sharing the
+     *         storage of the reference prototype when shared schemas are enabled
+     */
+    private Schema refInstance(Schema schemaRef) {
+        if (sharedSchemas) {
+            SchemaImpl instance = new SchemaImpl();
+            instance.shareProperties((SchemaImpl) schemaRef);
+            return instance;
+        }
+        return schemaRef;
+    }
+
+    private static Schema createRef(String name) {
+        Schema schemaRef = new SchemaImpl();
+        schemaRef.setRef(StringPool.canonical(OpenApiConstants.REF_PREFIX_SCHEMA + name));
         return schemaRef;
     }
 
@@ -280,23 +376,78 @@ public class SchemaRegistry {
         return config != null && config.schemaReferencesEnable();
     }
 
+    /**
+     * @return true if schemas for terminal types may share immutable prototype
+     *         storage, see {@link OpenApiConfig#sharedSchemasEnable()}
+     */
+    public boolean sharedSchemasEnabled() {
+        return sharedSchemas;
+    }
+
+    /**
+     * @return true if the registry of the current thread has shared schemas enabled,
+     *         false if there is no current registry
+     */
+    public static boolean currentSharedSchemasEnabled() {
+        SchemaRegistry registry = currentInstance();
+        return registry != null && registry.sharedSchemasEnabled();
+    }
+
     private Schema lookupRef(TypeKey key) {
         GeneratedSchemaInfo info = registry.get(key);
 
+        if (fragments != null) {
+            fragments.registryRead(key, info != null ? info.name : null);
+        }
+
         if (info == null) {
             throw ScannerMessages.msg.notRegistered(key.type.name());
         }
 
-        return info.schemaRef;
+        return refInstance(info.schemaRef);
     }
 
     private boolean has(TypeKey key) {
+        if (fragments != null) {
+            fragments.registryRead(key, nameOf(key));
+        }
         return registry.containsKey(key);
     }
 
-    private void remove(TypeKey key) {
+    private String remove(TypeKey key) {
         GeneratedSchemaInfo info = this.registry.remove(key);
         this.names.remove(info.name);
+        return info.name;
+    }
+
+    /**
+     * Record the lookups and registrations made while scanning each resource class
+     * of an incremental scan.
+     */
+    void setFragments(ScanFragments fragments) {
+        this.fragments = fragments;
+    }
+
+    /**
+     * @return the name of the schema registered for the key, or null if not registered
+     */
+    String nameOf(TypeKey key) {
+        GeneratedSchemaInfo info = registry.get(key);
+        return info != null ? info.name : null;
+    }
+
+    boolean hasName(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Repeat a registration recorded by a previous incremental scan.
+     */
+    void replay(TypeKey key, String replacedName, String name, Schema schema) {
+        if (replacedName != null) {
+            remove(key);
+        }
+        add(key, name, schema);
     }
 
     /************************************************************************/
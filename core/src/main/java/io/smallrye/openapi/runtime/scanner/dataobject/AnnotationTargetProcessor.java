@@ -136,7 +136,7 @@ public class AnnotationTargetProcessor implements RequirementHandler {
             typeSchema = typeProcessor.getSchema();
 
             // Set any default values that apply to the type schema as a result of the TypeProcessor
-            TypeUtil.applyTypeAttributes(fieldType, typeSchema);
+            TypeUtil.applyTypeAttributes(fieldType, typeSchema, SchemaRegistry.currentSharedSchemasEnabled());
 
             // The registeredTypeSchema will be a reference to typeSchema if registration occurs
             Type registrationType = TypeUtil.isOptional(entityType) ? fieldType : entityType;
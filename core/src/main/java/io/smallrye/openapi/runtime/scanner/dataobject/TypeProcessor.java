@@ -77,7 +77,7 @@ public class TypeProcessor {
             schema.type(Schema.SchemaType.ARRAY);
 
             // Only use component (excludes the special name formatting for arrays).
-            TypeUtil.applyTypeAttributes(arrayType.component(), arrSchema);
+            TypeUtil.applyTypeAttributes(arrayType.component(), arrSchema, SchemaRegistry.currentSharedSchemasEnabled());
 
             // If it's not a terminal type, then push for later inspection.
             if (!isTerminalType(arrayType.component()) && index.containsClass(type)) {
@@ -169,7 +169,7 @@ public class TypeProcessor {
             Type arg = pType.arguments().get(0);
 
             if (isTerminalType(arg)) {
-                TypeUtil.applyTypeAttributes(arg, arraySchema);
+                TypeUtil.applyTypeAttributes(arg, arraySchema, SchemaRegistry.currentSharedSchemasEnabled());
             } else {
                 arraySchema = resolveParameterizedType(arg, arraySchema);
             }
@@ -185,7 +185,7 @@ public class TypeProcessor {
                 Type valueType = pType.arguments().get(1);
                 Schema propsSchema = new SchemaImpl();
                 if (isTerminalType(valueType)) {
-                    TypeUtil.applyTypeAttributes(valueType, propsSchema);
+                    TypeUtil.applyTypeAttributes(valueType, propsSchema, SchemaRegistry.currentSharedSchemasEnabled());
                 } else {
                     propsSchema = resolveParameterizedType(valueType, propsSchema);
                 }
@@ -232,7 +232,7 @@ public class TypeProcessor {
         DataObjectLogging.log.resolvedType(fieldType, resolvedType);
         if (isTerminalType(resolvedType) || !index.containsClass(resolvedType)) {
             DataObjectLogging.log.terminalType(resolvedType);
-            TypeUtil.applyTypeAttributes(resolvedType, schema);
+            TypeUtil.applyTypeAttributes(resolvedType, schema, SchemaRegistry.currentSharedSchemasEnabled());
         } else {
             DataObjectLogging.log.typeVarSubstitution(fieldType, resolvedType);
             if (index.containsClass(resolvedType)) {
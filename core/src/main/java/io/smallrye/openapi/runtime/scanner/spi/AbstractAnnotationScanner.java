@@ -1,5 +1,12 @@
 package io.smallrye.openapi.runtime.scanner.spi;
 
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.ClassInfo;
+
+import io.smallrye.openapi.runtime.scanner.ScanFragments;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
 /**
  * Abstract base class for annotation scanners
  * 
@@ -18,6 +25,46 @@ public abstract class AbstractAnnotationScanner implements AnnotationScanner {
         return createPathFromSegments(this.contextRoot, this.currentAppPath, operationPath);
     }
 
+    /**
+     * Scan a resource class. During an incremental scan, the result of scanning the class
+     * in the previous scan is reused instead when none of the classes it depends on changed.
+     * 
+     * @param context the scanning context
+     * @param openApi the OpenAPI model being built
+     * @param resourceClass the resource class
+     * @param scan scans the resource class into the model
+     */
+    protected void scanResourceClass(final AnnotationScannerContext context, OpenAPI openApi, ClassInfo resourceClass,
+            Runnable scan) {
+        ScanFragments fragments = context.getFragments();
+
+        if (fragments == null) {
+            scan.run();
+        } else {
+            fragments.processResourceClass(getName(), this.contextRoot + '\n' + this.currentAppPath, openApi, resourceClass,
+                    scan);
+        }
+    }
+
+    /**
+     * Add a path item created for a resource method to the model, merging it with the
+     * path item already present for the path.
+     * 
+     * @param context the scanning context
+     * @param openApi the OpenAPI model being built
+     * @param path the path
+     * @param pathItem the path item
+     */
+    protected void addPathItem(final AnnotationScannerContext context, OpenAPI openApi, String path, PathItem pathItem) {
+        ScanFragments fragments = context.getFragments();
+
+        if (fragments != null) {
+            fragments.pathItemAdded(path, pathItem);
+        }
+
+        ModelUtil.addPathItem(openApi, path, pathItem);
+    }
+
     /**
      * Make a path out of a number of path segments.
      * 
@@ -5,6 +5,7 @@ import java.util.List;
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ScanFragments;
 
 /**
  * Context for scanners.
@@ -15,12 +16,19 @@ public class AnnotationScannerContext {
     private final FilteredIndexView index;
     private final List<AnnotationScannerExtension> extensions;
     private final OpenApiConfig config;
+    private final ScanFragments fragments;
 
     public AnnotationScannerContext(FilteredIndexView index, List<AnnotationScannerExtension> extensions,
             OpenApiConfig config) {
+        this(index, extensions, config, null);
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index, List<AnnotationScannerExtension> extensions,
+            OpenApiConfig config, ScanFragments fragments) {
         this.index = index;
         this.extensions = extensions;
         this.config = config;
+        this.fragments = fragments;
     }
 
     public FilteredIndexView getIndex() {
@@ -35,4 +43,11 @@ public class AnnotationScannerContext {
         return config;
     }
 
+    /**
+     * @return the fragments recorded for an incremental scan, or null if the scan is not incremental
+     */
+    public ScanFragments getFragments() {
+        return fragments;
+    }
+
 }
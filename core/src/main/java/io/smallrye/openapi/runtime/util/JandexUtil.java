@@ -81,7 +81,7 @@ public class JandexUtil {
         String ref = value.asString();
 
         if (!COMPONENT_KEY_PATTERN.matcher(ref).matches()) {
-            return ref;
+            return StringPool.canonical(ref);
         }
 
         if (refType != null) {
@@ -90,7 +90,7 @@ public class JandexUtil {
             throw UtilMessages.msg.refTypeNotNull();
         }
 
-        return ref;
+        return StringPool.canonical(ref);
     }
 
     /**
@@ -156,7 +156,7 @@ public class JandexUtil {
         if (value == null) {
             return null;
         } else {
-            return value.asString();
+            return StringPool.canonical(value.asString());
         }
     }
 
@@ -240,7 +240,12 @@ public class JandexUtil {
     public static Optional<List<String>> stringListValue(AnnotationInstance annotation, String propertyName) {
         AnnotationValue value = annotation.value(propertyName);
         if (value != null) {
-            return Optional.of(new ArrayList<>(Arrays.asList(value.asStringArray())));
+            String[] values = value.asStringArray();
+            List<String> strings = new ArrayList<>(values.length);
+            for (String s : values) {
+                strings.add(StringPool.canonical(s));
+            }
+            return Optional.of(strings);
         }
         return Optional.empty();
     }
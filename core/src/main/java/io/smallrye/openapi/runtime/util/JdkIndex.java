@@ -0,0 +1,232 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.openapi.runtime.scanner.CollectionStandin;
+import io.smallrye.openapi.runtime.scanner.IterableStandin;
+import io.smallrye.openapi.runtime.scanner.MapStandin;
+
+/**
+ * Jandex index of the JDK classes commonly used in data objects and of the
+ * "standin" collection types used internally by the scanner.
+ *
+ * The index is written to {@value #RESOURCE} when this module is built (see
+ * {@link #main(String[])}) and loaded with a single read of that resource. When
+ * the resource is not available, the class files are indexed instead. Other
+ * classes in the {@code java} packages are indexed on demand from the class files
+ * of the platform, without loading the classes themselves, and cached.
+ */
+public final class JdkIndex {
+
+    /**
+     * Class path resource holding the serialized index.
+     */
+    public static final String RESOURCE = "io/smallrye/openapi/runtime/util/jdk.idx";
+
+    private static final String JDK_PACKAGE_PREFIX = "java.";
+
+    private static final Map<DotName, Optional<ClassInfo>> platformClasses = new ConcurrentHashMap<>();
+
+    private JdkIndex() {
+    }
+
+    /**
+     * Holds the index, loaded when first used.
+     */
+    private static final class Holder {
+        static final IndexView INDEX = load();
+    }
+
+    /**
+     * Write the index of the JDK and standin classes to the file given as the
+     * only argument. Invoked by the build, in the {@code process-classes} phase.
+     *
+     * @param args the path of the index file
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args[0]);
+        Files.createDirectories(file.getParent());
+
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            new IndexWriter(stream).write(indexClassFiles());
+        }
+    }
+
+    /**
+     * @return the index of the JDK and standin classes
+     */
+    public static IndexView get() {
+        return Holder.INDEX;
+    }
+
+    /**
+     * Find a class in the index of JDK and standin classes, or when not present
+     * and the class is in a {@code java} package, in the class files of the platform.
+     *
+     * @param name the name of the class
+     * @return the class, or null if not found
+     */
+    public static ClassInfo getClassByName(DotName name) {
+        ClassInfo clazz = Holder.INDEX.getClassByName(name);
+
+        if (clazz == null && name.toString().startsWith(JDK_PACKAGE_PREFIX)) {
+            clazz = platformClasses.computeIfAbsent(name, JdkIndex::indexPlatformClass).orElse(null);
+        }
+
+        return clazz;
+    }
+
+    static IndexView load() {
+        InputStream resource = JdkIndex.class.getClassLoader().getResourceAsStream(RESOURCE);
+
+        if (resource == null) {
+            return indexClassFiles();
+        }
+
+        try (InputStream stream = new BufferedInputStream(resource)) {
+            return new IndexReader(stream).read();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Index the class files of the JDK and standin classes. Used when the serialized
+     * index is not available, and to write it.
+     *
+     * @return the new index
+     */
+    public static Index indexClassFiles() {
+        Indexer indexer = new Indexer();
+
+        for (Class<?> klazz : classes()) {
+            try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    private static Optional<ClassInfo> indexPlatformClass(DotName name) {
+        String resourceName = name.toString().replace('.', '/') + ".class";
+
+        try (InputStream stream = ClassLoader.getSystemResourceAsStream(resourceName)) {
+            if (stream == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Indexer().index(stream));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static Class<?>[] classes() {
+        return new Class<?>[] {
+                java.lang.Enum.class,
+                java.lang.Object.class,
+
+                // Common, expected classes
+                java.lang.Boolean.class,
+                java.lang.Byte.class,
+                java.lang.Character.class,
+                java.lang.Double.class,
+                java.lang.Float.class,
+                java.lang.Integer.class,
+                java.lang.Long.class,
+                java.lang.Number.class,
+                java.lang.Short.class,
+                java.lang.String.class,
+                java.lang.Void.class,
+                java.util.UUID.class,
+
+                // Collection Interfaces
+                java.util.Collection.class,
+                java.util.Deque.class,
+                java.util.List.class,
+                java.util.Map.class,
+                java.util.NavigableMap.class,
+                java.util.NavigableSet.class,
+                java.util.Queue.class,
+                java.util.Set.class,
+                java.util.SortedMap.class,
+                java.util.SortedSet.class,
+                java.util.concurrent.BlockingDeque.class,
+                java.util.concurrent.BlockingQueue.class,
+                java.util.concurrent.ConcurrentMap.class,
+                java.util.concurrent.ConcurrentNavigableMap.class,
+                java.util.concurrent.TransferQueue.class,
+
+                // Abstract Collections
+                java.util.AbstractCollection.class,
+                java.util.AbstractList.class,
+                java.util.AbstractMap.class,
+                java.util.AbstractQueue.class,
+                java.util.AbstractSequentialList.class,
+                java.util.AbstractSet.class,
+                java.util.EnumSet.class,
+
+                // Collections
+                java.util.ArrayDeque.class,
+                java.util.ArrayList.class,
+                java.util.EnumMap.class,
+                java.util.HashMap.class,
+                java.util.HashSet.class,
+                java.util.Hashtable.class,
+                java.util.IdentityHashMap.class,
+                java.util.LinkedHashMap.class,
+                java.util.LinkedHashSet.class,
+                java.util.LinkedList.class,
+                java.util.PriorityQueue.class,
+                java.util.Properties.class,
+                java.util.Stack.class,
+                java.util.TreeMap.class,
+                java.util.TreeSet.class,
+                java.util.Vector.class,
+                java.util.concurrent.ArrayBlockingQueue.class,
+                java.util.concurrent.ConcurrentHashMap.class,
+                java.util.concurrent.ConcurrentLinkedDeque.class,
+                java.util.concurrent.ConcurrentLinkedQueue.class,
+                java.util.concurrent.ConcurrentSkipListMap.class,
+                java.util.concurrent.ConcurrentSkipListSet.class,
+                java.util.concurrent.CopyOnWriteArrayList.class,
+                java.util.concurrent.CopyOnWriteArraySet.class,
+                java.util.concurrent.DelayQueue.class,
+                java.util.concurrent.LinkedBlockingDeque.class,
+                java.util.concurrent.LinkedBlockingQueue.class,
+                java.util.concurrent.LinkedTransferQueue.class,
+                java.util.concurrent.PriorityBlockingQueue.class,
+                java.util.concurrent.SynchronousQueue.class,
+
+                // CompletionStage and implementation
+                java.util.concurrent.CompletionStage.class,
+                java.util.concurrent.CompletableFuture.class,
+
+                // Standin collection types
+                CollectionStandin.class,
+                IterableStandin.class,
+                MapStandin.class
+        };
+    }
+}
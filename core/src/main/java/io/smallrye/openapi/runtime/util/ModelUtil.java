@@ -11,6 +11,7 @@ import java.util.function.UnaryOperator;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
@@ -22,7 +23,9 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.FrozenList;
 import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.SmallMap;
 import io.smallrye.openapi.api.models.media.ContentImpl;
 import io.smallrye.openapi.api.models.media.MediaTypeImpl;
 import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
@@ -97,6 +100,25 @@ public class ModelUtil {
         return openApi.getPaths();
     }
 
+    /**
+     * Adds the path item to the OAI model, or merges it into the path item already
+     * present for the path.
+     * 
+     * @param openApi OpenAPI
+     * @param path the path
+     * @param pathItem the path item
+     */
+    public static void addPathItem(OpenAPI openApi, String path, PathItem pathItem) {
+        PathItem existingPath = paths(openApi).getPathItem(path);
+
+        if (existingPath == null) {
+            paths(openApi).addPathItem(path, pathItem);
+        } else {
+            // Changes applied to 'existingPath', no need to re-assign or add to OAI.
+            MergeUtil.mergeObjects(existingPath, pathItem);
+        }
+    }
+
     /**
      * Gets the {@link APIResponses} child model from the given operation. If it's null
      * then it will be created and returned.
@@ -269,6 +291,10 @@ public class ModelUtil {
     }
 
     public static <V> Map<String, V> unmodifiableMap(Map<String, V> map) {
+        if (map instanceof SmallMap && ((SmallMap<String, V>) map).isFrozen()) {
+            // The map of a frozen model, returned without a wrapper
+            return map;
+        }
         return map != null ? Collections.unmodifiableMap(map) : null;
     }
 
@@ -302,6 +328,9 @@ public class ModelUtil {
     }
 
     public static <V> List<V> unmodifiableList(List<V> list) {
+        if (list instanceof FrozenList) {
+            return list;
+        }
         return list != null ? Collections.unmodifiableList(list) : null;
     }
 
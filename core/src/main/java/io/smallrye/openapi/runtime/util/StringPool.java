@@ -0,0 +1,143 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.IoLogging;
+
+/**
+ * A pool used to canonicalize the strings placed into a model while a single document
+ * is being read or scanned. Values such as schema references, media types, response
+ * codes and extension names are typically repeated many times in a document, and the
+ * pool ensures that each distinct value is held by only one {@link String} instance.
+ *
+ * The pool is bound to the current thread, the same as the {@code SchemaRegistry}, and
+ * is used only when an instance has been created using {@link #newInstance()}. When no
+ * pool is active, {@link #canonical(String)} returns its argument unchanged.
+ */
+public final class StringPool {
+
+    private static final ThreadLocal<StringPool> current = new ThreadLocal<>();
+
+    // Estimates assuming compressed references and compact (Latin-1) strings
+    private static final int STRING_SIZE = 24;
+    private static final int ARRAY_HEADER = 16;
+
+    /**
+     * Create a new pool and make it the active pool for the current thread.
+     *
+     * @return the new pool
+     */
+    public static StringPool newInstance() {
+        StringPool pool = new StringPool();
+        current.set(pool);
+        return pool;
+    }
+
+    /**
+     * @return the pool active for the current thread, or null if none is active
+     */
+    public static StringPool currentInstance() {
+        return current.get();
+    }
+
+    public static void remove() {
+        current.remove();
+    }
+
+    /**
+     * Create a new pool for reading or scanning a document, if pooling is
+     * enabled by the configuration and no pool is already active for the current
+     * thread (which then remains in use).
+     *
+     * @param config the configuration, may be null in which case pooling is
+     *        disabled, the default of {@link OpenApiConfig#stringPoolEnable()}
+     * @return the new pool, to be passed to {@link #end(StringPool)}, or null if
+     *         no pool was created
+     */
+    public static StringPool begin(OpenApiConfig config) {
+        boolean enabled = config != null && config.stringPoolEnable();
+        return enabled && current.get() == null ? newInstance() : null;
+    }
+
+    /**
+     * Log a summary of the pool created by {@link #begin(OpenApiConfig)} and
+     * remove it from the current thread.
+     *
+     * @param pool the pool returned by {@link #begin(OpenApiConfig)}, may be null
+     */
+    public static void end(StringPool pool) {
+        if (pool != null) {
+            IoLogging.log.stringPoolSummary(pool.size(), pool.getDuplicates(), pool.getBytesSaved());
+            remove();
+        }
+    }
+
+    /**
+     * Retrieve the canonical instance of the value from the pool active for the
+     * current thread.
+     *
+     * @param value the string to canonicalize, may be null
+     * @return the canonical instance equal to value, or value itself when no pool
+     *         is active
+     */
+    public static String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringPool pool = current.get();
+        return pool != null ? pool.intern(value) : value;
+    }
+
+    private final Map<String, String> strings = new HashMap<>();
+    private int duplicates;
+    private long bytesSaved;
+
+    private StringPool() {
+    }
+
+    /**
+     * Retrieve the canonical instance of the value, adding the value to the pool if
+     * an equal string is not already present.
+     *
+     * @param value the string to canonicalize, not null
+     * @return the canonical instance equal to value
+     */
+    public String intern(String value) {
+        String existing = strings.putIfAbsent(value, value);
+
+        if (existing == null) {
+            return value;
+        }
+
+        if (existing != value) {
+            duplicates++;
+            bytesSaved += STRING_SIZE + ((ARRAY_HEADER + value.length() + 7) & ~7);
+        }
+
+        return existing;
+    }
+
+    /**
+     * @return the number of distinct strings held by the pool
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * @return the number of duplicate string instances replaced by a canonical instance
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return estimated number of bytes no longer retained by the model due to
+     *         duplicate strings being replaced by a canonical instance
+     */
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+}
@@ -1,8 +1,5 @@
 package io.smallrye.openapi.runtime.util;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -29,7 +26,6 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -38,6 +34,7 @@ import org.jboss.jandex.WildcardType;
 import io.smallrye.openapi.api.constants.JDKConstants;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExternalDocumentationImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsConstant;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 
@@ -89,7 +86,6 @@ public class TypeUtil {
             .example("13:45.30.123456789").build();
 
     private static final Map<DotName, TypeWithFormat> TYPE_MAP = new LinkedHashMap<>();
-    private static final IndexView jdkIndex;
 
     // https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.0.md#dataTypeFormat
     static {
@@ -147,96 +143,6 @@ public class TypeUtil {
         // Time
         TYPE_MAP.put(DotName.createSimple(java.time.LocalTime.class.getName()), TIME_LOCAL_FORMAT);
         TYPE_MAP.put(DotName.createSimple(java.time.OffsetTime.class.getName()), TIME_FORMAT);
-
-        Indexer indexer = new Indexer();
-        index(indexer, java.lang.Enum.class);
-        index(indexer, java.lang.Object.class);
-
-        // Common, expected classes
-        index(indexer, java.lang.Boolean.class);
-        index(indexer, java.lang.Byte.class);
-        index(indexer, java.lang.Character.class);
-        index(indexer, java.lang.Double.class);
-        index(indexer, java.lang.Float.class);
-        index(indexer, java.lang.Integer.class);
-        index(indexer, java.lang.Long.class);
-        index(indexer, java.lang.Number.class);
-        index(indexer, java.lang.Short.class);
-        index(indexer, java.lang.String.class);
-        index(indexer, java.lang.Void.class);
-        index(indexer, java.util.UUID.class);
-
-        // Collection Interfaces
-        index(indexer, java.util.Collection.class);
-        index(indexer, java.util.Deque.class);
-        index(indexer, java.util.List.class);
-        index(indexer, java.util.Map.class);
-        index(indexer, java.util.NavigableMap.class);
-        index(indexer, java.util.NavigableSet.class);
-        index(indexer, java.util.Queue.class);
-        index(indexer, java.util.Set.class);
-        index(indexer, java.util.SortedMap.class);
-        index(indexer, java.util.SortedSet.class);
-        index(indexer, java.util.concurrent.BlockingDeque.class);
-        index(indexer, java.util.concurrent.BlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentMap.class);
-        index(indexer, java.util.concurrent.ConcurrentNavigableMap.class);
-        index(indexer, java.util.concurrent.TransferQueue.class);
-
-        // Abstract Collections
-        index(indexer, java.util.AbstractCollection.class);
-        index(indexer, java.util.AbstractList.class);
-        index(indexer, java.util.AbstractMap.class);
-        index(indexer, java.util.AbstractQueue.class);
-        index(indexer, java.util.AbstractSequentialList.class);
-        index(indexer, java.util.AbstractSet.class);
-        index(indexer, java.util.EnumSet.class);
-
-        // Collections
-        index(indexer, java.util.ArrayDeque.class);
-        index(indexer, java.util.ArrayList.class);
-        index(indexer, java.util.EnumMap.class);
-        index(indexer, java.util.HashMap.class);
-        index(indexer, java.util.HashSet.class);
-        index(indexer, java.util.Hashtable.class);
-        index(indexer, java.util.IdentityHashMap.class);
-        index(indexer, java.util.LinkedHashMap.class);
-        index(indexer, java.util.LinkedHashSet.class);
-        index(indexer, java.util.LinkedList.class);
-        index(indexer, java.util.PriorityQueue.class);
-        index(indexer, java.util.Properties.class);
-        index(indexer, java.util.Stack.class);
-        index(indexer, java.util.TreeMap.class);
-        index(indexer, java.util.TreeSet.class);
-        index(indexer, java.util.Vector.class);
-        index(indexer, java.util.concurrent.ArrayBlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentHashMap.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedDeque.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListMap.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListSet.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArrayList.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArraySet.class);
-        index(indexer, java.util.concurrent.DelayQueue.class);
-        index(indexer, java.util.concurrent.LinkedBlockingDeque.class);
-        index(indexer, java.util.concurrent.LinkedBlockingQueue.class);
-        index(indexer, java.util.concurrent.LinkedTransferQueue.class);
-        index(indexer, java.util.concurrent.PriorityBlockingQueue.class);
-        index(indexer, java.util.concurrent.SynchronousQueue.class);
-
-        // CompletionStage and implementation
-        index(indexer, java.util.concurrent.CompletionStage.class);
-        index(indexer, java.util.concurrent.CompletableFuture.class);
-
-        jdkIndex = indexer.complete();
-    }
-
-    private static void index(Indexer indexer, Class<?> klazz) {
-        try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
     }
 
     private TypeUtil() {
@@ -298,8 +204,31 @@ public class TypeUtil {
      * @param schema a writable schema to be updated with the type's default schema attributes
      */
     public static void applyTypeAttributes(Type classType, Schema schema) {
-        Map<String, Object> properties = getTypeAttributes(classType);
+        applyTypeAttributes(classType, schema, false);
+    }
+
+    /**
+     * Sets the default schema attributes for the given type on the provided schema
+     * instance. When sharing is requested and the schema does not yet have any
+     * properties set, the schema shares the properties of an immutable prototype
+     * for the type, copying them only if later modified.
+     * 
+     * @param classType the type
+     * @param schema a writable schema to be updated with the type's default schema attributes
+     * @param shareProperties whether the schema may share the prototype's properties
+     */
+    public static void applyTypeAttributes(Type classType, Schema schema, boolean shareProperties) {
+        TypeWithFormat typeFormat = getTypeFormat(classType);
+
+        if (shareProperties && schema instanceof SchemaImpl
+                && ((SchemaImpl) schema).shareProperties(typeFormat.getPrototype())) {
+            return;
+        }
 
+        applyTypeAttributes(typeFormat.getProperties(), schema);
+    }
+
+    private static void applyTypeAttributes(Map<String, Object> properties, Schema schema) {
         schema.setType((SchemaType) properties.get(SchemaConstant.PROP_TYPE));
         schema.setFormat((String) properties.get(SchemaConstant.PROP_FORMAT));
         schema.setPattern((String) properties.get(SchemaConstant.PROP_PATTERN));
@@ -358,7 +287,7 @@ public class TypeUtil {
     static ClassInfo getClassInfo(IndexView appIndex, DotName className) {
         ClassInfo clazz = appIndex.getClassByName(className);
         if (clazz == null) {
-            clazz = jdkIndex.getClassByName(className);
+            clazz = JdkIndex.getClassByName(className);
         }
         return clazz;
     }
@@ -387,25 +316,44 @@ public class TypeUtil {
         // First, look in Jandex, as target might not be in our classloader
         ClassInfo subJandexKlazz = getClassInfo(index, testSubject);
 
-        if (subJandexKlazz != null && superTypes(index, subJandexKlazz).contains(getName(testObject))) {
-            return true;
+        if (subJandexKlazz != null) {
+            Set<DotName> superTypes = new HashSet<>();
+            boolean complete = superTypes(index, subJandexKlazz, superTypes);
+
+            if (superTypes.contains(getName(testObject))) {
+                return true;
+            }
+            if (complete) {
+                // The whole hierarchy is known, there is no need to load the classes
+                return false;
+            }
         }
 
         return isAssignableFrom(testSubject.name(), testObject.name());
     }
 
-    private static Set<DotName> superTypes(IndexView index, ClassInfo testSubject) {
-        Set<DotName> superTypes = new HashSet<>();
+    /**
+     * Collect the names of all super classes and interfaces of a class.
+     *
+     * @param index Jandex index
+     * @param testSubject the class
+     * @param superTypes set to which the names are added
+     * @return true if every super type was found, i.e. the set holds the complete hierarchy
+     */
+    private static boolean superTypes(IndexView index, ClassInfo testSubject, Set<DotName> superTypes) {
+        boolean complete = true;
 
-        testSubject.interfaceNames().forEach(iface -> {
+        for (DotName iface : testSubject.interfaceNames()) {
             superTypes.add(iface);
 
             ClassInfo superIFace = getClassInfo(index, iface);
 
             if (superIFace != null) {
-                superTypes.addAll(superTypes(index, superIFace));
+                complete &= superTypes(index, superIFace, superTypes);
+            } else {
+                complete = false;
             }
-        });
+        }
 
         Type superType = testSubject.superClassType();
 
@@ -415,11 +363,13 @@ public class TypeUtil {
             ClassInfo superKlazz = getClassInfo(index, superType);
 
             if (superKlazz != null) {
-                superTypes.addAll(superTypes(index, superKlazz));
+                complete &= superTypes(index, superKlazz, superTypes);
+            } else {
+                complete = false;
             }
         }
 
-        return superTypes;
+        return complete;
     }
 
     public static boolean isTerminalType(Type type) {
@@ -766,9 +716,14 @@ public class TypeUtil {
         }
 
         private final Map<String, Object> properties;
+        private final SchemaImpl prototype;
 
         private TypeWithFormat(Map<String, Object> properties) {
             this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+            this.prototype = new SchemaImpl();
+            applyTypeAttributes(this.properties, prototype);
+            // Frozen eagerly, the prototype is shared by all threads
+            prototype.freezeProperties();
         }
 
         boolean isSchemaType(SchemaType... schemaTypes) {
@@ -779,6 +734,10 @@ public class TypeUtil {
         Map<String, Object> getProperties() {
             return properties;
         }
+
+        SchemaImpl getPrototype() {
+            return prototype;
+        }
     }
 
     private static class DataFormat {
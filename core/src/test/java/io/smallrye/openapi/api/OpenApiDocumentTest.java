@@ -0,0 +1,151 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.models.servers.ServerImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+public class OpenApiDocumentTest {
+
+    @After
+    public void reset() {
+        OpenApiDocument.INSTANCE.reset();
+    }
+
+    private static OpenAPI annotationsModel() {
+        OpenAPI model = new OpenAPIImpl();
+        model.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+        model.setInfo(new InfoImpl().title("Servers").version("1.0"));
+        model.addServer(new ServerImpl().url("http://annotated"));
+        model.setPaths(new PathsImpl()
+                .addPathItem("/a", new PathItemImpl().GET(new OperationImpl().operationId("getA")))
+                .addPathItem("/b", new PathItemImpl().GET(new OperationImpl().operationId("getB"))));
+        return model;
+    }
+
+    private static OpenApiConfig config(Object... properties) {
+        Map<String, Object> values = new HashMap<>();
+        values.put(OpenApiConstants.SMALLRYE_SERVERS_RELOAD_ENABLE, Boolean.TRUE);
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put((String) properties[i], properties[i + 1]);
+        }
+        return IndexScannerTestBase.dynamicConfig(values);
+    }
+
+    private static List<String> urls(List<Server> servers) {
+        return servers == null ? null : servers.stream().map(Server::getUrl).collect(Collectors.toList());
+    }
+
+    private static void initialize(OpenApiConfig config) {
+        OpenApiDocument.INSTANCE.reset();
+        OpenApiDocument.INSTANCE.config(config);
+        OpenApiDocument.INSTANCE.modelFromAnnotations(annotationsModel());
+        OpenApiDocument.INSTANCE.initialize();
+    }
+
+    @Test
+    public void testReconfigureServers() {
+        initialize(config(OASConfig.SERVERS, "http://global",
+                OASConfig.SERVERS_PATH_PREFIX + "/a", "http://a1"));
+
+        OpenAPI initial = OpenApiDocument.INSTANCE.get();
+        assertEquals("[http://global]", urls(initial.getServers()).toString());
+        assertEquals("[http://a1]", urls(initial.getPaths().getPathItem("/a").getServers()).toString());
+
+        RenderedDocument reconfigured = OpenApiDocument.INSTANCE.reconfigureServers(config(
+                OASConfig.SERVERS_PATH_PREFIX + "/a", "http://a2",
+                OASConfig.SERVERS_OPERATION_PREFIX + "getB", "http://b2"));
+        OpenAPI model = reconfigured.getModel();
+
+        assertSame(reconfigured, OpenApiDocument.INSTANCE.getRendered());
+        // Servers no longer configured are those of the document
+        assertEquals("[http://annotated]", urls(model.getServers()).toString());
+        assertEquals("[http://a2]", urls(model.getPaths().getPathItem("/a").getServers()).toString());
+        assertNull(model.getPaths().getPathItem("/b").getServers());
+        assertEquals("[http://b2]", urls(model.getPaths().getPathItem("/b").getGET().getServers()).toString());
+        assertTrue(new String(reconfigured.getBytes(Format.JSON), StandardCharsets.UTF_8).contains("http://b2"));
+
+        // The previous document is unchanged, and shares the objects without configured servers
+        assertEquals("[http://a1]", urls(initial.getPaths().getPathItem("/a").getServers()).toString());
+        assertNull(initial.getPaths().getPathItem("/b").getGET().getServers());
+        assertSame(initial.getInfo(), model.getInfo());
+        assertSame(initial.getPaths().getPathItem("/a").getGET(), model.getPaths().getPathItem("/a").getGET());
+    }
+
+    @Test
+    public void testReconfigureFrozenServers() {
+        initialize(config(OpenApiConstants.SMALLRYE_FREEZE_DOCUMENT_ENABLE, Boolean.TRUE,
+                OASConfig.SERVERS_OPERATION_PREFIX + "getA", "http://a1"));
+
+        OpenAPI model = OpenApiDocument.INSTANCE.reconfigureServers(config(
+                OpenApiConstants.SMALLRYE_FREEZE_DOCUMENT_ENABLE, Boolean.TRUE,
+                OASConfig.SERVERS_OPERATION_PREFIX + "getA", "http://a2")).getModel();
+
+        assertEquals("[http://a2]", urls(model.getPaths().getPathItem("/a").getGET().getServers()).toString());
+    }
+
+    @Test
+    public void testPrerenderTextFormatsWhenCompressed() {
+        initialize(config(OpenApiConstants.SMALLRYE_COMPRESSION_LEVEL, 6));
+
+        RenderedDocument initial = OpenApiDocument.INSTANCE.getRendered();
+        assertEquals(EnumSet.of(Format.JSON, Format.YAML), initial.getRenderedFormats());
+
+        // A binary format requested from the current document is rendered again
+        initial.getBytes(Format.CBOR);
+        RenderedDocument reconfigured = OpenApiDocument.INSTANCE.reconfigureServers(config(
+                OpenApiConstants.SMALLRYE_COMPRESSION_LEVEL, 6));
+        assertEquals(EnumSet.of(Format.JSON, Format.YAML, Format.CBOR), reconfigured.getRenderedFormats());
+    }
+
+    @Test
+    public void testPrerenderConfiguredFormats() {
+        initialize(config(OpenApiConstants.SMALLRYE_PRERENDER_FORMATS, "json"));
+        assertEquals(EnumSet.of(Format.JSON), OpenApiDocument.INSTANCE.getRendered().getRenderedFormats());
+
+        RenderedDocument reconfigured = OpenApiDocument.INSTANCE.reconfigureServers(config(
+                OpenApiConstants.SMALLRYE_PRERENDER_FORMATS, "json"));
+        assertEquals(EnumSet.of(Format.JSON), reconfigured.getRenderedFormats());
+    }
+
+    @Test
+    public void testPrerenderTextFormatsByDefault() {
+        initialize(config());
+        assertEquals(EnumSet.of(Format.JSON, Format.YAML), OpenApiDocument.INSTANCE.getRendered().getRenderedFormats());
+
+        // The formats served by the current document are rendered again
+        OpenApiDocument.INSTANCE.getRendered().getBytes(Format.CBOR);
+        RenderedDocument reconfigured = OpenApiDocument.INSTANCE.reconfigureServers(config());
+        assertEquals(EnumSet.of(Format.JSON, Format.YAML, Format.CBOR), reconfigured.getRenderedFormats());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReconfigureServersNotEnabled() {
+        initialize(IndexScannerTestBase.emptyConfig());
+
+        OpenApiDocument.INSTANCE.reconfigureServers(IndexScannerTestBase.emptyConfig());
+    }
+}
@@ -0,0 +1,112 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+public class RenderedDocumentTest {
+
+    @After
+    public void reset() {
+        OpenApiDocument.INSTANCE.reset();
+    }
+
+    private static OpenAPI model() throws IOException {
+        return OpenApiParser.parse(RenderedDocumentTest.class.getResource("/io/smallrye/openapi/runtime/io/_everything.json"));
+    }
+
+    private static byte[] decompress(ContentEncoding encoding, byte[] bytes) throws IOException {
+        try (InputStream in = encoding == ContentEncoding.GZIP
+                ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+                : new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    @Test
+    public void testCompressedVariants() throws IOException {
+        RenderedDocument document = new RenderedDocument(model(), 9).prerender();
+        Set<String> etags = new HashSet<>();
+
+        for (Format format : Format.values()) {
+            byte[] identity = document.getBytes(format);
+            assertSame(identity, document.getBytes(format, ContentEncoding.IDENTITY));
+
+            for (ContentEncoding encoding : ContentEncoding.values()) {
+                byte[] bytes = document.getBytes(format, encoding);
+                assertSame(bytes, document.getBytes(format, encoding));
+                if (encoding != ContentEncoding.IDENTITY) {
+                    assertArrayEquals(identity, decompress(encoding, bytes));
+                    if (!format.isBinary()) {
+                        assertTrue(bytes.length < identity.length);
+                    }
+                }
+
+                String etag = document.getETag(format, encoding);
+                assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+                etags.add(etag);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                document.writeTo(format, encoding, out);
+                assertArrayEquals(bytes, out.toByteArray());
+            }
+        }
+
+        // A distinct tag for each variant, the same for the same content
+        assertEquals(Format.values().length * ContentEncoding.values().length, etags.size());
+        RenderedDocument same = new RenderedDocument(model());
+        assertEquals(document.getETag(Format.JSON, ContentEncoding.GZIP), same.getETag(Format.JSON, ContentEncoding.GZIP));
+        assertNotEquals(document.getETag(Format.JSON, ContentEncoding.GZIP),
+                document.getETag(Format.JSON, ContentEncoding.DEFLATE));
+    }
+
+    @Test
+    public void testCompressionLevels() throws IOException {
+        OpenAPI model = model();
+        byte[] stored = new RenderedDocument(model, 0).getBytes(Format.YAML, ContentEncoding.DEFLATE);
+        byte[] best = new RenderedDocument(model, 9).getBytes(Format.YAML, ContentEncoding.DEFLATE);
+
+        assertTrue(best.length < stored.length);
+        assertArrayEquals(decompress(ContentEncoding.DEFLATE, stored), decompress(ContentEncoding.DEFLATE, best));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCompressionLevel() throws IOException {
+        new RenderedDocument(model(), 10);
+    }
+
+    @Test
+    public void testPublishedWithCompressionLevel() throws IOException {
+        OpenApiDocument.INSTANCE.reset();
+        OpenApiDocument.INSTANCE.config(IndexScannerTestBase.dynamicConfig(
+                Collections.singletonMap(OpenApiConstants.SMALLRYE_COMPRESSION_LEVEL, 1)));
+        OpenApiDocument.INSTANCE.modelFromStaticFile(model());
+        OpenApiDocument.INSTANCE.initialize();
+
+        RenderedDocument document = OpenApiDocument.INSTANCE.getRendered();
+        assertArrayEquals(document.getBytes(Format.JSON),
+                decompress(ContentEncoding.GZIP, document.getBytes(Format.JSON, ContentEncoding.GZIP)));
+    }
+}
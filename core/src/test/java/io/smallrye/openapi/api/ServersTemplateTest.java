@@ -0,0 +1,177 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.json.JSONException;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.api.models.links.LinkImpl;
+import io.smallrye.openapi.api.models.responses.APIResponseImpl;
+import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
+import io.smallrye.openapi.api.models.servers.ServerImpl;
+import io.smallrye.openapi.api.util.CopyOnWriteUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class ServersTemplateTest {
+
+    private static OpenAPI model() {
+        Server shared = new ServerImpl().url("/shared").description("Shared");
+        OpenAPI model = new OpenAPIImpl();
+        model.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+        model.setInfo(new InfoImpl().title("Servers").version("1.0"));
+        model.addServer(new ServerImpl().url("/api"));
+        model.addServer(new ServerImpl().url("https://fixed.example.com/api"));
+        model.setPaths(new PathsImpl()
+                .addPathItem("/a", new PathItemImpl().addServer(shared)
+                        .GET(new OperationImpl().operationId("getA").addServer(new ServerImpl().url("/api"))))
+                .addPathItem("/b", new PathItemImpl().addServer(shared)
+                        .GET(new OperationImpl().operationId("getB").responses(new APIResponsesImpl()
+                                .addAPIResponse("200", new APIResponseImpl().description("OK")
+                                        .addLink("a", new LinkImpl().operationId("getA")
+                                                .server(new ServerImpl().url("/links")))))))
+                .addPathItem("/c", new PathItemImpl().addServer(new ServerImpl().description("No URL"))));
+        return model;
+    }
+
+    private static String serialize(OpenAPI model, Format format, UnaryOperator<String> resolver) throws IOException {
+        Set<Server> resolvedServers = Collections.newSetFromMap(new IdentityHashMap<>());
+        OpenAPI resolved = CopyOnWriteUtil.applyFilter(new OASFilter() {
+            @Override
+            public Server filterServer(Server server) {
+                if (server.getUrl() != null && resolvedServers.add(server)) {
+                    server.setUrl(resolver.apply(server.getUrl()));
+                }
+                return server;
+            }
+        }, model);
+        return OpenApiSerializer.serialize(resolved, format);
+    }
+
+    private static Map<String, String> headers(String... namesAndValues) {
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            headers.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return headers;
+    }
+
+    @Test
+    public void testRender() throws IOException {
+        OpenAPI model = model();
+        String original = OpenApiSerializer.serialize(model, Format.JSON);
+
+        ServerUrlResolver resolver = ServerUrlResolver.fromHeaders("http",
+                headers("Host", "app.example.com:8080")::get);
+
+        for (Format format : Arrays.asList(Format.JSON, Format.YAML)) {
+            ServersTemplate template = ServersTemplate.of(model, format);
+            assertEquals(new HashSet<>(Arrays.asList("/api", "https://fixed.example.com/api", "/shared", "/links")),
+                    new HashSet<>(template.getUrls()));
+            assertEquals(4, template.getUrls().size());
+
+            // Exactly the output of the model with the resolved servers
+            String expected = serialize(model, format, resolver);
+            assertEquals(expected, new String(template.render(resolver), StandardCharsets.UTF_8));
+            assertEquals(OpenApiSerializer.serialize(model, format),
+                    new String(template.render(url -> null), StandardCharsets.UTF_8));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            template.writeTo(resolver, out);
+            assertArrayEquals(template.render(resolver), out.toByteArray());
+        }
+
+        // The model is not modified
+        assertEquals(original, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    public void testRenderEscaped() throws IOException, JSONException {
+        OpenAPI model = model();
+        UnaryOperator<String> resolver = url -> "http://quote\"d/back\\slash/hash #/colon: " + url;
+
+        ServersTemplate json = ServersTemplate.of(model, Format.JSON);
+        assertEquals(serialize(model, Format.JSON, resolver),
+                new String(json.render(resolver), StandardCharsets.UTF_8));
+
+        // Quoted rather than plain, parsed to the same document
+        ServersTemplate yaml = ServersTemplate.of(model, Format.YAML);
+        OpenAPI parsed = OpenApiParser.parse(new ByteArrayInputStream(yaml.render(resolver)), Format.YAML);
+        JSONAssert.assertEquals(serialize(model, Format.JSON, resolver),
+                OpenApiSerializer.serialize(parsed, Format.JSON), true);
+    }
+
+    @Test
+    public void testServerUrlResolver() {
+        assertEquals("http://app:8080/api", ServerUrlResolver.fromHeaders("http",
+                headers("Host", "app:8080")::get).apply("/api"));
+        assertEquals("https://public.example.com:8443/svc/api", ServerUrlResolver.fromHeaders("http",
+                headers("Host", "app:8080", "X-Forwarded-Proto", "https, http",
+                        "X-Forwarded-Host", "public.example.com, proxy", "X-Forwarded-Port", "8443",
+                        "X-Forwarded-Prefix", "/svc/")::get,
+                true)
+                .apply("/api"));
+        assertEquals("https://[::1]/svc", ServerUrlResolver.fromHeaders("https",
+                headers("X-Forwarded-Host", "[::1]", "X-Forwarded-Prefix", "svc")::get, true).apply("/"));
+        assertEquals("https://fixed.example.com", ServerUrlResolver.fromHeaders("http",
+                headers("Host", "app")::get).apply("https://fixed.example.com"));
+        assertEquals("/api", ServerUrlResolver.fromHeaders("http", headers()::get).apply("/api"));
+    }
+
+    @Test
+    public void testServerUrlResolverForwardedHeaders() {
+        // Not trusted by default
+        assertEquals("http://app:8080/api", ServerUrlResolver.fromHeaders("http",
+                headers("Host", "app:8080", "X-Forwarded-Proto", "https", "X-Forwarded-Host", "evil.example.com",
+                        "X-Forwarded-Prefix", "/svc")::get)
+                .apply("/api"));
+        // A protocol other than http or https is ignored
+        assertEquals("http://public.example.com/api", ServerUrlResolver.fromHeaders("http",
+                headers("X-Forwarded-Proto", "javascript", "X-Forwarded-Host", "public.example.com")::get, true)
+                .apply("/api"));
+        assertEquals("https://public.example.com/api", ServerUrlResolver.fromHeaders("http",
+                headers("X-Forwarded-Proto", "HTTPS", "X-Forwarded-Host", "public.example.com")::get, true)
+                .apply("/api"));
+    }
+
+    @Test
+    public void testRenderedDocumentTemplate() {
+        RenderedDocument document = new RenderedDocument(model());
+        ServersTemplate template = document.getServersTemplate(Format.YAML);
+
+        assertSame(template, document.getServersTemplate(Format.YAML));
+        assertEquals(Format.YAML, template.getFormat());
+        assertArrayEquals(document.getBytes(Format.YAML), template.render(url -> url));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBinaryFormat() throws IOException {
+        ServersTemplate.of(model(), Format.SMILE);
+    }
+}
@@ -0,0 +1,141 @@
+package io.smallrye.openapi.api.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Indexer;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+public class AggregatingScanListenerTest {
+
+    private static OpenAPI parse(String resource) throws Exception {
+        return OpenApiParser.parse(FilterUtil.class.getResource(resource));
+    }
+
+    @Test
+    public void testPhasesReported() throws Exception {
+        AggregatingScanListener listener = new AggregatingScanListener();
+        OpenAPI model = parse("filter-before.json");
+
+        assertFalse(ScanInstrumentation.isEnabled());
+        ScanInstrumentation.register(listener);
+
+        try {
+            assertTrue(ScanInstrumentation.isEnabled());
+            MergeUtil.merge(model, parse("filter-before.json"));
+            FilterUtil.applyFilter(new OASFilter() {
+            }, model);
+            OpenApiSerializer.serialize(model, Format.JSON);
+            OpenApiSerializer.serialize(model, Format.YAML);
+        } finally {
+            ScanInstrumentation.unregister(listener);
+        }
+
+        assertFalse(ScanInstrumentation.isEnabled());
+        // Not reported, the listener has been removed
+        OpenApiSerializer.serialize(model, Format.JSON);
+
+        ScanReport report = listener.getReport();
+        assertEquals(1, report.getCount(ScanPhase.MERGE));
+        assertEquals(1, report.getCount(ScanPhase.FILTER));
+        assertEquals(2, report.getCount(ScanPhase.SERIALIZE));
+        assertEquals(0, report.getCount(ScanPhase.SCAN));
+        assertTrue(report.getTotalNanos(ScanPhase.SERIALIZE) >= report.getMaxNanos(ScanPhase.SERIALIZE));
+        assertTrue(report.getMaxNanos(ScanPhase.SERIALIZE) > 0);
+        assertTrue(report.toString().contains("SERIALIZE"));
+
+        listener.reset();
+        assertEquals(0, listener.getReport().getCount(ScanPhase.SERIALIZE));
+    }
+
+    @Test
+    public void testMultipleListeners() {
+        AggregatingScanListener first = new AggregatingScanListener();
+        AggregatingScanListener second = new AggregatingScanListener();
+        ScanInstrumentation.register(first);
+        ScanInstrumentation.register(second);
+
+        try {
+            ScanInstrumentation.end(ScanPhase.SCHEMA, null, ScanInstrumentation.start(ScanPhase.SCHEMA, null));
+            ScanInstrumentation.registryLookup(null, true);
+            ScanInstrumentation.unregister(first);
+            ScanInstrumentation.registryLookup(null, false);
+        } finally {
+            ScanInstrumentation.unregister(second);
+        }
+
+        assertEquals(1, first.getReport().getCount(ScanPhase.SCHEMA));
+        assertEquals(1, second.getReport().getCount(ScanPhase.SCHEMA));
+        assertEquals(1, first.getReport().getRegistryHits());
+        assertEquals(0, first.getReport().getRegistryMisses());
+        assertEquals(1, second.getReport().getRegistryMisses());
+    }
+
+    @Test
+    public void testDocumentPhasesReported() throws Exception {
+        AggregatingScanListener aggregating = new AggregatingScanListener();
+        AtomicLong bytesRead = new AtomicLong();
+        List<Object> results = new ArrayList<>();
+        ScanListener recording = new ScanListener() {
+            @Override
+            public void phaseCompleted(ScanPhase phase, Object subject, Object result, long durationNanos) {
+                if (phase == ScanPhase.INITIALIZE) {
+                    results.add(result);
+                }
+            }
+
+            @Override
+            public void bytesRead(ScanPhase phase, Object subject, long bytes) {
+                bytesRead.addAndGet(bytes);
+            }
+        };
+        byte[] content = IOUtils.toByteArray(FilterUtil.class.getResource("filter-before.json"));
+        OpenApiConfig config = IndexScannerTestBase.emptyConfig();
+
+        ScanInstrumentation.register(aggregating);
+        ScanInstrumentation.register(recording);
+
+        try {
+            OpenApiDocument.INSTANCE.reset();
+            OpenApiDocument.INSTANCE.config(config);
+            OpenApiDocument.INSTANCE.modelFromStaticFile(OpenApiProcessor.modelFromStaticFile(
+                    new OpenApiStaticFile(new ByteArrayInputStream(content), Format.JSON)));
+            OpenApiDocument.INSTANCE.modelFromAnnotations(
+                    OpenApiProcessor.modelFromAnnotations(config, new Indexer().complete()));
+            OpenApiDocument.INSTANCE.initialize();
+        } finally {
+            ScanInstrumentation.unregister(recording);
+            ScanInstrumentation.unregister(aggregating);
+            OpenApiDocument.INSTANCE.reset();
+        }
+
+        ScanReport report = aggregating.getReport();
+        assertEquals(1, report.getCount(ScanPhase.STATIC_FILE));
+        assertEquals(1, report.getCount(ScanPhase.ANNOTATIONS));
+        assertEquals(1, report.getCount(ScanPhase.SCAN));
+        assertEquals(7, report.getCount(ScanPhase.INITIALIZE));
+        assertEquals(content.length, bytesRead.get());
+        assertEquals(7, results.size());
+        assertTrue(results.get(6) instanceof OpenAPI);
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.models.callbacks.CallbackImpl;
+import io.smallrye.openapi.api.util.AllocationMeter;
+
+public class MapModelTest {
+
+    @Test
+    public void testReadsDoNotCreateMap() {
+        PathsImpl paths = new PathsImpl();
+
+        assertEquals(0, paths.size());
+        assertTrue(paths.isEmpty());
+        assertNull(paths.get("/pets"));
+        assertFalse(paths.containsKey("/pets"));
+        assertFalse(paths.containsValue(null));
+        assertTrue(paths.keySet().isEmpty());
+        assertTrue(paths.values().isEmpty());
+        assertTrue(paths.entrySet().isEmpty());
+        assertNull(paths.remove("/pets"));
+        paths.clear();
+
+        assertNull(paths.getMap());
+    }
+
+    @Test
+    public void testWritesCreateMap() {
+        CallbackImpl callback = new CallbackImpl();
+        PathItem item = new PathItemImpl();
+
+        assertNull(callback.put("{$request.body#/callbackUrl}", item));
+        assertEquals(1, callback.size());
+        assertTrue(callback.containsValue(item));
+        assertEquals(item, callback.remove("{$request.body#/callbackUrl}"));
+        assertTrue(callback.isEmpty());
+    }
+
+    @Test
+    public void testReadsDoNotAllocate() throws Exception {
+        PathsImpl empty = new PathsImpl();
+        PathsImpl populated = new PathsImpl();
+        populated.put("/pets", new PathItemImpl());
+
+        long allocated = new AllocationMeter().measure(10_000, () -> {
+            empty.get("/pets");
+            empty.containsKey("/pets");
+            empty.isEmpty();
+            empty.size();
+            populated.get("/pets");
+            populated.containsKey("/pets");
+            populated.isEmpty();
+        });
+
+        assertEquals(0, allocated);
+        assertNull(empty.getMap());
+    }
+}
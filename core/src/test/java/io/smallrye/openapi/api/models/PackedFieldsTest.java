@@ -0,0 +1,205 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.models.headers.HeaderImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.parameters.ParameterImpl;
+
+public class PackedFieldsTest {
+
+    // Estimates assuming compressed references (the default for heaps below 32GB)
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    @Test
+    public void testSetAndGetInAnyOrder() {
+        PackedFields fields = new PackedFields();
+        fields.set(40, "forty");
+        fields.set(3, "three");
+        fields.set(63, "sixty-three");
+        fields.set(0, "zero");
+
+        assertEquals(4, fields.size());
+        assertEquals("zero", fields.get(0));
+        assertEquals("three", fields.get(3));
+        assertEquals("forty", fields.get(40));
+        assertEquals("sixty-three", fields.get(63));
+        assertNull(fields.get(1));
+        assertFalse(fields.isSet(1));
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        PackedFields fields = new PackedFields();
+        fields.set(5, "five");
+        fields.set(7, "seven");
+        fields.set(5, "FIVE");
+        assertEquals(2, fields.size());
+        assertEquals("FIVE", fields.get(5));
+
+        fields.set(5, null);
+        assertEquals(1, fields.size());
+        assertFalse(fields.isSet(5));
+        assertEquals("seven", fields.get(7));
+
+        fields.set(7, null);
+        assertEquals(0, fields.size());
+        assertNull(fields.get(7));
+
+        // Removing an absent property is a no-op
+        fields.set(9, null);
+        assertEquals(0, fields.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfRange() {
+        new PackedFields().set(PackedFields.MAX_FIELDS, "");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenIsImmutable() {
+        PackedFields fields = new PackedFields();
+        fields.set(1, "one");
+        PackedFields frozen = fields.freeze();
+        assertTrue(frozen.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertEquals("one", frozen.get(1));
+        frozen.set(1, "uno");
+    }
+
+    @Test
+    public void testSharedSchemaCopyOnWrite() {
+        SchemaImpl prototype = new SchemaImpl();
+        prototype.type(SchemaType.STRING).format("uuid");
+
+        SchemaImpl first = new SchemaImpl();
+        SchemaImpl second = new SchemaImpl();
+        assertTrue(first.shareProperties(prototype));
+        assertTrue(second.shareProperties(prototype));
+        assertFalse(new SchemaImpl("named").shareProperties(prototype));
+
+        first.setFormat("date");
+        second.setDescription("An identifier");
+        prototype.setType(SchemaType.INTEGER);
+
+        assertEquals(SchemaType.STRING, first.getType());
+        assertEquals("date", first.getFormat());
+        assertNull(first.getDescription());
+        assertEquals("uuid", second.getFormat());
+        assertEquals("An identifier", second.getDescription());
+        assertEquals(SchemaType.INTEGER, prototype.getType());
+        assertEquals("uuid", prototype.getFormat());
+        assertNull(prototype.getDescription());
+    }
+
+    @Test
+    public void testSharedSchemaNestedValuesModifiable() {
+        SchemaImpl prototype = new SchemaImpl();
+        prototype.type(SchemaType.OBJECT).externalDocs(new ExternalDocumentationImpl().url("http://a"));
+        prototype.addProperty("id", new SchemaImpl().type(SchemaType.STRING));
+
+        SchemaImpl schema = new SchemaImpl();
+        assertTrue(schema.shareProperties(prototype));
+
+        schema.getExternalDocs().setUrl("http://b");
+        schema.getProperties().get("id").setType(SchemaType.INTEGER);
+
+        assertEquals("http://b", schema.getExternalDocs().getUrl());
+        assertEquals(SchemaType.INTEGER, schema.getProperties().get("id").getType());
+        assertEquals("http://a", prototype.getExternalDocs().getUrl());
+        assertEquals(SchemaType.STRING, prototype.getProperties().get("id").getType());
+    }
+
+    @Test
+    public void testSchemaPropertiesRoundTrip() {
+        SchemaImpl schema = new SchemaImpl("name");
+        schema.type(SchemaType.STRING).format("uuid").ref("Foo");
+        schema.additionalPropertiesBoolean(Boolean.TRUE);
+        schema.additionalPropertiesSchema(new SchemaImpl());
+        schema.addRequired("a");
+        schema.removeRequired("a");
+
+        assertEquals("name", schema.getName());
+        assertEquals(SchemaType.STRING, schema.getType());
+        assertEquals("uuid", schema.getFormat());
+        assertEquals("#/components/schemas/Foo", schema.getRef());
+        assertNull(schema.getAdditionalPropertiesBoolean());
+        assertTrue(schema.getRequired().isEmpty());
+    }
+
+    @Test
+    public void testDefaultsRetained() {
+        assertEquals(Header.Style.SIMPLE, new HeaderImpl().getStyle());
+        ParameterImpl parameter = new ParameterImpl();
+        parameter.setIn(Parameter.In.PATH);
+        assertEquals(Boolean.TRUE, parameter.getRequired());
+    }
+
+    /**
+     * Compare the estimated shallow heap size of a schema having only type,
+     * format and $ref set, using the packed layout versus the equivalent layout
+     * with one reference field per schema property.
+     */
+    @Test
+    public void testSchemaFootprint() throws Exception {
+        Schema schema = new SchemaImpl().type(SchemaType.STRING).format("uuid").ref("Foo");
+        Field storage = SchemaImpl.class.getDeclaredField("fields");
+        storage.setAccessible(true);
+        int packedValues = ((PackedFields) storage.get(schema)).size();
+        assertEquals(3, packedValues);
+
+        int properties = countProperties(Schema.class);
+        long wideLayout = align(OBJECT_HEADER + REFERENCE * (properties + 1)); // +1 for extensions
+        long packedLayout = align(OBJECT_HEADER + REFERENCE * instanceFields(SchemaImpl.class))
+                + align(OBJECT_HEADER + Long.BYTES + REFERENCE) // PackedFields
+                + align(ARRAY_HEADER + REFERENCE * packedValues); // values array
+
+        assertTrue("Schema has at least 35 properties: " + properties, properties >= 35);
+        assertTrue("Packed " + packedLayout + " bytes vs wide " + wideLayout + " bytes", packedLayout * 2 < wideLayout);
+        // extensions, fields and the frozen flag
+        assertEquals(3, instanceFields(SchemaImpl.class));
+    }
+
+    static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    static int instanceFields(Class<?> type) {
+        int count = 0;
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(f.getModifiers())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    static int countProperties(Class<?> modelType) {
+        int count = 0;
+        for (Method m : modelType.getMethods()) {
+            if (m.getName().startsWith("set") && m.getParameterCount() == 1
+                    && !m.getName().equals("setExtensions")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
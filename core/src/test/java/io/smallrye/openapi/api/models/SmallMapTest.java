@@ -0,0 +1,170 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class SmallMapTest {
+
+    @Test
+    public void testInsertionOrderRetained() {
+        Map<String, Integer> map = new SmallMap<>();
+        map.put("c", 3);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("a", 10);
+
+        assertEquals(3, map.size());
+        assertArrayEquals(new String[] { "c", "a", "b" }, map.keySet().toArray());
+        assertEquals(Integer.valueOf(10), map.get("a"));
+        assertTrue(map.containsValue(2));
+        assertFalse(map.containsKey("d"));
+    }
+
+    @Test
+    public void testRemoveAndIteratorRemove() {
+        Map<String, Integer> map = new SmallMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        assertEquals(Integer.valueOf(2), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertArrayEquals(new String[] { "a", "c" }, map.keySet().toArray());
+
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals("c", iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+        assertEquals(1, map.size());
+
+        map.entrySet().iterator().next().setValue(30);
+        assertEquals(Integer.valueOf(30), map.get("c"));
+    }
+
+    @Test
+    public void testPromotionPastThreshold() {
+        SmallMap<String, Integer> map = new SmallMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+
+        for (int i = 0; i < SmallMap.THRESHOLD; i++) {
+            map.put("k" + i, i);
+            expected.put("k" + i, i);
+        }
+        assertFalse(map.isPromoted());
+        assertEquals(expected, map);
+
+        map.put("last", -1);
+        expected.put("last", -1);
+        assertTrue(map.isPromoted());
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertArrayEquals(expected.keySet().toArray(), map.keySet().toArray());
+        assertTrue(new SmallMap<>(expected).isPromoted());
+    }
+
+    @Test
+    public void testEqualsOtherMaps() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("application/json", "json");
+        expected.put("application/yaml", null);
+
+        Map<String, String> map = new SmallMap<>(expected);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertTrue(map.containsKey("application/yaml"));
+    }
+
+    /**
+     * Measure the bytes allocated to create maps of two entries (the typical
+     * size of a content or responses map) with each implementation.
+     */
+    @Test
+    public void testAllocationComparedToLinkedHashMap() {
+        long linked = allocatedBytes(LinkedHashMap::new);
+        long small = allocatedBytes(SmallMap::new);
+
+        Assume.assumeTrue(linked > 0);
+        assertTrue("SmallMap " + small + " bytes vs LinkedHashMap " + linked + " bytes", small * 2 < linked);
+    }
+
+    @Test
+    public void testEntriesAfterStructuralChange() {
+        SmallMap<String, Integer> map = new SmallMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        Map.Entry<String, Integer> a = iterator.next();
+        Map.Entry<String, Integer> b = iterator.next();
+        Map.Entry<String, Integer> c = iterator.next();
+
+        // The entry of "c" is moved to the index of "b"
+        map.remove("b");
+        assertEquals(Integer.valueOf(3), c.getValue());
+        c.setValue(30);
+        assertEquals(Integer.valueOf(30), map.get("c"));
+        assertEquals(Integer.valueOf(2), b.getValue());
+        b.setValue(20);
+        assertFalse(map.containsKey("b"));
+
+        for (int i = 0; i < SmallMap.THRESHOLD; i++) {
+            map.put("k" + i, i);
+        }
+        assertTrue(map.isPromoted());
+        a.setValue(10);
+        assertEquals(Integer.valueOf(10), map.get("a"));
+        assertEquals(Integer.valueOf(30), c.getValue());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testPromotionDuringIteration() {
+        SmallMap<String, Integer> map = new SmallMap<>();
+        for (int i = 0; i < SmallMap.THRESHOLD; i++) {
+            map.put("k" + i, i);
+        }
+
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("promoted", 0);
+        assertTrue(iterator.hasNext());
+        iterator.next();
+    }
+
+    static long allocatedBytes(Supplier<Map<String, Object>> factory) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+
+        final int count = 10_000;
+        final Object value = new Object();
+        final Object[] retained = new Object[count];
+        final long threadId = Thread.currentThread().getId();
+
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> map = factory.get();
+            map.put("200", value);
+            map.put("default", value);
+            retained[i] = map;
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+        assertEquals(count, retained.length);
+        return allocated;
+    }
+}
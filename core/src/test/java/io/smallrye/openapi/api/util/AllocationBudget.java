@@ -0,0 +1,62 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Allocation budgets checked in alongside the tests that enforce them. Each budget
+ * is the maximum number of bytes an operation may allocate, and is raised
+ * deliberately (by editing the properties file) when an increase is intended.
+ *
+ * Budgets include some headroom over the measured value, since the exact number
+ * of bytes allocated varies between JVM versions and settings.
+ */
+public final class AllocationBudget {
+
+    private static final Logger LOG = Logger.getLogger(AllocationBudget.class);
+
+    private final String resource;
+    private final Properties budgets = new Properties();
+
+    /**
+     * @param testClass the test class, used to locate the budgets
+     * @param resource name of the properties file containing the budgets, relative
+     *        to the package of the test class
+     */
+    public AllocationBudget(Class<?> testClass, String resource) {
+        this.resource = resource;
+
+        try (InputStream stream = testClass.getResourceAsStream(resource)) {
+            assertNotNull("Allocation budgets not found: " + resource, stream);
+            budgets.load(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Assert that the number of bytes allocated by the named operation is within
+     * its budget.
+     *
+     * @param name name of the budget
+     * @param allocated number of bytes allocated by the operation
+     */
+    public void assertWithin(String name, long allocated) {
+        String value = budgets.getProperty(name);
+        assertNotNull("No allocation budget for " + name + " in " + resource, value);
+        long budget = Long.parseLong(value.trim());
+
+        LOG.debugv("{0} allocated {1} bytes, budget {2} bytes", name, allocated, budget);
+
+        assertTrue(String.format("%s allocated %d bytes, exceeding its budget of %d bytes. "
+                + "If the increase is intended, raise the budget in %s", name, allocated, budget, resource),
+                allocated <= budget);
+    }
+}
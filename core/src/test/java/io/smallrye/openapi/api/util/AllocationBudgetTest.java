@@ -0,0 +1,71 @@
+package io.smallrye.openapi.api.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.Test;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Verifies that parsing, filtering and serializing a document allocate no more
+ * than their budgets in {@code allocation-budgets.properties}.
+ */
+public class AllocationBudgetTest {
+
+    private static final int ITERATIONS = 50;
+
+    private final AllocationBudget budget = new AllocationBudget(AllocationBudgetTest.class,
+            "allocation-budgets.properties");
+
+    private static byte[] read(String resource) throws IOException {
+        try (InputStream stream = OpenApiParser.class.getResourceAsStream(resource)) {
+            return IOUtils.toByteArray(stream);
+        }
+    }
+
+    private static OpenAPI parse(byte[] document, Format format) throws IOException {
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format);
+    }
+
+    @Test
+    public void testParseJson() throws Exception {
+        byte[] document = read("_everything.json");
+        budget.assertWithin("parse.json", new AllocationMeter().measure(ITERATIONS, () -> parse(document, Format.JSON)));
+    }
+
+    @Test
+    public void testParseYaml() throws Exception {
+        byte[] document = read("_everything.yaml");
+        budget.assertWithin("parse.yaml", new AllocationMeter().measure(ITERATIONS, () -> parse(document, Format.YAML)));
+    }
+
+    @Test
+    public void testSerializeJson() throws Exception {
+        OpenAPI model = parse(read("_everything.json"), Format.JSON);
+        budget.assertWithin("serialize.json",
+                new AllocationMeter().measure(ITERATIONS, () -> OpenApiSerializer.serialize(model, Format.JSON)));
+    }
+
+    @Test
+    public void testSerializeYaml() throws Exception {
+        OpenAPI model = parse(read("_everything.json"), Format.JSON);
+        budget.assertWithin("serialize.yaml",
+                new AllocationMeter().measure(ITERATIONS, () -> OpenApiSerializer.serialize(model, Format.YAML)));
+    }
+
+    @Test
+    public void testApplyFilter() throws Exception {
+        OpenAPI model = OpenApiParser.parse(AllocationBudgetTest.class.getResource("filter-before.json"));
+        OASFilter filter = new OASFilter() {
+        };
+        budget.assertWithin("filter",
+                new AllocationMeter().measure(ITERATIONS, () -> FilterUtil.applyFilter(filter, model)));
+    }
+}
@@ -0,0 +1,62 @@
+package io.smallrye.openapi.api.util;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+
+/**
+ * Measures the bytes allocated by the current thread, using the HotSpot
+ * specific {@link com.sun.management.ThreadMXBean}. Tests using the meter
+ * are skipped on JVMs where allocation measurement is not supported.
+ */
+public final class AllocationMeter {
+
+    /**
+     * An action to measure, which may throw.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long threadId = Thread.currentThread().getId();
+
+    public AllocationMeter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * @return the total number of bytes allocated by the current thread so far
+     */
+    public long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Run the action the given number of times (after the same number of warm-up
+     * runs) and return the average number of bytes allocated per run.
+     *
+     * @param iterations number of measured runs
+     * @param action the action to measure
+     * @return average bytes allocated per run
+     * @throws Exception any exception thrown by the action
+     */
+    public long measure(int iterations, Action action) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long start = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long end = allocatedBytes();
+        // Subtract the cost of the measurement itself
+        long overhead = allocatedBytes() - end;
+        return (end - start - overhead) / iterations;
+    }
+}
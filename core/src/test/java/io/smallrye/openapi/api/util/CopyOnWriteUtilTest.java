@@ -0,0 +1,160 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class CopyOnWriteUtilTest {
+
+    private static final String[] RESOURCES = { "filter-before.json", "security.json", "servers.json" };
+
+    private static OpenAPI parse(String resource) throws Exception {
+        URL url = CopyOnWriteUtilTest.class.getResource(resource);
+        if (url == null) {
+            url = OpenApiParser.class.getResource(resource);
+        }
+        return OpenApiParser.parse(url);
+    }
+
+    private static String serialize(OpenAPI model) throws Exception {
+        return OpenApiSerializer.serialize(model, Format.JSON);
+    }
+
+    /**
+     * Removes the path items that are references and the query parameters, and
+     * rewrites the summaries of the operations.
+     */
+    private static OASFilter publicFilter() {
+        return new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return pathItem.getRef() != null ? null : pathItem;
+            }
+
+            @Override
+            public Parameter filterParameter(Parameter parameter) {
+                return Parameter.In.QUERY.equals(parameter.getIn()) ? null : parameter;
+            }
+
+            @Override
+            public Operation filterOperation(Operation operation) {
+                if (operation.getSummary() != null) {
+                    operation.setSummary("Public: " + operation.getSummary());
+                }
+                return operation;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                if (openAPI.getInfo() != null) {
+                    openAPI.getInfo().setTitle("Public API");
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testFilteredViewMatchesFilteredCopy() throws Exception {
+        for (String resource : RESOURCES) {
+            OpenAPI base = parse(resource);
+            String before = serialize(base);
+
+            OpenAPI expected = FilterUtil.applyFilter(publicFilter(), parse(resource));
+            OpenAPI filtered = CopyOnWriteUtil.applyFilter(publicFilter(), base);
+
+            JSONAssert.assertEquals(resource, serialize(expected), serialize(filtered), true);
+            // The base model is not modified, and may be filtered again
+            JSONAssert.assertEquals(resource, before, serialize(base), true);
+            JSONAssert.assertEquals(resource, before, serialize(CopyOnWriteUtil.applyFilter(new OASFilter() {
+            }, base)), true);
+        }
+    }
+
+    @Test
+    public void testFrozenBase() throws Exception {
+        for (String resource : RESOURCES) {
+            OpenAPI expected = FilterUtil.applyFilter(publicFilter(), parse(resource));
+            OpenAPI filtered = CopyOnWriteUtil.applyFilter(publicFilter(), FreezeUtil.freeze(parse(resource)));
+
+            JSONAssert.assertEquals(resource, serialize(expected), serialize(filtered), true);
+        }
+    }
+
+    @Test
+    public void testUnmodifiedObjectsShared() throws Exception {
+        OpenAPI base = parse("filter-before.json");
+        PathItem foo = base.getPaths().getPathItem("/foo");
+
+        OpenAPI filtered = CopyOnWriteUtil.applyFilter(new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                return operation.getOperationId().equals("getAllFoos") ? null : operation;
+            }
+        }, base);
+
+        // The operation is removed from copies of its path item and of the ancestors
+        assertNotSame(base, filtered);
+        assertNotSame(base.getPaths(), filtered.getPaths());
+        assertNotSame(foo, filtered.getPaths().getPathItem("/foo"));
+        assertNull(filtered.getPaths().getPathItem("/foo").getGET());
+        assertSame(foo.getGET(), base.getPaths().getPathItem("/foo").getGET());
+
+        // Everything else is shared
+        assertSame(foo.getPUT(), filtered.getPaths().getPathItem("/foo").getPUT());
+        assertSame(base.getInfo(), filtered.getInfo());
+        assertSame(base.getComponents(), filtered.getComponents());
+        assertSame(base.getServers().get(0), filtered.getServers().get(0));
+    }
+
+    @Test
+    public void testUnmodifiedModelShared() throws Exception {
+        OpenAPI base = parse("filter-before.json");
+
+        assertSame(base, CopyOnWriteUtil.applyFilter(new OASFilter() {
+        }, base));
+    }
+
+    @Test
+    public void testFilterGivenModelClasses() throws Exception {
+        OpenAPI base = parse("filter-before.json");
+        Map<String, Schema> schemas = base.getComponents().getSchemas();
+        schemas.forEach((name, schema) -> ((SchemaImpl) schema).setName(name));
+
+        OpenAPI filtered = CopyOnWriteUtil.applyFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                assertTrue(schema instanceof SchemaImpl);
+                if ("Schema-1".equals(((SchemaImpl) schema).getName())) {
+                    schema.setDescription("Filtered");
+                }
+                return schema;
+            }
+        }, base);
+
+        Schema schema1 = filtered.getComponents().getSchemas().get("Schema-1");
+        assertNotSame(schemas.get("Schema-1"), schema1);
+        assertEquals("Schema-1", ((SchemaImpl) schema1).getName());
+        assertEquals("Filtered", schema1.getDescription());
+        assertNull(schemas.get("Schema-1").getDescription());
+        assertSame(schemas.get("Schema-2"), filtered.getComponents().getSchemas().get("Schema-2"));
+    }
+}
@@ -2,15 +2,45 @@ package io.smallrye.openapi.api.util;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.json.JSONException;
+import org.junit.Assert;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.headers.HeaderImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.parameters.ParameterImpl;
+import io.smallrye.openapi.api.models.responses.APIResponseImpl;
+import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
@@ -63,6 +93,373 @@ public class FilterUtilTest {
         assertJsonEquals(expected, actual);
     }
 
+    /**
+     * Test method for
+     * {@link FilterUtil#applyFilter(org.eclipse.microprofile.openapi.OASFilter, org.eclipse.microprofile.openapi.models.OpenAPI)}
+     * with a {@link ThreadSafeFilter}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testApplyThreadSafeFilter() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        URL afterUrl = FilterUtilTest.class.getResource("filter-after.json");
+
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        OASFilter filter = filter();
+
+        model = FilterUtil.applyFilter(new ThreadSafeFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                filter.filterOpenAPI(openAPI);
+            }
+
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                return filter.filterPathItem(pathItem);
+            }
+        }, model);
+
+        String actual = OpenApiSerializer.serialize(model, Format.JSON);
+        String expected = loadResource(afterUrl);
+
+        assertJsonEquals(expected, actual);
+    }
+
+    /**
+     * Verifies that the component entries rejected by a {@link ThreadSafeFilter}
+     * are removed, keeping the order of the remaining entries.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testThreadSafeFilterRemovesComponents() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        Header rejectedHeader = model.getComponents().getHeaders().get("Header-1");
+        Schema rejectedSchema = model.getComponents().getSchemas().get("Schema-2");
+
+        model = FilterUtil.applyFilter(new ThreadSafeFilter() {
+            @Override
+            public Header filterHeader(Header header) {
+                return header == rejectedHeader ? null : header;
+            }
+
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return schema == rejectedSchema ? null : schema;
+            }
+
+            @Override
+            public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+                return SecurityScheme.Type.HTTP.equals(securityScheme.getType()) ? null : securityScheme;
+            }
+        }, model);
+
+        Assert.assertEquals(Arrays.asList("Header-2"), new ArrayList<>(model.getComponents().getHeaders().keySet()));
+        Assert.assertEquals(Arrays.asList("Schema-1"), new ArrayList<>(model.getComponents().getSchemas().keySet()));
+        Assert.assertEquals(Arrays.asList("oauth"), new ArrayList<>(model.getComponents().getSecuritySchemes().keySet()));
+        Assert.assertEquals(Arrays.asList("/foo", "/foo/{fooId}"), new ArrayList<>(model.getPaths().getPathItems().keySet()));
+    }
+
+    /**
+     * Verifies that a {@link DistinctInstanceFilter} gives the same result as the
+     * filter it wraps.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testApplyDistinctInstanceFilter() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        URL afterUrl = FilterUtilTest.class.getResource("filter-after.json");
+
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        model = FilterUtil.applyFilter(new DistinctInstanceFilter(filter()), model);
+
+        assertJsonEquals(loadResource(afterUrl), OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    /**
+     * Verifies that a schema shared by several operations is filtered once by a
+     * {@link DistinctInstanceFilter}, and removed from each of them when rejected.
+     */
+    @Test
+    public void testDistinctInstanceFilterSharedSchema() {
+        Schema shared = new SchemaImpl().ref("Shared");
+        Schema kept = new SchemaImpl().ref("Kept");
+        OpenAPI model = new OpenAPIImpl().paths(new PathsImpl());
+
+        for (String path : Arrays.asList("/a", "/b", "/c")) {
+            Operation operation = new OperationImpl().responses(new APIResponsesImpl()
+                    .addAPIResponse("200", new APIResponseImpl().content(new ContentImpl()
+                            .addMediaType("application/json", new MediaTypeImpl().schema(shared))
+                            .addMediaType("text/plain", new MediaTypeImpl().schema(kept)))));
+            model.getPaths().addPathItem(path, new PathItemImpl().GET(operation));
+        }
+
+        List<Schema> filtered = new ArrayList<>();
+        DistinctInstanceFilter filter = new DistinctInstanceFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                filtered.add(schema);
+                return schema == shared ? null : schema;
+            }
+        });
+
+        FilterUtil.applyFilter(filter, model);
+
+        Assert.assertEquals(Arrays.asList(shared, kept), filtered);
+        // 3 path items, 3 operations, 3 responses and 2 schemas
+        Assert.assertEquals(11, filter.getInvoked());
+        Assert.assertEquals(4, filter.getAvoided());
+
+        for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+            Map<String, MediaType> mediaTypes = pathItem.getGET().getResponses().getAPIResponse("200").getContent()
+                    .getMediaTypes();
+            Assert.assertNull(mediaTypes.get("application/json").getSchema());
+            Assert.assertSame(kept, mediaTypes.get("text/plain").getSchema());
+        }
+    }
+
+    /**
+     * Verifies that the nested properties, parameters and headers rejected by a
+     * {@link ThreadSafeFilter} are removed from each path item and component,
+     * once all of them have been filtered.
+     */
+    @Test
+    public void testThreadSafeFilterRemovesNestedModels() {
+        OpenAPI model = new OpenAPIImpl().paths(new PathsImpl()).components(new ComponentsImpl());
+
+        for (int i = 0; i < 20; i++) {
+            model.getComponents().addSchema("Schema-" + i, new SchemaImpl()
+                    .addProperty("kept", new SchemaImpl().title("kept"))
+                    .addProperty("rejected", new SchemaImpl().title("rejected"))
+                    .items(new SchemaImpl().title("rejected")));
+            Operation operation = new OperationImpl()
+                    .addParameter(new ParameterImpl().name("kept"))
+                    .addParameter(new ParameterImpl().name("rejected"))
+                    .responses(new APIResponsesImpl().addAPIResponse("200", new APIResponseImpl()
+                            .addHeader("kept", new HeaderImpl().description("kept"))
+                            .addHeader("rejected", new HeaderImpl().description("rejected"))));
+            model.getPaths().addPathItem("/path-" + i, new PathItemImpl().GET(operation));
+        }
+
+        FilterUtil.applyFilter(new ThreadSafeFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return "rejected".equals(schema.getTitle()) ? null : schema;
+            }
+
+            @Override
+            public Parameter filterParameter(Parameter parameter) {
+                return "rejected".equals(parameter.getName()) ? null : parameter;
+            }
+
+            @Override
+            public Header filterHeader(Header header) {
+                return "rejected".equals(header.getDescription()) ? null : header;
+            }
+        }, model);
+
+        for (Schema schema : model.getComponents().getSchemas().values()) {
+            Assert.assertEquals(Arrays.asList("kept"), new ArrayList<>(schema.getProperties().keySet()));
+            Assert.assertNull(schema.getItems());
+        }
+        for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+            Operation operation = pathItem.getGET();
+            Assert.assertEquals(1, operation.getParameters().size());
+            Assert.assertEquals("kept", operation.getParameters().get(0).getName());
+            Assert.assertEquals(Arrays.asList("kept"),
+                    new ArrayList<>(operation.getResponses().getAPIResponse("200").getHeaders().keySet()));
+        }
+    }
+
+    /**
+     * Verifies that a schema referenced from many paths is given once to a
+     * {@link ThreadSafeFilter} that modifies it, so that the result does not depend on
+     * the threads filtering the paths.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testThreadSafeFilterModifiesSharedSchema() throws Exception {
+        String expected = null;
+
+        for (int run = 0; run < 10; run++) {
+            Schema shared = new SchemaImpl().title("shared");
+            OpenAPI model = sharedSchemaModel(shared, 50);
+            AtomicInteger calls = new AtomicInteger();
+
+            FilterUtil.applyFilter(new ThreadSafeFilter() {
+                @Override
+                public Schema filterSchema(Schema schema) {
+                    if (schema == shared) {
+                        calls.incrementAndGet();
+                        schema.setDescription(schema.getDescription() == null ? "filtered"
+                                : schema.getDescription() + ", filtered");
+                        schema.addProperty("p" + (schema.getProperties() == null ? 0 : schema.getProperties().size()),
+                                new SchemaImpl());
+                    }
+                    return schema;
+                }
+            }, model);
+
+            Assert.assertEquals(1, calls.get());
+            String actual = OpenApiSerializer.serialize(model, Format.JSON);
+            if (expected == null) {
+                expected = actual;
+                Assert.assertEquals("filtered", shared.getDescription());
+                Assert.assertEquals(Arrays.asList("p0"), new ArrayList<>(shared.getProperties().keySet()));
+            } else {
+                assertJsonEquals(expected, actual);
+            }
+        }
+    }
+
+    /**
+     * Verifies that a {@link DistinctInstanceFilter} wrapping a {@link ThreadSafeFilter}
+     * calls the wrapped filter once per instance when filtering in parallel.
+     */
+    @Test
+    public void testDistinctInstanceFilterWrappingThreadSafeFilter() {
+        Schema shared = new SchemaImpl().ref("Shared");
+        OpenAPI model = sharedSchemaModel(shared, 20);
+
+        AtomicInteger sharedFiltered = new AtomicInteger();
+        DistinctInstanceFilter filter = new DistinctInstanceFilter(new ThreadSafeFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                if (schema == shared) {
+                    sharedFiltered.incrementAndGet();
+                    return null;
+                }
+                return schema;
+            }
+        });
+
+        FilterUtil.applyFilter(filter, model);
+
+        Assert.assertEquals(1, sharedFiltered.get());
+        // 20 path items, 20 operations, 20 responses, 20 component schemas and the shared schema
+        Assert.assertEquals(81, filter.getInvoked());
+        Assert.assertEquals(39, filter.getAvoided());
+
+        for (Schema schema : model.getComponents().getSchemas().values()) {
+            Assert.assertTrue(schema.getProperties().isEmpty());
+        }
+        for (PathItem pathItem : model.getPaths().getPathItems().values()) {
+            Assert.assertNull(pathItem.getGET().getResponses().getAPIResponse("200").getContent()
+                    .getMediaType("application/json").getSchema());
+        }
+    }
+
+    /**
+     * Verifies that a {@link DistinctInstanceFilter} filtering in parallel calls the
+     * wrapped filter for a shared instance only once its children have been filtered.
+     */
+    @Test
+    public void testDistinctInstanceFilterChildrenFilteredFirst() {
+        Schema child = new SchemaImpl().title("child");
+        Schema parent = new SchemaImpl().title("parent").addProperty("child", child);
+        OpenAPI model = sharedSchemaModel(parent, 50);
+
+        Set<Schema> filtered = Collections.newSetFromMap(new IdentityHashMap<>());
+        AtomicInteger parentsBeforeChild = new AtomicInteger();
+        FilterUtil.applyFilter(new DistinctInstanceFilter(new ThreadSafeFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                synchronized (filtered) {
+                    if (schema == parent && !filtered.contains(child)) {
+                        parentsBeforeChild.incrementAndGet();
+                    }
+                    filtered.add(schema);
+                }
+                return schema;
+            }
+        }), model);
+
+        Assert.assertEquals(0, parentsBeforeChild.get());
+        Assert.assertTrue(filtered.contains(parent));
+    }
+
+    /**
+     * Verifies that a {@link DistinctInstanceFilter} may be used by several traversals
+     * at once, each keeping its own record of the instances filtered.
+     */
+    @Test
+    public void testDistinctInstanceFilterConcurrentTraversals() throws Exception {
+        DistinctInstanceFilter filter = new DistinctInstanceFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return "rejected".equals(schema.getTitle()) ? null : schema;
+            }
+        });
+        List<OpenAPI> models = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            models.add(sharedSchemaModel(new SchemaImpl().title("rejected"), 50));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(models.size());
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>();
+            for (OpenAPI model : models) {
+                results.add(executor.submit(() -> FilterUtil.applyFilter(filter, model)));
+            }
+            for (Future<OpenAPI> result : results) {
+                OpenAPI model = result.get();
+                Assert.assertTrue(model.getComponents().getSchemas().values().stream()
+                        .allMatch(schema -> schema.getProperties().isEmpty()));
+                Assert.assertTrue(model.getPaths().getPathItems().values().stream()
+                        .allMatch(pathItem -> pathItem.getGET().getResponses().getAPIResponse("200").getContent()
+                                .getMediaType("application/json").getSchema() == null));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // 50 path items, 50 operations, 50 responses, 50 component schemas and the shared schema
+        Assert.assertEquals(201, filter.getInvoked());
+    }
+
+    /**
+     * Creates a model whose component schemas and operation responses all refer to the
+     * given schema.
+     */
+    private static OpenAPI sharedSchemaModel(Schema shared, int paths) {
+        OpenAPI model = new OpenAPIImpl().paths(new PathsImpl()).components(new ComponentsImpl());
+
+        for (int i = 0; i < paths; i++) {
+            model.getComponents().addSchema("Schema-" + i, new SchemaImpl().addProperty("shared", shared));
+            Operation operation = new OperationImpl().responses(new APIResponsesImpl()
+                    .addAPIResponse("200", new APIResponseImpl().content(new ContentImpl()
+                            .addMediaType("application/json", new MediaTypeImpl().schema(shared)))));
+            model.getPaths().addPathItem("/path-" + i, new PathItemImpl().GET(operation));
+        }
+
+        return model;
+    }
+
+    /**
+     * Allocation rate of a full filter pass using a filter that accepts every
+     * model unchanged, which must stay within the "filter" budget of
+     * {@link AllocationBudgetTest} over many more passes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testApplyFilterAllocationRate() throws Exception {
+        URL beforeUrl = FilterUtilTest.class.getResource("filter-before.json");
+        OpenAPI model = OpenApiParser.parse(beforeUrl);
+        String expected = OpenApiSerializer.serialize(model, Format.JSON);
+        OASFilter filter = new OASFilter() {
+        };
+
+        long bytesPerPass = new AllocationMeter().measure(1_000, () -> FilterUtil.applyFilter(filter, model));
+        new AllocationBudget(FilterUtilTest.class, "allocation-budgets.properties").assertWithin("filter", bytesPerPass);
+
+        assertJsonEquals(expected, OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
     /**
      * Creates and returns the filter to use for the test.
      */
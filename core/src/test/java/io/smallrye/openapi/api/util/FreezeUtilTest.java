@@ -0,0 +1,144 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class FreezeUtilTest {
+
+    private static OpenAPI parse(String resource) throws Exception {
+        URL url = OpenApiParser.class.getResource(resource);
+        return OpenApiParser.parse(url);
+    }
+
+    @Test
+    public void testFrozenDocumentSerializesIdentically() throws Exception {
+        for (String resource : new String[] { "_everything.json", "_everything.yaml", "components-schemas.json",
+                "paths-get-callbacks.json", "security.json", "servers.json" }) {
+            OpenAPI model = parse(resource);
+            String expected = OpenApiSerializer.serialize(model, Format.JSON);
+
+            OpenAPI frozen = FreezeUtil.freeze(model);
+
+            assertTrue(FreezeUtil.isFrozen(frozen));
+            assertFalse(FreezeUtil.isFrozen(model));
+            assertTrue(frozen instanceof OpenAPIImpl);
+            JSONAssert.assertEquals(resource, expected, OpenApiSerializer.serialize(frozen, Format.JSON), true);
+        }
+    }
+
+    @Test
+    public void testFrozenMapModel() throws Exception {
+        OpenAPI model = parse("_everything.json");
+        Paths frozen = FreezeUtil.freeze(model).getPaths();
+
+        assertEquals(model.getPaths().size(), frozen.size());
+        assertTrue(frozen.hasPathItem("/foo"));
+        assertTrue(frozen.containsKey("/foo"));
+        assertSame(frozen.get("/foo"), frozen.getPathItem("/foo"));
+        assertTrue(frozen instanceof PathsImpl);
+        assertSame(frozen.getPathItems(), frozen.getPathItems());
+        assertSame(frozen.getPathItems().get("/foo"), frozen.get("/foo"));
+        assertEquals(model.getPaths().getPathItems().keySet(), frozen.keySet());
+        assertEquals("x-paths-extension-1", frozen.getExtensions().keySet().iterator().next());
+    }
+
+    @Test
+    public void testMutatorsThrow() throws Exception {
+        OpenAPI frozen = FreezeUtil.freeze(parse("_everything.json"));
+        PathItem item = frozen.getPaths().getPathItem("/foo");
+
+        assertThrows(() -> frozen.setOpenapi("3.0.0"));
+        assertThrows(() -> frozen.getInfo().title("Changed"));
+        assertThrows(() -> frozen.getPaths().addPathItem("/bar", item));
+        assertThrows(() -> frozen.getPaths().put("/bar", item));
+        assertThrows(() -> frozen.getPaths().remove("/foo"));
+        assertThrows(() -> frozen.getServers().clear());
+        assertThrows(() -> frozen.getServers().get(0).getVariables().put("v", null));
+        assertThrows(() -> item.getGET().addTag("tag"));
+        assertThrows(() -> item.getGET().getTags().add("tag"));
+        assertThrows(() -> frozen.getComponents().getSchemas().remove("Schema-1"));
+    }
+
+    @Test
+    public void testSharedModelsRemainShared() {
+        OpenAPI model = new io.smallrye.openapi.api.models.OpenAPIImpl();
+        Schema shared = new SchemaImpl().type(Schema.SchemaType.STRING);
+        Schema parent = new SchemaImpl().addProperty("a", shared).addProperty("b", shared);
+        model.setComponents(new io.smallrye.openapi.api.models.ComponentsImpl().addSchema("Parent", parent));
+
+        Schema frozen = FreezeUtil.freeze(model).getComponents().getSchemas().get("Parent");
+
+        assertSame(frozen.getProperties().get("a"), frozen.getProperties().get("b"));
+        assertEquals(Schema.SchemaType.STRING, frozen.getProperties().get("a").getType());
+        assertNull(frozen.getProperties().get("a").getFormat());
+        assertNull(FreezeUtil.freeze(null));
+    }
+
+    @Test
+    public void testFrozenDocumentRetainsNoMoreHeap() throws Exception {
+        final int copies = 200;
+        long baseline = usedHeap();
+        List<OpenAPI> models = new ArrayList<>(copies);
+
+        for (int i = 0; i < copies; i++) {
+            models.add(parse("_everything.json"));
+        }
+        long parsed = usedHeap() - baseline;
+
+        for (int i = 0; i < copies; i++) {
+            models.set(i, FreezeUtil.freeze(models.get(i)));
+        }
+        long frozen = usedHeap() - baseline;
+
+        // The parsed model is already compact, so allow for the noise of the measurement
+        assertTrue("Frozen documents retain " + frozen + " bytes, parsed documents " + parsed,
+                frozen <= parsed + parsed / 20);
+    }
+
+    /**
+     * @return the heap in use after a full collection, the least of several
+     *         readings to discount objects allocated concurrently
+     */
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            memory.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    private static void assertThrows(Runnable action) {
+        try {
+            action.run();
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.smallrye.openapi.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.openapi.OASConfig;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfigImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class ServersUtilTest {
+
+    /**
+     * A config recording the properties looked up.
+     */
+    private static class RecordingConfig implements Config {
+        final Map<String, String> properties = new LinkedHashMap<>();
+        final Map<String, String> environment = new LinkedHashMap<>();
+        final List<String> lookups = new ArrayList<>();
+        int enumerations;
+
+        @Override
+        public <T> T getValue(String propertyName, Class<T> propertyType) {
+            return getOptionalValue(propertyName, propertyType).get();
+        }
+
+        @Override
+        public <T> Optional<T> getOptionalValue(String propertyName, Class<T> propertyType) {
+            lookups.add(propertyName);
+            String value = properties.get(propertyName);
+            if (value == null) {
+                value = environment.get(propertyName.replaceAll("[^a-zA-Z0-9]", "_").toUpperCase());
+            }
+            return Optional.ofNullable(propertyType.cast(value));
+        }
+
+        @Override
+        public Iterable<String> getPropertyNames() {
+            enumerations++;
+            List<String> names = new ArrayList<>(properties.keySet());
+            names.addAll(environment.keySet());
+            return names;
+        }
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources() {
+            return Collections.emptyList();
+        }
+    }
+
+    private static OpenAPI parse() throws Exception {
+        return OpenApiParser.parse(FilterUtil.class.getResource("filter-before.json"));
+    }
+
+    private static RecordingConfig config() {
+        RecordingConfig config = new RecordingConfig();
+        config.properties.put(OASConfig.SERVERS, "https://global.example.com");
+        config.properties.put(OASConfig.SERVERS_PATH_PREFIX + "/foo", "https://foo.example.com");
+        config.properties.put(OASConfig.SERVERS_PATH_PREFIX + "/unknown", "https://unknown.example.com");
+        config.properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "getAllFoos",
+                "https://foos1.example.com, https://foos2.example.com");
+        config.properties.put(OASConfig.SERVERS_OPERATION_PREFIX + "blank", " ");
+        return config;
+    }
+
+    @Test
+    public void testServersSnapshot() {
+        RecordingConfig config = config();
+        OpenApiConfig oaiConfig = new OpenApiConfigImpl(config);
+
+        Map<String, Set<String>> pathServers = oaiConfig.getPathServers();
+        Map<String, Set<String>> operationServers = oaiConfig.getOperationServers();
+
+        assertEquals(1, config.enumerations);
+        assertEquals(Collections.singleton("https://foo.example.com"), pathServers.get("/foo"));
+        assertEquals(2, pathServers.size());
+        assertEquals(2, operationServers.get("getAllFoos").size());
+        assertNull(operationServers.get("blank"));
+        // One lookup for each server property
+        assertEquals(4, config.lookups.size());
+    }
+
+    @Test
+    public void testConfigureServersFromSnapshot() throws Exception {
+        RecordingConfig config = config();
+        OpenAPI snapshot = parse();
+        ServersUtil.configureServers(new OpenApiConfigImpl(config), snapshot);
+
+        // The global servers, then the server properties found
+        assertEquals(1, config.enumerations);
+        assertEquals(5, config.lookups.size());
+
+        OpenAPI lookups = parse();
+        ServersUtil.configureServers(new OpenApiConfigImpl(config()) {
+            @Override
+            public Map<String, Set<String>> getPathServers() {
+                return null;
+            }
+        }, lookups);
+
+        assertEquals("https://foo.example.com", snapshot.getPaths().getPathItem("/foo").getServers().get(0).getUrl());
+        assertEquals(2, snapshot.getPaths().getPathItem("/foo").getGET().getServers().size());
+        JSONAssert.assertEquals(OpenApiSerializer.serialize(lookups, Format.JSON),
+                OpenApiSerializer.serialize(snapshot, Format.JSON), true);
+    }
+
+    @Test
+    public void testServersFromEnvironment() throws Exception {
+        RecordingConfig config = config();
+        config.properties.remove(OASConfig.SERVERS_PATH_PREFIX + "/foo");
+        config.environment.put("MP_OPENAPI_SERVERS_PATH__FOO", "https://foo.example.com");
+        OpenApiConfig oaiConfig = new OpenApiConfigImpl(config);
+
+        // The path of the environment variable is unknown, each path is looked up instead
+        assertNull(oaiConfig.getPathServers());
+        assertNull(oaiConfig.getOperationServers());
+
+        OpenAPI model = parse();
+        ServersUtil.configureServers(oaiConfig, model);
+
+        assertEquals("https://foo.example.com", model.getPaths().getPathItem("/foo").getServers().get(0).getUrl());
+        assertEquals(2, model.getPaths().getPathItem("/foo").getGET().getServers().size());
+    }
+}
@@ -0,0 +1,155 @@
+package io.smallrye.openapi.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.RenderedDocument;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+public class OpenApiStaticFileWatcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void reset() {
+        OpenApiDocument.INSTANCE.reset();
+    }
+
+    private static String staticFile(String version) {
+        return "openapi: 3.0.1\n"
+                + "info:\n"
+                + "  title: Static " + version + "\n"
+                + "  version: '" + version + "'\n"
+                + "paths:\n"
+                + "  /static-" + version + ":\n"
+                + "    get:\n"
+                + "      responses:\n"
+                + "        '200':\n"
+                + "          description: OK\n";
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OpenAPI annotationsModel() {
+        OpenAPI model = new OpenAPIImpl();
+        model.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
+        model.setPaths(new PathsImpl().addPathItem("/annotated", new PathItemImpl()));
+        return model;
+    }
+
+    private static void initialize(OpenApiConfig config, Path file) throws IOException {
+        OpenApiDocument.INSTANCE.reset();
+        OpenApiDocument.INSTANCE.config(config);
+        try (OpenApiStaticFile staticFile = new OpenApiStaticFile(Files.newInputStream(file), Format.YAML)) {
+            OpenApiDocument.INSTANCE.modelFromStaticFile(OpenApiProcessor.modelFromStaticFile(config, staticFile));
+        }
+        OpenApiDocument.INSTANCE.modelFromAnnotations(annotationsModel());
+        OpenApiDocument.INSTANCE.filter(new OASFilter() {
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                openAPI.getInfo().setDescription("Filtered");
+            }
+        });
+        OpenApiDocument.INSTANCE.initialize();
+    }
+
+    private static OpenApiConfig reloadConfig() {
+        return IndexScannerTestBase.dynamicConfig(
+                Collections.singletonMap(OpenApiConstants.SMALLRYE_STATIC_FILE_RELOAD_ENABLE, Boolean.TRUE));
+    }
+
+    private static void assertDocument(String version) {
+        OpenAPI model = OpenApiDocument.INSTANCE.get();
+        assertEquals("Static " + version, model.getInfo().getTitle());
+        assertEquals("Filtered", model.getInfo().getDescription());
+        assertNotNull(model.getPaths().getPathItem("/static-" + version));
+        assertNotNull(model.getPaths().getPathItem("/annotated"));
+        assertEquals(2, model.getPaths().getPathItems().size());
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        Path file = folder.newFile("openapi.yaml").toPath();
+        write(file, staticFile("1"));
+        initialize(reloadConfig(), file);
+        assertDocument("1");
+
+        try (OpenApiStaticFileWatcher watcher = OpenApiStaticFileWatcher.watch(reloadConfig(), file, Format.YAML)) {
+            // Not changed since the document was initialized
+            assertFalse(watcher.reload());
+
+            RenderedDocument previous = OpenApiDocument.INSTANCE.getRendered();
+            write(file, staticFile("2"));
+            // Unless already reloaded by the watcher thread
+            watcher.reload();
+            assertDocument("2");
+            assertNull(OpenApiDocument.INSTANCE.get().getPaths().getPathItem("/static-1"));
+
+            // Published with its bytes already rendered
+            RenderedDocument current = OpenApiDocument.INSTANCE.getRendered();
+            String json = new String(current.getBytes(Format.JSON), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"Static 2\""));
+            assertSame(current.getBytes(Format.YAML), current.getBytes(Format.YAML));
+            assertTrue(new String(previous.getBytes(Format.YAML), StandardCharsets.UTF_8).contains("Static 1"));
+
+            // Invalid content keeps the current document
+            write(file, "openapi: [");
+            watcher.reload();
+            assertSame(current, OpenApiDocument.INSTANCE.getRendered());
+        }
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        Path file = folder.newFile("openapi.yaml").toPath();
+        write(file, staticFile("1"));
+        initialize(reloadConfig(), file);
+
+        try (OpenApiStaticFileWatcher watcher = OpenApiStaticFileWatcher.watch(reloadConfig(), file, Format.YAML)) {
+            write(file, staticFile("2"));
+
+            long deadline = System.currentTimeMillis() + 30000;
+            while (!"Static 2".equals(OpenApiDocument.INSTANCE.get().getInfo().getTitle())
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertDocument("2");
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReloadNotEnabled() throws Exception {
+        Path file = folder.newFile("openapi.yaml").toPath();
+        write(file, staticFile("1"));
+        initialize(IndexScannerTestBase.emptyConfig(), file);
+
+        OpenApiDocument.INSTANCE.reloadStaticFile(null);
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URL;
@@ -98,6 +99,27 @@ public class OpenApiParserAndSerializerTest {
         }
     }
 
+    /**
+     * Performs a round-trip serialize+parse test of a single JSON resource in a binary
+     * format, comparing the document parsed back from the binary format with the
+     * original in JSON.
+     *
+     * @param resource
+     * @param format
+     * @throws IOException
+     * @throws JSONException
+     */
+    private static void doBinaryTest(String resource, Format format) throws IOException, JSONException {
+        OpenAPI impl = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource(resource));
+        String json = OpenApiSerializer.serialize(impl, Format.JSON);
+
+        byte[] binary = OpenApiSerializer.serializeToBytes(impl, format);
+        OpenAPI roundTrip = OpenApiParser.parse(new ByteArrayInputStream(binary), format);
+
+        assertJsonEquals(json, OpenApiSerializer.serialize(roundTrip, Format.JSON));
+        Assert.assertTrue(binary.length < json.length());
+    }
+
     /**
      * Test method for {@link OpenApiParser#parse(java.net.URL)}.
      */
@@ -482,4 +504,49 @@ public class OpenApiParserAndSerializerTest {
         doTest("_everything.yaml", Format.YAML);
     }
 
+    /**
+     * Test method for {@link OpenApiSerializer#serializeToBytes(OpenAPI, Format)}.
+     */
+    @Test
+    public void testEverythingSmile() throws IOException, JSONException {
+        doBinaryTest("_everything.json", Format.SMILE);
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serializeToBytes(OpenAPI, Format)}.
+     */
+    @Test
+    public void testEverythingCbor() throws IOException, JSONException {
+        doBinaryTest("_everything.json", Format.CBOR);
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serializeToBytes(OpenAPI, Format)}.
+     */
+    @Test
+    public void testSchemasBinary() throws IOException, JSONException {
+        doBinaryTest("components-schemas.json", Format.SMILE);
+        doBinaryTest("components-schemas.json", Format.CBOR);
+        doBinaryTest("schemas-with-example.json", Format.SMILE);
+        doBinaryTest("schemas-with-example.json", Format.CBOR);
+        doBinaryTest("extensions.json", Format.SMILE);
+        doBinaryTest("extensions.json", Format.CBOR);
+    }
+
+    @Test
+    public void testBinaryFormats() throws IOException {
+        Assert.assertEquals("application/x-jackson-smile", Format.SMILE.getMimeType());
+        Assert.assertEquals("application/cbor", Format.CBOR.getMimeType());
+        Assert.assertTrue(Format.SMILE.isBinary());
+        Assert.assertFalse(Format.YAML.isBinary());
+
+        OpenAPI impl = OpenApiParser.parse(OpenApiParserAndSerializerTest.class.getResource("simplest.json"));
+        try {
+            OpenApiSerializer.serialize(impl, Format.CBOR);
+            Assert.fail("Binary format serialized as a String");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("CBOR"));
+        }
+    }
+
 }
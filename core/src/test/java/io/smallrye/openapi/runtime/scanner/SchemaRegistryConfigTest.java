@@ -0,0 +1,149 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.junit.After;
+import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+public class SchemaRegistryConfigTest {
+
+    private static final String EPOCH_SECONDS = "{ \"name\": \"EpochSeconds\", \"type\": \"number\", \"format\": \"int64\", "
+            + "\"properties\": { \"seconds\": { \"type\": \"integer\" } }, \"required\": [ \"seconds\" ] }";
+
+    @After
+    public void remove() {
+        SchemaRegistry.remove();
+    }
+
+    private static OpenApiConfig config(int count) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("mp.openapi.schema.java.time.Instant", EPOCH_SECONDS);
+        properties.put("mp.openapi.schema.java.time.Invalid", "{ not json");
+        for (int i = 0; i < count; i++) {
+            properties.put("mp.openapi.schema.test.Generated" + i,
+                    "{ \"name\": \"Generated" + i + "\", \"type\": \"string\", \"maxLength\": " + i + " }");
+        }
+        return IndexScannerTestBase.dynamicConfig(properties);
+    }
+
+    private static OpenAPI scan(OpenApiConfig config) {
+        OpenAPI oai = new OpenAPIImpl();
+        SchemaRegistry.newInstance(config, oai, new Indexer().complete());
+        return oai;
+    }
+
+    @Test
+    public void testConfigSchemasCopiedForEachRegistry() throws Exception {
+        // The schemas are parsed once for the config
+        OpenApiConfig config = config(0);
+        OpenAPI first = scan(config);
+        OpenAPI second = scan(config);
+
+        Map<String, Schema> schemas = first.getComponents().getSchemas();
+        Schema epochSeconds = schemas.get("EpochSeconds");
+        assertEquals(1, schemas.size());
+        assertEquals("EpochSeconds", ((SchemaImpl) epochSeconds).getName());
+        assertEquals(Schema.SchemaType.NUMBER, epochSeconds.getType());
+
+        // Each registry is given its own copy of the schema
+        Schema copy = second.getComponents().getSchemas().get("EpochSeconds");
+        assertNotSame(epochSeconds, copy);
+        assertNotSame(epochSeconds.getProperties().get("seconds"), copy.getProperties().get("seconds"));
+        JSONAssert.assertEquals(OpenApiSerializer.serialize(first, Format.JSON),
+                OpenApiSerializer.serialize(second, Format.JSON), true);
+
+        epochSeconds.getProperties().get("seconds").setType(Schema.SchemaType.STRING);
+        epochSeconds.addRequired("nanos");
+
+        Schema third = scan(config).getComponents().getSchemas().get("EpochSeconds");
+        assertEquals(Schema.SchemaType.INTEGER, third.getProperties().get("seconds").getType());
+        assertEquals(1, third.getRequired().size());
+        assertFalse(copy.getRequired().contains("nanos"));
+    }
+
+    @Test
+    public void testManyConfigSchemas() {
+        Map<String, Schema> schemas = scan(config(100)).getComponents().getSchemas();
+
+        // The invalid schema is skipped
+        assertEquals(101, schemas.size());
+        assertNull(schemas.get("Invalid"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), schemas.get("Generated" + i).getMaxLength());
+        }
+    }
+
+    private static OpenApiConfig sharedSchemasConfig(boolean enabled) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_SHARED_SCHEMAS_ENABLE, Boolean.valueOf(enabled));
+        return IndexScannerTestBase.dynamicConfig(properties);
+    }
+
+    private static Object storage(Schema schema) throws Exception {
+        Field fields = SchemaImpl.class.getDeclaredField("fields");
+        fields.setAccessible(true);
+        return fields.get(schema);
+    }
+
+    @Test
+    public void testPrimitiveSchemasShareStorage() throws Exception {
+        SchemaRegistry.newInstance(sharedSchemasConfig(true), new OpenAPIImpl(), new Indexer().complete());
+        Schema first = OpenApiDataObjectScanner.process(PrimitiveType.INT);
+        Schema second = OpenApiDataObjectScanner.process(PrimitiveType.INT);
+
+        assertNotSame(first, second);
+        assertSame(storage(first), storage(second));
+        assertEquals(Schema.SchemaType.INTEGER, first.getType());
+        assertEquals("int32", first.getFormat());
+
+        first.setDescription("Modified");
+        assertNull(second.getDescription());
+        assertNotSame(storage(first), storage(second));
+
+        SchemaRegistry.newInstance(sharedSchemasConfig(false), new OpenAPIImpl(), new Indexer().complete());
+        assertNotSame(storage(OpenApiDataObjectScanner.process(PrimitiveType.INT)),
+                storage(OpenApiDataObjectScanner.process(PrimitiveType.INT)));
+    }
+
+    @Test
+    public void testSharedReferencesCopyOnWrite() throws Exception {
+        SchemaRegistry registry = SchemaRegistry.newInstance(sharedSchemasConfig(true), new OpenAPIImpl(),
+                new Indexer().complete());
+        Type type = Type.create(DotName.createSimple("Widget"), Type.Kind.CLASS);
+
+        Schema registered = registry.register(type, new SchemaImpl().type(Schema.SchemaType.OBJECT));
+        Schema first = registry.lookupRef(type);
+        Schema second = registry.lookupRef(type);
+
+        assertSame(storage(registered), storage(first));
+        assertSame(storage(first), storage(second));
+        assertEquals("#/components/schemas/Widget", first.getRef());
+
+        first.setDescription("A widget");
+        assertNull(second.getDescription());
+        assertNull(registry.lookupRef(type).getDescription());
+        assertEquals("#/components/schemas/Widget", registry.lookupRef(type).getRef());
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.BaseStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.Type;
+import org.junit.Assume;
+import org.junit.Test;
+
+import io.smallrye.openapi.runtime.scanner.MapStandin;
+
+public class JdkIndexTest {
+
+    private static DotName name(Class<?> klazz) {
+        return DotName.createSimple(klazz.getName());
+    }
+
+    private static Set<DotName> names(Collection<ClassInfo> classes) {
+        return classes.stream().map(ClassInfo::name).collect(Collectors.toSet());
+    }
+
+    /**
+     * The index is written by the process-classes phase of the build, so it is
+     * missing when the tests are only compiled and run, e.g. from an IDE.
+     */
+    @Test
+    public void testSerializedIndexMatchesClassFiles() {
+        Assume.assumeNotNull(JdkIndex.class.getClassLoader().getResource(JdkIndex.RESOURCE));
+        assertEquals(names(JdkIndex.indexClassFiles().getKnownClasses()), names(JdkIndex.get().getKnownClasses()));
+        assertNotNull(JdkIndex.get().getClassByName(name(List.class)));
+        assertNotNull(JdkIndex.get().getClassByName(name(MapStandin.class)));
+    }
+
+    @Test
+    public void testPlatformClassIndexedOnDemand() {
+        assertNull(JdkIndex.get().getClassByName(name(LocalDate.class)));
+
+        ClassInfo localDate = JdkIndex.getClassByName(name(LocalDate.class));
+        assertNotNull(localDate);
+        assertTrue(localDate.interfaceNames().contains(name(Temporal.class)));
+        assertSame(localDate, JdkIndex.getClassByName(name(LocalDate.class)));
+
+        assertNull(JdkIndex.getClassByName(DotName.createSimple("java.util.DoesNotExist")));
+        assertNull(JdkIndex.getClassByName(name(JdkIndexTest.class)));
+    }
+
+    @Test
+    public void testIsAWithPlatformClasses() {
+        Type stream = Type.create(name(Stream.class), Type.Kind.CLASS);
+        assertTrue(TypeUtil.isA(new Indexer().complete(), stream, Type.create(name(BaseStream.class), Type.Kind.CLASS)));
+        assertTrue(TypeUtil.isA(new Indexer().complete(), stream, Type.create(name(AutoCloseable.class), Type.Kind.CLASS)));
+        assertFalse(TypeUtil.isA(new Indexer().complete(), stream, Type.create(name(Map.class), Type.Kind.CLASS)));
+    }
+}
@@ -0,0 +1,90 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+public class StringPoolTest {
+
+    @After
+    public void removePool() {
+        StringPool.remove();
+    }
+
+    @Test
+    public void testCanonicalWithoutActivePool() {
+        String value = new String("application/json");
+        assertSame(value, StringPool.canonical(value));
+        assertNull(StringPool.canonical(null));
+    }
+
+    @Test
+    public void testCanonicalInstances() {
+        StringPool pool = StringPool.newInstance();
+        String first = new String("#/components/schemas/Error");
+        String second = new String("#/components/schemas/Error");
+        assertNotSame(first, second);
+
+        assertSame(first, StringPool.canonical(first));
+        assertSame(first, StringPool.canonical(second));
+        assertSame(first, StringPool.canonical(first));
+
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getDuplicates());
+        assertEquals(24 + 48, pool.getBytesSaved());
+    }
+
+    @Test
+    public void testParsedDocumentsShareStrings() throws IOException {
+        StringPool pool = StringPool.newInstance();
+        OpenAPI first = parse("_everything.json");
+        OpenAPI second = parse("_everything.yaml");
+
+        assertSame(first.getInfo().getDescription(), second.getInfo().getDescription());
+        assertSame(first.getServers().get(0).getDescription(), second.getServers().get(0).getDescription());
+        assertTrue(pool.getDuplicates() > 0);
+        assertTrue(pool.getBytesSaved() > 0);
+        // The pool remains active, it was not created by the parser
+        assertSame(pool, StringPool.currentInstance());
+    }
+
+    @Test
+    public void testBeginAndEnd() {
+        // Disabled by default, with or without a configuration
+        assertNull(StringPool.begin(null));
+        assertNull(StringPool.begin(IndexScannerTestBase.emptyConfig()));
+        assertNull(StringPool.currentInstance());
+
+        OpenApiConfig enabled = IndexScannerTestBase.dynamicConfig(
+                Collections.singletonMap(OpenApiConstants.SMALLRYE_STRING_POOL_ENABLE, Boolean.TRUE));
+        StringPool pool = StringPool.begin(enabled);
+        assertSame(pool, StringPool.currentInstance());
+        // A pool already active remains in use
+        assertNull(StringPool.begin(enabled));
+        StringPool.end(pool);
+        assertNull(StringPool.currentInstance());
+        StringPool.end(null);
+    }
+
+    static OpenAPI parse(String resource) throws IOException {
+        try (InputStream stream = OpenApiParser.class.getResourceAsStream(resource)) {
+            return OpenApiParser.parse(stream, resource.endsWith(".json") ? Format.JSON : Format.YAML);
+        }
+    }
+}
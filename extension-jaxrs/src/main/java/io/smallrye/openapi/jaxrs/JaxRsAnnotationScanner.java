@@ -31,6 +31,8 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
@@ -44,7 +46,6 @@ import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
 import io.smallrye.openapi.runtime.scanner.spi.AbstractAnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
-import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
  * Scanner that scan Jax-Rs entry points.
@@ -154,7 +155,13 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         processScannerExtensions(context, applications);
 
         for (ClassInfo classInfo : applications) {
-            OpenAPI applicationOpenApi = processApplicationClass(context, classInfo);
+            long start = ScanInstrumentation.start(ScanPhase.APPLICATION, classInfo);
+            OpenAPI applicationOpenApi;
+            try {
+                applicationOpenApi = processApplicationClass(context, classInfo);
+            } finally {
+                ScanInstrumentation.end(ScanPhase.APPLICATION, classInfo, start);
+            }
             openApi = MergeUtil.merge(openApi, applicationOpenApi);
         }
     }
@@ -199,7 +206,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         // Now find all jax-rs endpoints
         Collection<ClassInfo> resourceClasses = getJaxRsResourceClasses(context.getIndex());
         for (ClassInfo resourceClass : resourceClasses) {
-            processResourceClass(context, openApi, resourceClass, null);
+            scanResourceClass(context, openApi, resourceClass,
+                    () -> processResourceClass(context, openApi, resourceClass, null));
         }
     }
 
@@ -215,15 +223,20 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             ClassInfo resourceClass,
             List<Parameter> locatorPathParameters) {
         JaxRsLogging.log.processingClass(resourceClass.simpleName());
+        long start = ScanInstrumentation.start(ScanPhase.RESOURCE_CLASS, resourceClass);
 
-        // Process @SecurityScheme annotations.
-        processSecuritySchemeAnnotation(resourceClass, openApi);
+        try {
+            // Process @SecurityScheme annotations.
+            processSecuritySchemeAnnotation(resourceClass, openApi);
 
-        // Process Java security
-        processJavaSecurity(resourceClass, openApi);
+            // Process Java security
+            processJavaSecurity(resourceClass, openApi);
 
-        // Now find and process the operation methods
-        processResourceMethods(context, resourceClass, openApi, locatorPathParameters);
+            // Now find and process the operation methods
+            processResourceMethods(context, resourceClass, openApi, locatorPathParameters);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.RESOURCE_CLASS, resourceClass, start);
+        }
     }
 
     /**
@@ -255,8 +268,13 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
                     .map(PathItem.HttpMethod::valueOf)
                     .forEach(httpMethod -> {
                         resourceCount.incrementAndGet();
-                        processResourceMethod(context, resourceClass, methodInfo, httpMethod, openApi, tagRefs,
-                                locatorPathParameters, exceptionAnnotationMap);
+                        long start = ScanInstrumentation.start(ScanPhase.RESOURCE_METHOD, methodInfo);
+                        try {
+                            processResourceMethod(context, resourceClass, methodInfo, httpMethod, openApi, tagRefs,
+                                    locatorPathParameters, exceptionAnnotationMap);
+                        } finally {
+                            ScanInstrumentation.end(ScanPhase.RESOURCE_METHOD, methodInfo, start);
+                        }
                     });
 
             if (resourceCount.get() == 0 && methodInfo.hasAnnotation(JaxRsConstants.PATH)) {
@@ -443,15 +461,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             path = super.makePath(params.getOperationPath());
         }
 
-        // Get or create a PathItem to hold the operation
-        PathItem existingPath = ModelUtil.paths(openApi).getPathItem(path);
-
-        if (existingPath == null) {
-            ModelUtil.paths(openApi).addPathItem(path, pathItem);
-        } else {
-            // Changes applied to 'existingPath', no need to re-assign or add to OAI.
-            MergeUtil.mergeObjects(existingPath, pathItem);
-        }
+        // Add the PathItem holding the operation, or merge it with the existing one
+        addPathItem(context, openApi, path, pathItem);
     }
 
     static Optional<String[]> getMediaTypes(MethodInfo resourceMethod, DotName annotationName) {
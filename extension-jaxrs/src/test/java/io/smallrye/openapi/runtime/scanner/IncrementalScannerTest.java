@@ -0,0 +1,127 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Verifies that incremental scans build the same model as a full scan, scanning only
+ * the resource classes affected by the changed classes.
+ */
+public class IncrementalScannerTest extends IndexScannerTestBase {
+
+    static final SyntheticApi API = new SyntheticApi(4, 4, 3, 0);
+
+    private static String fullScan(OpenApiConfig config, IndexView index) throws Exception {
+        return OpenApiSerializer.serialize(new OpenApiAnnotationScanner(config, index).scan(), Format.JSON);
+    }
+
+    private static void assertScan(IncrementalScanner scanner, OpenApiConfig config, IndexView index, Set<DotName> changed,
+            int expectedReused, int expectedScanned) throws Exception {
+        OpenAPI model = scanner.scan(index, changed);
+        assertEquals(fullScan(config, index), OpenApiSerializer.serialize(model, Format.JSON));
+        assertEquals(expectedReused, scanner.getFragments().getReused());
+        assertEquals(expectedScanned, scanner.getFragments().getScanned());
+    }
+
+    private static Set<DotName> names(String... classNames) {
+        return Arrays.stream(classNames)
+                .map(name -> DotName.createSimple(SyntheticApi.PACKAGE + '.' + name))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testUnchanged() throws Exception {
+        OpenApiConfig config = nestingSupportConfig();
+        IncrementalScanner scanner = new IncrementalScanner(config);
+        IndexView index = API.index();
+
+        assertScan(scanner, config, index, null, 0, 4);
+        assertScan(scanner, config, index, Collections.emptySet(), 4, 0);
+    }
+
+    @Test
+    public void testDataObjectModified() throws Exception {
+        OpenApiConfig config = nestingSupportConfig();
+        IncrementalScanner scanner = new IncrementalScanner(config);
+        Map<String, String> sources = API.sources();
+
+        assertScan(scanner, config, SyntheticApi.index(sources), null, 0, 4);
+
+        String dto = SyntheticApi.PACKAGE + ".Dto2L3";
+        sources.put(dto, sources.get(dto).replace("private String value;", "private String value;\n    private long added;"));
+
+        // Only the resource whose data objects include the modified class is scanned again
+        assertScan(scanner, config, SyntheticApi.index(sources), names("Dto2L3"), 3, 1);
+    }
+
+    @Test
+    public void testResourceModified() throws Exception {
+        OpenApiConfig config = nestingSupportConfig();
+        IncrementalScanner scanner = new IncrementalScanner(config);
+        Map<String, String> sources = API.sources();
+
+        assertScan(scanner, config, SyntheticApi.index(sources), null, 0, 4);
+
+        String resource = SyntheticApi.PACKAGE + ".Resource1";
+        sources.put(resource, sources.get(resource).replace("Operation 2 of resource 1", "Modified operation"));
+
+        assertScan(scanner, config, SyntheticApi.index(sources), names("Resource1"), 3, 1);
+    }
+
+    @Test
+    public void testResourcesAddedAndRemoved() throws Exception {
+        OpenApiConfig config = nestingSupportConfig();
+        IncrementalScanner scanner = new IncrementalScanner(config);
+        SyntheticApi larger = new SyntheticApi(6, 4, 3, 0);
+        Set<DotName> added = new HashSet<>();
+
+        for (String name : larger.sources().keySet()) {
+            if (!API.sources().containsKey(name)) {
+                added.add(DotName.createSimple(name));
+            }
+        }
+
+        scanner.scan(API.index());
+
+        OpenAPI model = scanner.scan(larger.index(), added);
+        assertEquals(fullScan(config, larger.index()), OpenApiSerializer.serialize(model, Format.JSON));
+
+        model = scanner.scan(API.index(), added);
+        assertEquals(fullScan(config, API.index()), OpenApiSerializer.serialize(model, Format.JSON));
+    }
+
+    @Test
+    public void testSecuritySchemeScopes() throws Exception {
+        OpenApiConfig config = emptyConfig();
+        IncrementalScanner scanner = new IncrementalScanner(config);
+        IndexView index = indexOf(RolesAllowedScopeScanTests.RolesAllowedApp.class,
+                RolesAllowedScopeScanTests.RolesAllowedResource1.class,
+                RolesAllowedScopeScanTests.RolesAllowedResource2.class,
+                RolesAllowedScopeScanTests.RolesDeclaredResource.class);
+
+        assertScan(scanner, config, index, null, 0, 3);
+        assertScan(scanner, config, index, Collections.emptySet(), 3, 0);
+
+        // The roles of each resource are added to the scopes of the scheme, in the order scanned
+        Set<DotName> changed = Collections
+                .singleton(DotName.createSimple(RolesAllowedScopeScanTests.RolesAllowedResource2.class.getName()));
+        OpenAPI model = scanner.scan(index, changed);
+        assertEquals(fullScan(config, index), OpenApiSerializer.serialize(model, Format.JSON));
+        assertEquals(3, scanner.getFragments().getReused() + scanner.getFragments().getScanned());
+    }
+}
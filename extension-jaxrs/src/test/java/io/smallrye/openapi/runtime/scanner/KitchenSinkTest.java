@@ -1,6 +1,8 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.ClassType;
@@ -10,6 +12,7 @@ import org.jboss.logging.Logger;
 import org.json.JSONException;
 import org.junit.Test;
 
+import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import test.io.smallrye.openapi.runtime.scanner.entities.KitchenSink;
 
@@ -67,4 +70,21 @@ public class KitchenSinkTest extends JaxRsDataObjectScannerTestBase {
         printToConsole(oai);
         assertJsonEquals("refsEnabled.kitchenSink.expected.json", oai);
     }
+
+    @Test
+    public void testKitchenSinkWithSharedSchemas() throws IOException, JSONException {
+        DotName name = componentize(KitchenSink.class.getName());
+        Type type = ClassType.create(name, Type.Kind.CLASS);
+        OpenApiDataObjectScanner scanner = new OpenApiDataObjectScanner(index, type);
+        OpenAPIImpl oai = new OpenAPIImpl();
+        Map<String, Object> config = new HashMap<>();
+        config.put(OpenApiConstants.SMALLRYE_SCHEMA_REFERENCES_ENABLE, Boolean.TRUE);
+        config.put(OpenApiConstants.SMALLRYE_SHARED_SCHEMAS_ENABLE, Boolean.TRUE);
+        SchemaRegistry registry = SchemaRegistry.newInstance(dynamicConfig(config), oai, index);
+
+        Schema result = scanner.process();
+        registry.register(type, result);
+
+        assertJsonEquals("refsEnabled.kitchenSink.expected.json", oai);
+    }
 }
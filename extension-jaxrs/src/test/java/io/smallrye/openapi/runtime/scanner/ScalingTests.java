@@ -0,0 +1,162 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.util.AllocationMeter;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Scans, merges, filters and serializes a {@link SyntheticApi} at 1x, 10x and 100x its
+ * base size, and verifies that the time and the memory allocated by each phase grow
+ * no faster than a declared bound. A phase whose cost is quadratic in the size of the
+ * application exceeds the bounds by an order of magnitude at 100x.
+ *
+ * The cost of each phase is the minimum of several runs, so that a single garbage
+ * collection pause does not cause a failure.
+ */
+public class ScalingTests extends IndexScannerTestBase {
+
+    private static final Logger LOG = Logger.getLogger(ScalingTests.class);
+
+    /**
+     * 1x: 2 resource classes with 4 methods each, data objects 3 levels deep, 4 static paths.
+     */
+    static final SyntheticApi BASE = new SyntheticApi(2, 4, 3, 4);
+    static final int[] FACTORS = { 1, 10, 100 };
+    static final int RUNS = 3;
+
+    /**
+     * Declared bounds: a phase's cost at factor F times the base size may be at most
+     * F^EXPONENT times its cost at the base size (linear growth has exponent 1).
+     */
+    static final double TIME_EXPONENT = 1.6;
+    static final double MEMORY_EXPONENT = 1.2;
+
+    static Workload[] workloads;
+
+    /**
+     * Processes a workload, returning the action to be measured.
+     */
+    @FunctionalInterface
+    interface Phase {
+        AllocationMeter.Action prepare(Workload workload) throws Exception;
+    }
+
+    static class Workload {
+        final SyntheticApi api;
+        final IndexView index;
+        final OpenAPI scanned;
+        final OpenAPI merged;
+
+        Workload(SyntheticApi api, OpenApiConfig config) {
+            this.api = api;
+            this.index = api.index();
+            this.scanned = new OpenApiAnnotationScanner(config, index).scan();
+            this.merged = MergeUtil.merge(api.staticModel(), scanned);
+        }
+    }
+
+    static class Cost {
+        long nanos = Long.MAX_VALUE;
+        long bytes = Long.MAX_VALUE;
+
+        @Override
+        public String toString() {
+            return (nanos / 1000) + "us, " + bytes + " bytes";
+        }
+    }
+
+    @BeforeClass
+    public static void createWorkloads() {
+        OpenApiConfig config = emptyConfig();
+        workloads = new Workload[FACTORS.length];
+
+        for (int i = 0; i < FACTORS.length; i++) {
+            workloads[i] = new Workload(BASE.scale(FACTORS[i]), config);
+            assertEquals(BASE.scale(FACTORS[i]).getOperationCount(),
+                    workloads[i].merged.getPaths().getPathItems().values().stream()
+                            .mapToLong(item -> item.getOperations().size())
+                            .sum());
+        }
+    }
+
+    @Test
+    public void testScanScaling() throws Exception {
+        OpenApiConfig config = emptyConfig();
+        assertScaling("scan", workload -> () -> new OpenApiAnnotationScanner(config, workload.index).scan());
+    }
+
+    @Test
+    public void testMergeScaling() throws Exception {
+        assertScaling("merge", workload -> {
+            // The merge modifies the first document, parse a new copy for each run
+            OpenAPI staticModel = workload.api.staticModel();
+            return () -> MergeUtil.merge(staticModel, workload.scanned);
+        });
+    }
+
+    @Test
+    public void testFilterScaling() throws Exception {
+        OASFilter filter = new OASFilter() {
+        };
+        assertScaling("filter", workload -> () -> FilterUtil.applyFilter(filter, workload.merged));
+    }
+
+    @Test
+    public void testSerializeScaling() throws Exception {
+        assertScaling("serialize", workload -> () -> OpenApiSerializer.serialize(workload.merged, Format.JSON));
+    }
+
+    static void assertScaling(String name, Phase phase) throws Exception {
+        AllocationMeter meter = new AllocationMeter();
+        Cost[] costs = new Cost[FACTORS.length];
+
+        // Warm up with all but the largest workload
+        for (int i = 0; i < FACTORS.length - 1; i++) {
+            for (int run = 0; run < RUNS * 2; run++) {
+                phase.prepare(workloads[i]).run();
+            }
+        }
+
+        for (int i = 0; i < FACTORS.length; i++) {
+            costs[i] = new Cost();
+
+            for (int run = 0; run < RUNS; run++) {
+                AllocationMeter.Action action = phase.prepare(workloads[i]);
+                long startBytes = meter.allocatedBytes();
+                long startNanos = System.nanoTime();
+                action.run();
+                costs[i].nanos = Math.min(costs[i].nanos, System.nanoTime() - startNanos);
+                costs[i].bytes = Math.min(costs[i].bytes, meter.allocatedBytes() - startBytes);
+            }
+
+            LOG.debugv("{0} of {1}: {2}", name, workloads[i].api, costs[i]);
+        }
+
+        for (int i = 1; i < FACTORS.length; i++) {
+            int factor = FACTORS[i] / FACTORS[0];
+            assertGrowth(name + " time", factor, costs[0].nanos, costs[i].nanos, TIME_EXPONENT);
+            assertGrowth(name + " memory", factor, costs[0].bytes, costs[i].bytes, MEMORY_EXPONENT);
+        }
+    }
+
+    static void assertGrowth(String name, int factor, long base, long scaled, double exponent) {
+        double growth = (double) scaled / Math.max(base, 1);
+        double bound = Math.pow(factor, exponent);
+
+        assertTrue(String.format("%s grew %.1fx for a %dx larger API, the bound is %.1fx", name, growth, factor, bound),
+                growth <= bound);
+    }
+}
@@ -0,0 +1,56 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.util.AllocationBudget;
+import io.smallrye.openapi.api.util.AllocationMeter;
+
+/**
+ * Verifies that a full scan of the TCK petstore application allocates no more than
+ * its budget in {@code allocation-budgets.properties}.
+ */
+public class ScanAllocationBudgetTest extends IndexScannerTestBase {
+
+    private static final String PETSTORE = "org/eclipse/microprofile/openapi/apps/petstore/";
+
+    private final AllocationBudget budget = new AllocationBudget(ScanAllocationBudgetTest.class,
+            "allocation-budgets.properties");
+
+    @Test
+    public void testPetstoreScan() throws Exception {
+        Indexer indexer = new Indexer();
+        for (String className : new String[] {
+                "PetStoreApp",
+                "data/PetData",
+                "data/StoreData",
+                "data/UserData",
+                "exception/ApiException",
+                "exception/BadRequestException",
+                "exception/NotFoundException",
+                "model/ApiResponse",
+                "model/BadOrder",
+                "model/Cat",
+                "model/Category",
+                "model/Dog",
+                "model/Lizard",
+                "model/Order",
+                "model/Pet",
+                "model/Tag",
+                "model/User",
+                "resource/JavaRestResourceUtil",
+                "resource/PetResource",
+                "resource/PetStoreResource",
+                "resource/UserResource",
+                "util/ApiOriginFilter" }) {
+            index(indexer, PETSTORE + className + ".class");
+        }
+        IndexView index = indexer.complete();
+        OpenApiConfig config = emptyConfig();
+
+        budget.assertWithin("scan.petstore",
+                new AllocationMeter().measure(5, () -> new OpenApiAnnotationScanner(config, index).scan()));
+    }
+}
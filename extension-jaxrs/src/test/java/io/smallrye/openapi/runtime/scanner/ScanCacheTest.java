@@ -0,0 +1,106 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.json.JSONException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import test.io.smallrye.openapi.runtime.scanner.entities.Greeting;
+import test.io.smallrye.openapi.runtime.scanner.resources.GreetingGetResource;
+import test.io.smallrye.openapi.runtime.scanner.resources.GreetingPostResource;
+
+public class ScanCacheTest extends IndexScannerTestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private OpenApiConfig cacheConfig() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_SCHEMA_REFERENCES_ENABLE, Boolean.TRUE);
+        properties.put(OpenApiConstants.SMALLRYE_SCAN_CACHE_DIRECTORY, folder.getRoot().toString());
+        return dynamicConfig(properties);
+    }
+
+    private static String fingerprint(OpenApiConfig config, Index index) {
+        return ScanCache.forConfig(config).fingerprint(index, new AnnotationScannerFactory().getAnnotationScanners());
+    }
+
+    private static String serialize(OpenAPI model) throws Exception {
+        return OpenApiSerializer.serialize(model, Format.JSON);
+    }
+
+    @Test
+    public void testCacheMissThenHit() throws Exception {
+        OpenApiConfig config = cacheConfig();
+        Index index = indexOf(GreetingGetResource.class, Greeting.class);
+        Path entry = ScanCache.forConfig(config).file(fingerprint(config, index));
+
+        OpenAPI scanned = new OpenApiAnnotationScanner(config, index).scan();
+        assertTrue(Files.isRegularFile(entry));
+
+        OpenAPI cached = new OpenApiAnnotationScanner(config, index).scan();
+        assertJsonEquals(serialize(scanned), serialize(cached));
+        assertJsonEquals(serialize(new OpenApiAnnotationScanner(nestingSupportConfig(), index).scan()), serialize(cached));
+    }
+
+    @Test
+    public void testFingerprintStable() {
+        OpenApiConfig config = cacheConfig();
+        assertEquals(fingerprint(config, indexOf(GreetingGetResource.class, Greeting.class)),
+                fingerprint(config, indexOf(Greeting.class, GreetingGetResource.class)));
+    }
+
+    @Test
+    public void testFingerprintChangesWithIndex() {
+        OpenApiConfig config = cacheConfig();
+        assertNotEquals(fingerprint(config, indexOf(GreetingGetResource.class, Greeting.class)),
+                fingerprint(config, indexOf(GreetingGetResource.class, GreetingPostResource.class, Greeting.class)));
+    }
+
+    @Test
+    public void testFingerprintChangesWithConfig() {
+        Index index = indexOf(GreetingGetResource.class, Greeting.class);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(OpenApiConstants.SMALLRYE_SCHEMA_REFERENCES_ENABLE, Boolean.FALSE);
+        properties.put(OpenApiConstants.SMALLRYE_SCAN_CACHE_DIRECTORY, folder.getRoot().toString());
+
+        assertNotEquals(fingerprint(cacheConfig(), index), fingerprint(dynamicConfig(properties), index));
+    }
+
+    @Test
+    public void testCorruptEntryRescanned() throws Exception {
+        OpenApiConfig config = cacheConfig();
+        Index index = indexOf(GreetingGetResource.class, Greeting.class);
+        Path entry = ScanCache.forConfig(config).file(fingerprint(config, index));
+        Files.write(entry, "{\"model\": ".getBytes(StandardCharsets.UTF_8));
+
+        OpenAPI scanned = new OpenApiAnnotationScanner(config, index).scan();
+        assertTrue(scanned.getPaths().getPathItems().size() > 0);
+
+        // The corrupt entry is replaced by the result of the scan
+        OpenAPI cached = ScanCache.forConfig(config).read(entry.getFileName().toString().replace(".json", ""));
+        assertJsonEquals(serialize(scanned), serialize(cached));
+    }
+
+    private static void assertJsonEquals(String expected, String actual) throws JSONException {
+        JSONAssert.assertEquals(expected, actual, true);
+    }
+}
@@ -0,0 +1,41 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.jandex.Index;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.instrumentation.AggregatingScanListener;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
+import io.smallrye.openapi.api.instrumentation.ScanReport;
+import test.io.smallrye.openapi.runtime.scanner.entities.Greeting;
+import test.io.smallrye.openapi.runtime.scanner.resources.GreetingGetResource;
+
+public class ScanInstrumentationTest extends IndexScannerTestBase {
+
+    @Test
+    public void testScanPhasesReported() {
+        Index index = indexOf(GreetingGetResource.class, Greeting.class);
+        AggregatingScanListener listener = new AggregatingScanListener();
+        ScanInstrumentation.register(listener);
+
+        try {
+            new OpenApiAnnotationScanner(nestingSupportConfig(), index).scan();
+        } finally {
+            ScanInstrumentation.unregister(listener);
+        }
+
+        ScanReport report = listener.getReport();
+        assertEquals(1, report.getCount(ScanPhase.SCAN));
+        assertEquals(0, report.getCount(ScanPhase.APPLICATION));
+        assertEquals(1, report.getCount(ScanPhase.RESOURCE_CLASS));
+        assertEquals(6, report.getCount(ScanPhase.RESOURCE_METHOD));
+        assertTrue(report.getCount(ScanPhase.SCHEMA) > 0);
+        // Greeting is registered on first use, then referenced
+        assertTrue(report.getRegistryMisses() > 0);
+        assertTrue(report.getRegistryHits() > 0);
+        assertTrue(report.getTotalNanos(ScanPhase.SCAN) >= report.getTotalNanos(ScanPhase.RESOURCE_CLASS));
+    }
+}
@@ -0,0 +1,339 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import javax.ws.rs.Path;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.Assume;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+/**
+ * Generates a synthetic API of configurable size, used to verify that the cost of
+ * processing grows in proportion to the size of the application.
+ *
+ * The API consists of:
+ * <ul>
+ * <li>{@code resources} JAX-RS resource classes, each with {@code methods} resource
+ * methods using path, query and header parameters, request bodies and generic
+ * responses;</li>
+ * <li>for each resource, a graph of data objects {@code depth} levels deep, where each
+ * level extends a generic base class parameterized with the next level;</li>
+ * <li>a static file with {@code staticPaths} paths, each with its own schema.</li>
+ * </ul>
+ *
+ * The resource and data object sources are compiled in memory with the system Java
+ * compiler and indexed with Jandex. Tests using the generator are skipped when no
+ * compiler is available.
+ */
+public class SyntheticApi {
+
+    static final String PACKAGE = "synthetic";
+
+    private final int resources;
+    private final int methods;
+    private final int depth;
+    private final int staticPaths;
+
+    /**
+     * @param resources number of resource classes (N)
+     * @param methods number of resource methods per class (M)
+     * @param depth depth of the data object graph of each resource (D)
+     * @param staticPaths number of paths in the static file (K)
+     */
+    public SyntheticApi(int resources, int methods, int depth, int staticPaths) {
+        this.resources = resources;
+        this.methods = methods;
+        this.depth = depth;
+        this.staticPaths = staticPaths;
+    }
+
+    /**
+     * @param factor the scale factor
+     * @return an API with the number of resource classes and static paths multiplied by factor
+     */
+    public SyntheticApi scale(int factor) {
+        return new SyntheticApi(resources * factor, methods, depth, staticPaths * factor);
+    }
+
+    /**
+     * @return total number of operations in the API, including the static file
+     */
+    public int getOperationCount() {
+        return resources * methods + staticPaths;
+    }
+
+    /**
+     * @return the Java sources of the API, keyed by fully-qualified class name
+     */
+    public Map<String, String> sources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        sources.put(PACKAGE + ".Status", "public enum Status { ACTIVE, SUSPENDED, CLOSED }");
+        sources.put(PACKAGE + ".Page", "public class Page<T> {\n"
+                + "    private java.util.List<T> content;\n"
+                + "    private long total;\n"
+                + "    private int number;\n"
+                + "}");
+
+        for (int r = 0; r < resources; r++) {
+            sources.put(PACKAGE + ".Base" + r, "public abstract class Base" + r + "<T> {\n"
+                    + "    private String id;\n"
+                    + "    private java.time.OffsetDateTime created;\n"
+                    + "    private T payload;\n"
+                    + "    private java.util.List<T> items;\n"
+                    + "}");
+
+            for (int d = 0; d < depth; d++) {
+                String next = dto(r, d + 1);
+                sources.put(PACKAGE + '.' + dto(r, d), "public class " + dto(r, d) + " extends Base" + r + '<' + next + "> {\n"
+                        + "    private String name;\n"
+                        + "    private int count;\n"
+                        + "    private Status status;\n"
+                        + "    private java.util.Map<String, " + next + "> children;\n"
+                        + "    private " + dto(r, d) + " parent;\n"
+                        + "}");
+            }
+
+            sources.put(PACKAGE + '.' + dto(r, depth), "public class " + dto(r, depth) + " {\n"
+                    + "    private String value;\n"
+                    + "    private java.math.BigDecimal amount;\n"
+                    + "    private java.time.LocalDate date;\n"
+                    + "    private Status status;\n"
+                    + "}");
+
+            sources.put(PACKAGE + ".Resource" + r, resource(r));
+        }
+
+        sources.replaceAll((name, source) -> "package " + PACKAGE + ";\n\n" + source);
+        return sources;
+    }
+
+    private String resource(int r) {
+        String dto = dto(r, 0);
+        StringBuilder source = new StringBuilder();
+        source.append("@javax.ws.rs.Path(\"/resource").append(r).append("\")\n")
+                .append("@javax.ws.rs.Produces(\"application/json\")\n")
+                .append("@javax.ws.rs.Consumes(\"application/json\")\n")
+                .append("public class Resource").append(r).append(" {\n");
+
+        for (int m = 0; m < methods; m++) {
+            String summary = "@org.eclipse.microprofile.openapi.annotations.Operation(summary = \"Operation " + m
+                    + " of resource " + r + "\")\n";
+            source.append('\n');
+
+            switch (m % 4) {
+                case 0:
+                    source.append("    @javax.ws.rs.GET @javax.ws.rs.Path(\"/op").append(m).append("/{id}\")\n")
+                            .append("    ").append(summary)
+                            .append("    public ").append(dto).append(" op").append(m)
+                            .append("(@javax.ws.rs.PathParam(\"id\") String id,")
+                            .append(" @javax.ws.rs.HeaderParam(\"X-Trace\") String trace) { return null; }\n");
+                    break;
+                case 1:
+                    source.append("    @javax.ws.rs.GET @javax.ws.rs.Path(\"/op").append(m).append("\")\n")
+                            .append("    ").append(summary)
+                            .append("    public Page<").append(dto).append("> op").append(m)
+                            .append("(@javax.ws.rs.QueryParam(\"page\") int page,")
+                            .append(" @javax.ws.rs.QueryParam(\"size\") int size,")
+                            .append(" @javax.ws.rs.QueryParam(\"status\") Status status) { return null; }\n");
+                    break;
+                case 2:
+                    source.append("    @javax.ws.rs.POST @javax.ws.rs.Path(\"/op").append(m).append("\")\n")
+                            .append("    ").append(summary)
+                            .append("    public ").append(dto).append(" op").append(m)
+                            .append('(').append(dto).append(" body) { return null; }\n");
+                    break;
+                default:
+                    source.append("    @javax.ws.rs.DELETE @javax.ws.rs.Path(\"/op").append(m).append("/{id}\")\n")
+                            .append("    ").append(summary)
+                            .append("    public void op").append(m)
+                            .append("(@javax.ws.rs.PathParam(\"id\") long id) { }\n");
+                    break;
+            }
+        }
+
+        return source.append("}").toString();
+    }
+
+    private static String dto(int resource, int level) {
+        return "Dto" + resource + 'L' + level;
+    }
+
+    /**
+     * Compile the sources of the API and index the resulting classes.
+     *
+     * @return index of the API's classes
+     */
+    public IndexView index() {
+        return index(sources());
+    }
+
+    /**
+     * Compile the given sources, e.g. a modified copy of the sources of the API, and
+     * index the resulting classes.
+     *
+     * @param sources Java sources keyed by fully-qualified class name
+     * @return index of the classes
+     */
+    public static IndexView index(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+
+        Map<String, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+        List<JavaFileObject> units = new ArrayList<>();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SimpleJavaFileObject(uri(source.getKey(), JavaFileObject.Kind.SOURCE), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source.getValue();
+                }
+            });
+        }
+
+        StandardJavaFileManager standardManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        JavaFileManager manager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                    FileObject sibling) {
+                return new SimpleJavaFileObject(uri(className, kind), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        classes.put(className, out);
+                        return out;
+                    }
+                };
+            }
+        };
+
+        List<String> options = Arrays.asList("-proc:none", "-classpath", classpath(Path.class, Operation.class));
+
+        if (!compiler.getTask(null, manager, diagnostics, options, null, units).call()) {
+            throw new IllegalStateException("Compilation of synthetic API failed: " + diagnostics.getDiagnostics());
+        }
+
+        Indexer indexer = new Indexer();
+
+        try {
+            for (ByteArrayOutputStream out : classes.values()) {
+                indexer.index(new ByteArrayInputStream(out.toByteArray()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return indexer.complete();
+    }
+
+    private static URI uri(String className, JavaFileObject.Kind kind) {
+        return URI.create("mem:///" + className.replace('.', '/') + kind.extension);
+    }
+
+    private static String classpath(Class<?>... classes) {
+        StringBuilder classpath = new StringBuilder();
+
+        for (Class<?> c : classes) {
+            try {
+                if (classpath.length() > 0) {
+                    classpath.append(File.pathSeparatorChar);
+                }
+                classpath.append(Paths.get(c.getProtectionDomain().getCodeSource().getLocation().toURI()));
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return classpath.toString();
+    }
+
+    /**
+     * @return the static file of the API, in JSON format
+     */
+    public String staticFile() {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode document = mapper.createObjectNode();
+        document.put("openapi", "3.0.1");
+        document.putObject("info").put("title", "Synthetic API").put("version", "1.0");
+
+        ObjectNode paths = document.putObject("paths");
+        ObjectNode schemas = document.putObject("components").putObject("schemas");
+
+        for (int k = 0; k < staticPaths; k++) {
+            String schemaName = "Static" + k;
+            ObjectNode operation = paths.putObject("/static/path" + k + "/{id}").putObject("get");
+            operation.put("operationId", "static" + k);
+            operation.putArray("tags").add("static");
+            operation.putArray("parameters").addObject()
+                    .put("name", "id")
+                    .put("in", "path")
+                    .put("required", true)
+                    .putObject("schema").put("type", "string");
+            operation.putObject("responses")
+                    .putObject("200")
+                    .put("description", "OK")
+                    .putObject("content")
+                    .putObject("application/json")
+                    .putObject("schema")
+                    .put("$ref", "#/components/schemas/" + schemaName);
+
+            ObjectNode properties = schemas.putObject(schemaName).put("type", "object").putObject("properties");
+            properties.putObject("id").put("type", "string");
+            properties.putObject("amount").put("type", "number").put("format", "double");
+            properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+        }
+
+        return document.toString();
+    }
+
+    /**
+     * @return a new model parsed from the static file of the API
+     */
+    public OpenAPI staticModel() {
+        try {
+            return OpenApiParser.parse(new ByteArrayInputStream(staticFile().getBytes(StandardCharsets.UTF_8)),
+                    Format.JSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticApi[resources=" + resources + ", methods=" + methods + ", depth=" + depth + ", staticPaths="
+                + staticPaths + "]";
+    }
+}
@@ -24,6 +24,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
@@ -173,7 +175,13 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         processScannerExtensions(context, applications);
 
         for (ClassInfo controller : applications) {
-            OpenAPI applicationOpenApi = processControllerClass(context, controller);
+            long start = ScanInstrumentation.start(ScanPhase.RESOURCE_CLASS, controller);
+            OpenAPI applicationOpenApi;
+            try {
+                applicationOpenApi = processControllerClass(context, controller);
+            } finally {
+                ScanInstrumentation.end(ScanPhase.RESOURCE_CLASS, controller, start);
+            }
             openApi = MergeUtil.merge(openApi, applicationOpenApi);
         }
     }
@@ -244,8 +252,8 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
                     if (methodInfo.hasAnnotation(validMethodAnnotations)) {
                         String toHttpMethod = toHttpMethod(validMethodAnnotations);
                         PathItem.HttpMethod httpMethod = PathItem.HttpMethod.valueOf(toHttpMethod);
-                        processControllerMethod(context, resourceClass, methodInfo, httpMethod, openApi, tagRefs,
-                                locatorPathParameters);
+                        processInstrumentedControllerMethod(context, resourceClass, methodInfo, httpMethod, openApi,
+                                tagRefs, locatorPathParameters);
 
                     }
                 }
@@ -259,8 +267,8 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
                         for (String enumValue : enumArray) {
                             if (enumValue != null) {
                                 PathItem.HttpMethod httpMethod = PathItem.HttpMethod.valueOf(enumValue.toUpperCase());
-                                processControllerMethod(context, resourceClass, methodInfo, httpMethod, openApi, tagRefs,
-                                        locatorPathParameters);
+                                processInstrumentedControllerMethod(context, resourceClass, methodInfo, httpMethod,
+                                        openApi, tagRefs, locatorPathParameters);
                             }
                         }
                     }
@@ -270,6 +278,27 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         }
     }
 
+    /**
+     * Process a single Spring method, reporting the time taken to the instrumentation
+     * listeners, if any.
+     */
+    private void processInstrumentedControllerMethod(final AnnotationScannerContext context,
+            final ClassInfo resourceClass,
+            final MethodInfo method,
+            final PathItem.HttpMethod methodType,
+            OpenAPI openApi,
+            Set<String> resourceTags,
+            List<Parameter> locatorPathParameters) {
+
+        long start = ScanInstrumentation.start(ScanPhase.RESOURCE_METHOD, method);
+        try {
+            processControllerMethod(context, resourceClass, method, methodType, openApi, resourceTags,
+                    locatorPathParameters);
+        } finally {
+            ScanInstrumentation.end(ScanPhase.RESOURCE_METHOD, method, start);
+        }
+    }
+
     private String toHttpMethod(DotName dotname) {
         String className = dotname.withoutPackagePrefix();
         className = className.replace("Mapping", "");
@@ -0,0 +1,22 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Creation of a model from the annotations of a deployment.
+ */
+@Name("io.smallrye.openapi.Annotations")
+@Label("OpenAPI Annotation Scan")
+@Description("Creation of an OpenAPI model from the annotations of a deployment")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class AnnotationsEvent extends DocumentEvent {
+
+    @Label("Indexed Classes")
+    @Description("Number of classes in the index of the deployment")
+    int classCount;
+}
@@ -0,0 +1,24 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base class of the events of phases producing a document, holding the size of
+ * the document at the end of the phase.
+ */
+public abstract class DocumentEvent extends Event {
+
+    @Label("Paths")
+    @Description("Number of paths in the document")
+    int pathCount;
+
+    @Label("Operations")
+    @Description("Number of operations in the document")
+    int operationCount;
+
+    @Label("Schemas")
+    @Description("Number of schemas in the components of the document")
+    int schemaCount;
+}
@@ -0,0 +1,21 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Application of an {@code OASFilter} to a document.
+ */
+@Name("io.smallrye.openapi.Filter")
+@Label("OpenAPI Filter")
+@Description("Application of an OASFilter to an OpenAPI document")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class FilterEvent extends DocumentEvent {
+
+    @Label("Filter Class")
+    Class<?> filterClass;
+}
@@ -0,0 +1,24 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One of the numbered phases of {@code OpenApiDocument.initialize}.
+ */
+@Name("io.smallrye.openapi.Initialize")
+@Label("OpenAPI Document Initialization Phase")
+@Description("A phase of the initialization of the final OpenAPI document")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class InitializeEvent extends DocumentEvent {
+
+    @Label("Phase")
+    int phase;
+
+    @Label("Name")
+    String name;
+}
@@ -0,0 +1,215 @@
+package io.smallrye.openapi.jfr;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.instrumentation.ScanListener;
+import io.smallrye.openapi.api.instrumentation.ScanPhase;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+
+/**
+ * Emits a JDK Flight Recorder event for each of the document level phases reported
+ * by the {@code ScanInstrumentation}: the creation of a model from annotations or from a
+ * static file, the phases of {@code OpenApiDocument.initialize}, the application of a
+ * filter and the serialization of a document. The finer grained phases of a scan are
+ * not recorded.
+ *
+ * The listener is registered using the {@link java.util.ServiceLoader ServiceLoader} when
+ * this module is on the class path. Events are only created while a recording is
+ * running with the events enabled, and the counts carried by an event are only
+ * computed when the event is committed.
+ */
+public class JfrScanListener implements ScanListener {
+
+    private static final String[] INITIALIZE_PHASES = {
+            null,
+            "Model reader",
+            "Static file",
+            "Annotations",
+            "Filter",
+            "Default document",
+            "Required elements",
+            "Servers"
+    };
+
+    private final ThreadLocal<ArrayDeque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * An event begun, waiting for the end of its phase.
+     */
+    private static final class Frame {
+        final ScanPhase phase;
+        final Object subject;
+        final DocumentEvent event;
+
+        Frame(ScanPhase phase, Object subject, DocumentEvent event) {
+            this.phase = phase;
+            this.subject = subject;
+            this.event = event;
+        }
+    }
+
+    @Override
+    public void phaseStarted(ScanPhase phase, Object subject) {
+        DocumentEvent event = newEvent(phase);
+
+        if (event != null && event.isEnabled()) {
+            event.begin();
+            frames.get().push(new Frame(phase, subject, event));
+        }
+    }
+
+    @Override
+    public void bytesRead(ScanPhase phase, Object subject, long bytes) {
+        Frame frame = frames.get().peek();
+
+        if (frame != null && frame.phase == phase && frame.event instanceof StaticFileEvent) {
+            ((StaticFileEvent) frame.event).size = bytes;
+        }
+    }
+
+    @Override
+    public void phaseCompleted(ScanPhase phase, Object subject, Object result, long durationNanos) {
+        if (isRecorded(phase)) {
+            Frame frame = pop(phase, subject);
+
+            if (frame != null) {
+                DocumentEvent event = frame.event;
+                event.end();
+
+                if (event.shouldCommit()) {
+                    populate(event, subject, result);
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static boolean isRecorded(ScanPhase phase) {
+        switch (phase) {
+            case ANNOTATIONS:
+            case STATIC_FILE:
+            case INITIALIZE:
+            case FILTER:
+            case SERIALIZE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static DocumentEvent newEvent(ScanPhase phase) {
+        switch (phase) {
+            case ANNOTATIONS:
+                return new AnnotationsEvent();
+            case STATIC_FILE:
+                return new StaticFileEvent();
+            case INITIALIZE:
+                return new InitializeEvent();
+            case FILTER:
+                return new FilterEvent();
+            case SERIALIZE:
+                return new SerializeEvent();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Remove the frame of the completed phase from the stack of the current thread. Frames
+     * above it belong to phases that ended with an exception before they were reported and
+     * are discarded.
+     */
+    private Frame pop(ScanPhase phase, Object subject) {
+        ArrayDeque<Frame> stack = frames.get();
+        Iterator<Frame> iterator = stack.iterator();
+        int depth = 0;
+
+        while (iterator.hasNext()) {
+            Frame frame = iterator.next();
+            depth++;
+
+            if (frame.phase == phase && Objects.equals(frame.subject, subject)) {
+                for (int i = 0; i < depth - 1; i++) {
+                    stack.pop();
+                }
+                return stack.pop();
+            }
+        }
+
+        return null;
+    }
+
+    private static void populate(DocumentEvent event, Object subject, Object result) {
+        if (event instanceof AnnotationsEvent) {
+            ((AnnotationsEvent) event).classCount = ((IndexView) subject).getKnownClasses().size();
+            count(event, (OpenAPI) result);
+        } else if (event instanceof StaticFileEvent) {
+            ((StaticFileEvent) event).format = String.valueOf(((OpenApiStaticFile) subject).getFormat());
+            count(event, (OpenAPI) result);
+        } else if (event instanceof InitializeEvent) {
+            InitializeEvent initialize = (InitializeEvent) event;
+            initialize.phase = (Integer) subject;
+            initialize.name = initialize.phase < INITIALIZE_PHASES.length ? INITIALIZE_PHASES[initialize.phase] : null;
+            count(event, (OpenAPI) result);
+        } else if (event instanceof FilterEvent) {
+            ((FilterEvent) event).filterClass = ((OASFilter) subject).getClass();
+            count(event, (OpenAPI) result);
+        } else if (event instanceof SerializeEvent) {
+            SerializeEvent serialize = (SerializeEvent) event;
+            serialize.format = String.valueOf(subject);
+            if (result instanceof byte[]) {
+                serialize.size = ((byte[]) result).length;
+            } else {
+                serialize.size = result != null ? utf8Length((String) result) : 0;
+            }
+        }
+    }
+
+    private static void count(DocumentEvent event, OpenAPI model) {
+        if (model == null) {
+            return;
+        }
+        if (model.getPaths() != null && model.getPaths().getPathItems() != null) {
+            Map<String, PathItem> pathItems = model.getPaths().getPathItems();
+            event.pathCount = pathItems.size();
+
+            for (PathItem pathItem : pathItems.values()) {
+                if (pathItem != null && pathItem.getOperations() != null) {
+                    event.operationCount += pathItem.getOperations().size();
+                }
+            }
+        }
+        if (model.getComponents() != null && model.getComponents().getSchemas() != null) {
+            event.schemaCount = model.getComponents().getSchemas().size();
+        }
+    }
+
+    static long utf8Length(String value) {
+        long length = 0;
+
+        for (int i = 0, m = value.length(); i < m; i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < m && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+}
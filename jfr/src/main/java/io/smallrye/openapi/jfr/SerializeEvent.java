@@ -0,0 +1,27 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Serialization of a document.
+ */
+@Name("io.smallrye.openapi.Serialize")
+@Label("OpenAPI Serialization")
+@Description("Serialization of an OpenAPI document")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class SerializeEvent extends DocumentEvent {
+
+    @Label("Format")
+    String format;
+
+    @Label("Size")
+    @Description("Number of bytes of the serialized document, encoded as UTF-8 unless binary")
+    @DataAmount
+    long size;
+}
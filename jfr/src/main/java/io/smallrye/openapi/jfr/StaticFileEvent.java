@@ -0,0 +1,27 @@
+package io.smallrye.openapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Creation of a model from a static file.
+ */
+@Name("io.smallrye.openapi.StaticFile")
+@Label("OpenAPI Static File")
+@Description("Creation of an OpenAPI model from a static file")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class StaticFileEvent extends DocumentEvent {
+
+    @Label("Format")
+    String format;
+
+    @Label("Size")
+    @Description("Number of bytes read from the static file")
+    @DataAmount
+    long size;
+}
@@ -0,0 +1,134 @@
+package io.smallrye.openapi.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+import org.junit.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.instrumentation.ScanInstrumentation;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrScanListenerTest {
+
+    public static class NoopFilter implements OASFilter {
+    }
+
+    @Test
+    public void testEventsRecorded() throws Exception {
+        assertTrue("Listener not discovered", ScanInstrumentation.isEnabled());
+
+        OpenApiConfig config = IndexScannerTestBase.emptyConfig();
+        IndexView index = IndexScannerTestBase.indexOf(NoopFilter.class, JfrScanListenerTest.class);
+        byte[] content = resource("filter-before.json");
+        String json;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AnnotationsEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(StaticFileEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(InitializeEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(FilterEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(SerializeEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            OpenAPI staticModel;
+            try (OpenApiStaticFile staticFile = new OpenApiStaticFile(new ByteArrayInputStream(content),
+                    Format.JSON)) {
+                staticModel = OpenApiProcessor.modelFromStaticFile(staticFile);
+            }
+
+            OpenApiDocument.INSTANCE.reset();
+            OpenApiDocument.INSTANCE.config(config);
+            OpenApiDocument.INSTANCE.modelFromStaticFile(staticModel);
+            OpenApiDocument.INSTANCE.modelFromAnnotations(OpenApiProcessor.modelFromAnnotations(config, index));
+            OpenApiDocument.INSTANCE.filter(new NoopFilter());
+            OpenApiDocument.INSTANCE.initialize();
+            json = OpenApiSerializer.serialize(OpenApiDocument.INSTANCE.get(), Format.JSON);
+            OpenApiDocument.INSTANCE.reset();
+
+            recording.stop();
+            Path file = Files.createTempFile("openapi", ".jfr");
+            try {
+                recording.dump(file);
+                List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+                RecordedEvent staticFile = single(events, "io.smallrye.openapi.StaticFile");
+                assertEquals("JSON", staticFile.getString("format"));
+                assertEquals(content.length, staticFile.getLong("size"));
+                assertTrue(staticFile.getInt("pathCount") > 0);
+                assertTrue(staticFile.getInt("operationCount") >= staticFile.getInt("pathCount"));
+                assertTrue(staticFile.getInt("schemaCount") > 0);
+
+                RecordedEvent annotations = single(events, "io.smallrye.openapi.Annotations");
+                assertEquals(2, annotations.getInt("classCount"));
+
+                List<RecordedEvent> phases = named(events, "io.smallrye.openapi.Initialize");
+                assertEquals(7, phases.size());
+                for (int i = 0; i < phases.size(); i++) {
+                    assertEquals(i + 1, phases.get(i).getInt("phase"));
+                }
+                assertEquals("Servers", phases.get(6).getString("name"));
+                assertEquals(staticFile.getInt("schemaCount"), phases.get(6).getInt("schemaCount"));
+
+                RecordedEvent filter = single(events, "io.smallrye.openapi.Filter");
+                assertEquals(NoopFilter.class.getName(), filter.getClass("filterClass").getName());
+                assertEquals(staticFile.getInt("pathCount"), filter.getInt("pathCount"));
+
+                // The document is prerendered as JSON and YAML when initialized
+                List<RecordedEvent> serializations = named(events, "io.smallrye.openapi.Serialize");
+                assertEquals(3, serializations.size());
+                RecordedEvent serialize = serializations.get(2);
+                assertEquals("JSON", serialize.getString("format"));
+                assertEquals(json.getBytes(StandardCharsets.UTF_8).length, serialize.getLong("size"));
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testUtf8Length() {
+        String value = "aé€😀";
+        assertEquals(value.getBytes(StandardCharsets.UTF_8).length, JfrScanListener.utf8Length(value));
+    }
+
+    private static byte[] resource(String name) throws Exception {
+        try (InputStream stream = FilterUtil.class.getResourceAsStream(name)) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = named(events, name);
+        assertEquals(name, 1, matching.size());
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,269 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfigImpl;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Generates the OpenAPI document of the project at build time, so that the
+ * annotations need not be scanned when the application starts.
+ *
+ * The classes of the project (and optionally of its dependencies) are indexed and
+ * scanned with the project's MicroProfile Config, and the result is merged with the
+ * static file found in the project's resources, if any. The document is written to
+ * {@code META-INF/openapi.json} and {@code META-INF/openapi.yaml} in the output
+ * directory of the project. At runtime, set {@code mp.openapi.scan.disable=true} to
+ * use the generated file in place of scanning; model readers and filters are still
+ * applied at runtime.
+ */
+@Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
+public class GenerateSchemaMojo extends AbstractMojo {
+
+    private static final String CONFIG_SOURCE_NAME = "smallrye-open-api-maven-plugin";
+    private static final int CONFIG_SOURCE_ORDINAL = 500;
+    private static final String[] STATIC_FILES = { "META-INF/openapi.yaml", "META-INF/openapi.yml", "META-INF/openapi.json" };
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    MavenProject project;
+
+    /**
+     * Directory holding the compiled classes to scan.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    File classesDirectory;
+
+    /**
+     * Directory to which the documents are written.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/META-INF", property = "smallrye-open-api.outputDirectory", required = true)
+    File outputDirectory;
+
+    /**
+     * Base name of the documents written, the extension is added for each format.
+     */
+    @Parameter(defaultValue = "openapi", property = "smallrye-open-api.baseName", required = true)
+    String baseName;
+
+    /**
+     * Formats of the documents written, {@code JSON} and/or {@code YAML}.
+     */
+    @Parameter(defaultValue = "JSON,YAML", property = "smallrye-open-api.formats", required = true)
+    List<Format> formats;
+
+    /**
+     * Also index and scan the compile and runtime dependencies of the project. Provided
+     * dependencies are on the class path of the scan, but are not scanned.
+     */
+    @Parameter(defaultValue = "false", property = "smallrye-open-api.scanDependencies")
+    boolean scanDependencies;
+
+    /**
+     * Configuration properties overriding those of the project, e.g. {@code mp.openapi.scan.packages}.
+     */
+    @Parameter
+    Map<String, String> properties;
+
+    /**
+     * Static file merged with the document generated from the annotations. By default
+     * {@code META-INF/openapi.yaml}, {@code .yml} or {@code .json} in the resource
+     * directories of the project.
+     */
+    @Parameter(property = "smallrye-open-api.staticFile")
+    File staticFile;
+
+    @Parameter(defaultValue = "false", property = "smallrye-open-api.skip")
+    boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping generation of the OpenAPI document");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("No classes to scan in " + classesDirectory);
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader originalLoader = thread.getContextClassLoader();
+
+        try (URLClassLoader projectLoader = new URLClassLoader(classPath(), getClass().getClassLoader())) {
+            // The scanner loads custom schema registries and checks type assignability using the context loader
+            thread.setContextClassLoader(projectLoader);
+
+            OpenApiConfig config = new OpenApiConfigImpl(config(projectLoader));
+            IndexView index = index();
+            long start = System.nanoTime();
+
+            OpenAPI model = MergeUtil.mergeObjects(staticModel(config), OpenApiProcessor.modelFromAnnotations(config, index));
+
+            if (model == null) {
+                getLog().info("Scanning is disabled and there is no static file, no OpenAPI document written");
+                return;
+            }
+
+            getLog().info(String.format("Generated the OpenAPI document from %d classes in %d ms",
+                    index.getKnownClasses().size(), (System.nanoTime() - start) / 1_000_000));
+            write(model);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to generate the OpenAPI document", e);
+        } finally {
+            thread.setContextClassLoader(originalLoader);
+        }
+    }
+
+    Config config(ClassLoader projectLoader) {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .forClassLoader(projectLoader)
+                .addDefaultSources();
+
+        if (properties != null) {
+            builder.withSources(new PropertiesConfigSource(properties, CONFIG_SOURCE_NAME, CONFIG_SOURCE_ORDINAL));
+        }
+
+        return builder.build();
+    }
+
+    IndexView index() throws IOException {
+        Indexer indexer = new Indexer();
+
+        try (Stream<Path> files = Files.walk(classesDirectory.toPath())) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    indexer.index(stream);
+                }
+            }
+        }
+
+        if (scanDependencies) {
+            for (Artifact artifact : dependencies(Artifact.SCOPE_COMPILE, Artifact.SCOPE_RUNTIME, Artifact.SCOPE_SYSTEM)) {
+                File file = artifact.getFile();
+
+                if (file != null && file.getName().endsWith(".jar")) {
+                    indexJar(indexer, file);
+                }
+            }
+        }
+
+        return indexer.complete();
+    }
+
+    private static void indexJar(Indexer indexer, File file) throws IOException {
+        try (JarFile jar = new JarFile(file)) {
+            for (JarEntry entry : Collections.list(jar.entries())) {
+                if (entry.getName().endsWith(".class")) {
+                    try (InputStream stream = jar.getInputStream(entry)) {
+                        indexer.index(stream);
+                    }
+                }
+            }
+        }
+    }
+
+    OpenAPI staticModel(OpenApiConfig config) throws IOException {
+        File file = staticFile != null ? staticFile : findStaticFile();
+
+        if (file == null) {
+            return null;
+        }
+
+        getLog().debug("Merging static file " + file);
+        Format format = file.getName().endsWith(".json") ? Format.JSON : Format.YAML;
+
+        try (OpenApiStaticFile sf = new OpenApiStaticFile(Files.newInputStream(file.toPath()), format)) {
+            return OpenApiProcessor.modelFromStaticFile(config, sf);
+        }
+    }
+
+    /**
+     * The static file is read from the resource directories rather than the output
+     * directory, where it would be replaced by the document written by a previous build.
+     */
+    private File findStaticFile() {
+        if (project == null) {
+            return null;
+        }
+        for (Resource resource : project.getResources()) {
+            for (String name : STATIC_FILES) {
+                File file = new File(resource.getDirectory(), name);
+                if (file.isFile()) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    void write(OpenAPI model) throws IOException {
+        Files.createDirectories(outputDirectory.toPath());
+
+        for (Format format : formats) {
+            Path file = outputDirectory.toPath().resolve(baseName + '.' + format.name().toLowerCase());
+            Files.write(file, OpenApiSerializer.serializeToBytes(model, format));
+            getLog().info("Wrote " + file);
+        }
+    }
+
+    private URL[] classPath() throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        urls.add(classesDirectory.toURI().toURL());
+
+        for (Artifact artifact : dependencies(Artifact.SCOPE_COMPILE, Artifact.SCOPE_PROVIDED, Artifact.SCOPE_RUNTIME,
+                Artifact.SCOPE_SYSTEM)) {
+            if (artifact.getFile() != null) {
+                urls.add(artifact.getFile().toURI().toURL());
+            }
+        }
+
+        return urls.toArray(new URL[0]);
+    }
+
+    private List<Artifact> dependencies(String... scopes) {
+        if (project == null) {
+            return Collections.emptyList();
+        }
+        return project.getArtifacts()
+                .stream()
+                .filter(a -> Arrays.asList(scopes).contains(a.getScope()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package io.smallrye.openapi.mavenplugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+public class GenerateSchemaMojoTest {
+
+    @Path("/greetings")
+    public static class GreetingResource {
+        @GET
+        @Produces("text/plain")
+        public String hello() {
+            return "hello";
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    GenerateSchemaMojo mojo;
+
+    @Before
+    public void setup() throws Exception {
+        File classes = folder.newFolder("classes");
+        String resourceName = GreetingResource.class.getName().replace('.', '/') + ".class";
+        java.nio.file.Path classFile = classes.toPath().resolve(resourceName);
+        Files.createDirectories(classFile.getParent());
+
+        try (InputStream stream = GreetingResource.class.getClassLoader().getResourceAsStream(resourceName)) {
+            Files.copy(stream, classFile);
+        }
+
+        mojo = new GenerateSchemaMojo();
+        mojo.classesDirectory = classes;
+        mojo.outputDirectory = new File(classes, "META-INF");
+        mojo.baseName = "openapi";
+        mojo.formats = Arrays.asList(Format.JSON, Format.YAML);
+    }
+
+    private OpenAPI read(String name, Format format) throws Exception {
+        byte[] document = Files.readAllBytes(mojo.outputDirectory.toPath().resolve(name));
+        return OpenApiParser.parse(new ByteArrayInputStream(document), format);
+    }
+
+    @Test
+    public void testDocumentGeneratedFromAnnotations() throws Exception {
+        mojo.execute();
+
+        OpenAPI json = read("openapi.json", Format.JSON);
+        OpenAPI yaml = read("openapi.yaml", Format.YAML);
+        assertEquals(Collections.singleton("/greetings"), json.getPaths().getPathItems().keySet());
+        assertEquals(Collections.singleton("/greetings"), yaml.getPaths().getPathItems().keySet());
+    }
+
+    @Test
+    public void testStaticFileMergedAndConfigApplied() throws Exception {
+        File staticFile = folder.newFile("static.json");
+        Files.write(staticFile.toPath(), ("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Static\",\"version\":\"1.0\"},"
+                + "\"paths\":{\"/static\":{\"get\":{\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}")
+                        .getBytes(StandardCharsets.UTF_8));
+        mojo.staticFile = staticFile;
+        mojo.formats = Collections.singletonList(Format.JSON);
+        mojo.execute();
+
+        OpenAPI merged = read("openapi.json", Format.JSON);
+        assertEquals("Static", merged.getInfo().getTitle());
+        assertTrue(merged.getPaths().hasPathItem("/static"));
+        assertTrue(merged.getPaths().hasPathItem("/greetings"));
+        assertFalse(Files.exists(mojo.outputDirectory.toPath().resolve("openapi.yaml")));
+
+        mojo.properties = Collections.singletonMap("mp.openapi.scan.disable", "true");
+        mojo.execute();
+
+        merged = read("openapi.json", Format.JSON);
+        assertEquals(Collections.singleton("/static"), merged.getPaths().getPathItems().keySet());
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        mojo.skip = true;
+        mojo.execute();
+        assertFalse(Files.exists(mojo.outputDirectory.toPath()));
+    }
+}